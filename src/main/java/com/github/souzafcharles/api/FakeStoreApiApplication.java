@@ -2,8 +2,10 @@ package com.github.souzafcharles.api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
-@SpringBootApplication
+// R2DBC is wired by hand in R2dbcConfig; the auto-configured ConnectionFactory would disable the JDBC DataSource.
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class FakeStoreApiApplication {
 
 	public static void main(String[] args) {
@@ -3,37 +3,78 @@ package com.github.souzafcharles.api.client;
 import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
 import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
 import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 @Component
 public class FakeStoreClient {
 
     private final WebClient webClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
 
-    public FakeStoreClient(WebClient webClient) {
+    public FakeStoreClient(WebClient webClient, CircuitBreaker circuitBreaker, Retry retry) {
         this.webClient = webClient;
+        this.circuitBreaker = circuitBreaker;
+        this.retry = retry;
     }
 
     public Mono<ProductResponseDTO[]> getAllProducts() {
         return webClient.get()
                 .uri("https://fakestoreapi.com/products")
                 .retrieve()
-                .bodyToMono(ProductResponseDTO[].class);
+                .bodyToMono(ProductResponseDTO[].class)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .retryWhen(retry);
     }
 
     public Mono<CartResponseDTO[]> getAllCarts() {
         return webClient.get()
                 .uri("https://fakestoreapi.com/carts")
                 .retrieve()
-                .bodyToMono(CartResponseDTO[].class);
+                .bodyToMono(CartResponseDTO[].class)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .retryWhen(retry);
     }
 
     public Mono<UserResponseDTO[]> getAllUsers() {
         return webClient.get()
                 .uri("https://fakestoreapi.com/users")
                 .retrieve()
-                .bodyToMono(UserResponseDTO[].class);
+                .bodyToMono(UserResponseDTO[].class)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .retryWhen(retry);
+    }
+
+    public Flux<ProductResponseDTO> streamAllProducts() {
+        return webClient.get()
+                .uri("https://fakestoreapi.com/products")
+                .retrieve()
+                .bodyToFlux(ProductResponseDTO.class)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .retryWhen(retry);
+    }
+
+    public Flux<CartResponseDTO> streamAllCarts() {
+        return webClient.get()
+                .uri("https://fakestoreapi.com/carts")
+                .retrieve()
+                .bodyToFlux(CartResponseDTO.class)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .retryWhen(retry);
+    }
+
+    public Flux<UserResponseDTO> streamAllUsers() {
+        return webClient.get()
+                .uri("https://fakestoreapi.com/users")
+                .retrieve()
+                .bodyToFlux(UserResponseDTO.class)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .retryWhen(retry);
     }
 }
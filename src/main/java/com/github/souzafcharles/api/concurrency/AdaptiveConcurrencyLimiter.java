@@ -0,0 +1,88 @@
+package com.github.souzafcharles.api.concurrency;
+
+import com.github.souzafcharles.api.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounds the number of concurrent calls with a limit adjusted by additive increase,
+ * multiplicative decrease: every call that finishes within the latency threshold while the
+ * limiter is at least half busy raises the limit by one; every slow call, or one that could not
+ * reach the database, multiplies it by the backoff ratio. Calls over the limit are refused at
+ * once rather than queued, so a backlog of heavy requests cannot hold every pooled connection.
+ * <p>
+ * Publishes {@code fakestore.concurrency.limit}, {@code fakestore.concurrency.in-flight} and
+ * {@code fakestore.concurrency.rejected}, tagged with the limiter name.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final ConcurrencyLimitProperties properties;
+    private final long latencyThresholdNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+    private volatile double limit;
+
+    public AdaptiveConcurrencyLimiter(String name, ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.latencyThresholdNanos = properties.latencyThreshold().toNanos();
+        this.limit = properties.initialLimit();
+        Gauge.builder("fakestore.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("limiter", name)
+                .register(meterRegistry);
+        Gauge.builder("fakestore.concurrency.in-flight", inFlight, AtomicInteger::get)
+                .description("Calls currently admitted")
+                .tag("limiter", name)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("fakestore.concurrency.rejected")
+                .description("Calls shed because the limit was reached")
+                .tag("limiter", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Admits a call if fewer than the current limit are in flight.
+     *
+     * @return the in-flight count including this call, or {@code -1} when shed
+     */
+    public int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                rejected.increment();
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Ends an admitted call and feeds its outcome into the limit.
+     *
+     * @param inFlightAtStart value returned by {@link #tryAcquire()}
+     * @param dropped         whether the call failed for lack of database capacity
+     */
+    public void release(int inFlightAtStart, long latencyNanos, boolean dropped) {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            if (dropped || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(properties.minLimit(), limit * properties.backoffRatio());
+            } else if (inFlightAtStart * 2 >= limit) {
+                limit = Math.min(properties.maxLimit(), limit + 1);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
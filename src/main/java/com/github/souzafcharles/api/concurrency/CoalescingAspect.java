@@ -0,0 +1,60 @@
+package com.github.souzafcharles.api.concurrency;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Routes {@link Coalesced} methods through {@link SingleFlight}, keyed by method and
+ * arguments. The aspect is ordered ahead of the transaction interceptor, so only the
+ * executing call opens a transaction and borrows a connection while the others wait.
+ * <p>
+ * Calls made inside an active transaction (a write method, an atomic batch) run directly:
+ * they must see their own uncommitted changes rather than another caller's snapshot.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "fakestore.singleflight.enabled", havingValue = "true", matchIfMissing = true)
+public class CoalescingAspect {
+
+    private record Call(Method method, List<Object> arguments) { }
+
+    private final SingleFlight singleFlight;
+
+    public CoalescingAspect(SingleFlight singleFlight) {
+        this.singleFlight = singleFlight;
+    }
+
+    @Around("@annotation(com.github.souzafcharles.api.concurrency.Coalesced)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String operation = signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+        Call call = new Call(signature.getMethod(), Arrays.asList(joinPoint.getArgs()));
+        return singleFlight.execute(operation, call, () -> proceed(joinPoint));
+    }
+
+    private static Object proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return joinPoint.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.souzafcharles.api.concurrency;
+
+import com.github.souzafcharles.api.config.ConcurrencyLimitProperties;
+import com.github.souzafcharles.api.exceptions.custom.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Admits {@link ConcurrencyLimited} calls through one {@link AdaptiveConcurrencyLimiter} per
+ * limiter name and throws {@link ServiceOverloadedException} for calls it sheds. Data access
+ * and transaction failures, such as a timed-out connection checkout, count as congestion;
+ * business exceptions like a missing resource do not.
+ * <p>
+ * Ordered inside {@link CoalescingAspect}, so callers sharing an in-flight read take no permit,
+ * and outside the transaction interceptor, so a shed call never borrows a connection. Calls made
+ * inside an active transaction already hold their connection and are not limited.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(name = "fakestore.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitAspect {
+
+    private final ConcurrencyLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimitAspect(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@within(com.github.souzafcharles.api.concurrency.ConcurrencyLimited)"
+            + " || @annotation(com.github.souzafcharles.api.concurrency.ConcurrencyLimited)")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        String name = limiterName((MethodSignature) joinPoint.getSignature());
+        AdaptiveConcurrencyLimiter limiter = limiters.computeIfAbsent(name,
+                key -> new AdaptiveConcurrencyLimiter(key, properties, meterRegistry));
+
+        int inFlight = limiter.tryAcquire();
+        if (inFlight < 0) {
+            throw new ServiceOverloadedException(name);
+        }
+        long start = System.nanoTime();
+        boolean dropped = false;
+        try {
+            return joinPoint.proceed();
+        } catch (DataAccessException | TransactionException e) {
+            dropped = true;
+            throw e;
+        } finally {
+            limiter.release(inFlight, System.nanoTime() - start, dropped);
+        }
+    }
+
+    private static String limiterName(MethodSignature signature) {
+        ConcurrencyLimited annotation = AnnotationUtils.findAnnotation(signature.getMethod(), ConcurrencyLimited.class);
+        if (annotation == null) {
+            annotation = AnnotationUtils.findAnnotation(signature.getDeclaringType(), ConcurrencyLimited.class);
+        }
+        return annotation != null && !annotation.value().isEmpty()
+                ? annotation.value()
+                : signature.getDeclaringType().getSimpleName();
+    }
+
+    AdaptiveConcurrencyLimiter limiter(String name) {
+        return limiters.get(name);
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.souzafcharles.api.concurrency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a service method, or every public method of a service, under an
+ * {@link AdaptiveConcurrencyLimiter}, see {@link ConcurrencyLimitAspect}.
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrencyLimited {
+
+    /**
+     * Limiter shared by the annotated methods; defaults to the simple name of the declaring class.
+     */
+    String value() default "";
+}
@@ -0,0 +1,103 @@
+package com.github.souzafcharles.api.concurrency;
+
+import com.github.souzafcharles.api.config.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Admission control with one {@link TokenBucket} per client and route.
+ * <p>
+ * Memory is bounded by {@code max-buckets}. Buckets untouched for {@code idle-timeout} have
+ * refilled completely and are dropped, on a schedule and, at most once a second, when a new
+ * client finds the table full. If it is still full, the newcomer shares an overflow bucket for
+ * the route with every other untracked client instead of growing the table.
+ */
+public class RateLimiter {
+
+    static final String OVERFLOW_CLIENT = "*";
+    private static final long MIN_SWEEP_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private record Key(String client, String route) { }
+
+    private final RateLimitProperties properties;
+    private final LongSupplier clock;
+    private final double tokensPerNano;
+    private final Map<Key, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private volatile long lastSweep;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.tokensPerNano = properties.refillPerSecond() / 1_000_000_000.0;
+        this.lastSweep = clock.getAsLong();
+        Gauge.builder("fakestore.ratelimit.buckets", buckets, Map::size)
+                .description("Token buckets currently tracked")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Charges one request of {@code client} against {@code route}.
+     *
+     * @param method HTTP method, part of the bucket key
+     * @param route  route pattern, used for the bucket key and the cost lookup
+     * @return {@link Duration#ZERO} when admitted, otherwise how long the client should wait
+     */
+    public Duration tryAcquire(String client, String method, String route) {
+        long now = clock.getAsLong();
+        TokenBucket bucket = bucketFor(new Key(client, method + " " + route), now);
+        long waitNanos = bucket.tryAcquire(properties.cost(route), properties.capacity(), tokensPerNano, now);
+        if (waitNanos == 0) {
+            return Duration.ZERO;
+        }
+        Counter.builder("fakestore.ratelimit.rejected")
+                .description("Requests rejected with 429")
+                .tag("route", route)
+                .register(meterRegistry)
+                .increment();
+        return Duration.ofNanos(waitNanos);
+    }
+
+    private TokenBucket bucketFor(Key key, long now) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= properties.maxBuckets()) {
+            if (now - lastSweep >= MIN_SWEEP_INTERVAL_NANOS) {
+                evictIdle(now);
+            }
+            if (buckets.size() >= properties.maxBuckets()) {
+                key = new Key(OVERFLOW_CLIENT, key.route());
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(properties.capacity(), now));
+    }
+
+    @Scheduled(fixedDelayString = "${fakestore.rate-limit.idle-timeout:5m}")
+    public void evictIdle() {
+        evictIdle(clock.getAsLong());
+    }
+
+    private void evictIdle(long now) {
+        lastSweep = now;
+        long cutoff = now - properties.idleTimeout().toNanos();
+        buckets.values().removeIf(bucket -> bucket.lastSeen() - cutoff < 0);
+    }
+
+    int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.souzafcharles.api.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one execution. The first caller runs the
+ * computation; callers that arrive while it is still running wait for it and receive the same
+ * result or exception. Nothing is cached: the key is released as soon as the computation
+ * finishes, so the next call executes again.
+ * <p>
+ * Calls are counted in {@code fakestore.singleflight.calls}, tagged with the operation and
+ * {@code result=executed} or {@code result=coalesced}.
+ */
+@Component
+public class SingleFlight {
+
+    private record Flight(String operation, Object key) { }
+
+    private record Counters(Counter executed, Counter coalesced) { }
+
+    private final ConcurrentMap<Flight, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counters> counters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object key, Supplier<T> call) {
+        Flight flight = new Flight(operation, key);
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(flight, created);
+        if (running != null) {
+            countersFor(operation).coalesced().increment();
+            return (T) await(running);
+        }
+
+        countersFor(operation).executed().increment();
+        try {
+            T result = call.get();
+            created.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flight, created);
+        }
+    }
+
+    /**
+     * Number of keys currently being computed.
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private static Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private Counters countersFor(String operation) {
+        return counters.computeIfAbsent(operation, name -> new Counters(
+                counter(name, "executed"),
+                counter(name, "coalesced")
+        ));
+    }
+
+    private Counter counter(String operation, String result) {
+        return Counter.builder("fakestore.singleflight.calls")
+                .description("Reads executed versus served from an identical in-flight call")
+                .tag("operation", operation)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
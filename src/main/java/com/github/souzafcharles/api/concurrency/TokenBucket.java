@@ -0,0 +1,43 @@
+package com.github.souzafcharles.api.concurrency;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Token bucket refilled lazily from the elapsed time on each call. The token count and the
+ * time it was computed at are swapped together with a compare-and-set, so concurrent requests
+ * from one client never block each other.
+ */
+final class TokenBucket {
+
+    private record State(double tokens, long updatedAt) { }
+
+    private final AtomicReference<State> state;
+
+    TokenBucket(double capacity, long now) {
+        this.state = new AtomicReference<>(new State(capacity, now));
+    }
+
+    /**
+     * Takes {@code cost} tokens if available.
+     *
+     * @return {@code 0} when admitted, otherwise the nanoseconds until enough tokens have accrued
+     */
+    long tryAcquire(int cost, double capacity, double tokensPerNano, long now) {
+        while (true) {
+            State current = state.get();
+            double tokens = Math.min(capacity, current.tokens() + Math.max(0, now - current.updatedAt()) * tokensPerNano);
+            boolean admitted = tokens >= cost;
+            State next = new State(admitted ? tokens - cost : tokens, now);
+            if (state.compareAndSet(current, next)) {
+                return admitted ? 0 : (long) Math.ceil((cost - tokens) / tokensPerNano);
+            }
+        }
+    }
+
+    /**
+     * Time of the last request, admitted or not.
+     */
+    long lastSeen() {
+        return state.get().updatedAt();
+    }
+}
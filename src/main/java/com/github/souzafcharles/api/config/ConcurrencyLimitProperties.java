@@ -0,0 +1,20 @@
+package com.github.souzafcharles.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * AIMD settings applied to each {@code @ConcurrencyLimited} limiter. A call slower than
+ * {@code latency-threshold} counts as congestion.
+ */
+@ConfigurationProperties(prefix = "fakestore.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("4") int initialLimit,
+        @DefaultValue("1") int minLimit,
+        @DefaultValue("8") int maxLimit,
+        @DefaultValue("0.9") double backoffRatio,
+        @DefaultValue("500ms") Duration latencyThreshold
+) { }
@@ -0,0 +1,61 @@
+package com.github.souzafcharles.api.config;
+
+import com.github.souzafcharles.api.persistence.InstrumentedDataSource;
+import com.github.souzafcharles.api.persistence.StatementMetrics;
+import com.github.souzafcharles.api.persistence.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+
+/**
+ * Two Hikari pools on the same database: {@code oltp}, configured through
+ * {@code spring.datasource.hikari.*}, and a smaller {@code analytics} pool configured through
+ * {@code fakestore.analytics.datasource.hikari.*} with its own statement timeout. JPA and
+ * everything else sees the routing {@link DataSource}; only {@code @AnalyticsQuery} methods are
+ * routed to the analytics pool, so a burst of scans waits on that pool alone. When
+ * {@link StatementMetrics} is enabled the routing {@link DataSource} is wrapped in an
+ * {@link InstrumentedDataSource}, so statements on both pools are measured.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource oltpDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("oltp");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("fakestore.analytics.datasource.hikari")
+    public HikariDataSource analyticsDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("analytics");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("oltpDataSource") DataSource oltp,
+                                 @Qualifier("analyticsDataSource") DataSource analytics,
+                                 ObjectProvider<StatementMetrics> statementMetrics) {
+        DataSource routing = new WorkloadRoutingDataSource(oltp, analytics);
+        StatementMetrics metrics = statementMetrics.getIfAvailable();
+        return metrics != null ? new InstrumentedDataSource(routing, metrics) : routing;
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.souzafcharles.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "fakestore.client")
+public record FakeStoreClientProperties(
+        @DefaultValue("50") int maxConnections,
+        @DefaultValue("200") int pendingAcquireMaxCount,
+        @DefaultValue("30s") Duration maxIdleTime,
+        @DefaultValue("60s") Duration evictInterval,
+        @DefaultValue("5s") Duration connectTimeout,
+        @DefaultValue("20s") Duration responseTimeout,
+        @DefaultValue("true") boolean http2Enabled,
+        @DefaultValue("3") int retryMaxAttempts,
+        @DefaultValue("500ms") Duration retryMinBackoff,
+        @DefaultValue("5s") Duration retryMaxBackoff,
+        @DefaultValue("0.5") double retryJitter,
+        @DefaultValue("50") float circuitBreakerFailureRateThreshold,
+        @DefaultValue("10") int circuitBreakerSlidingWindowSize,
+        @DefaultValue("30s") Duration circuitBreakerWaitDurationInOpenState
+) { }
@@ -0,0 +1,30 @@
+package com.github.souzafcharles.api.config;
+
+import com.github.souzafcharles.api.persistence.FileStoreBackupEndpoint;
+import com.github.souzafcharles.api.persistence.FileStoreMaintenance;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Backup endpoint and scheduled compaction for the file-backed database, enabled by the
+ * {@code file} profile through {@code fakestore.file-store.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "fakestore.file-store.enabled", havingValue = "true")
+@EnableConfigurationProperties(FileStoreProperties.class)
+public class FileStoreConfig {
+
+    @Bean
+    public FileStoreMaintenance fileStoreMaintenance(DataSource dataSource, FileStoreProperties properties) {
+        return new FileStoreMaintenance(dataSource, properties);
+    }
+
+    @Bean
+    public FileStoreBackupEndpoint fileStoreBackupEndpoint(FileStoreMaintenance maintenance) {
+        return new FileStoreBackupEndpoint(maintenance);
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.souzafcharles.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * Backup and compaction of the file-backed H2 database. {@code retainedBackups} is the number
+ * of backup archives kept in {@code backupDirectory}; older ones are deleted after each backup.
+ * A scheduled compaction pass runs when less than {@code compactFillRate} percent of the chunk
+ * space is live and rewrites about {@code compactWriteLimit} of it; commits wait on the store meanwhile.
+ */
+@ConfigurationProperties(prefix = "fakestore.file-store")
+public record FileStoreProperties(
+        @DefaultValue("./data/backup") Path backupDirectory,
+        @DefaultValue("7") int retainedBackups,
+        @DefaultValue("90") int compactFillRate,
+        @DefaultValue("16MB") DataSize compactWriteLimit
+) { }
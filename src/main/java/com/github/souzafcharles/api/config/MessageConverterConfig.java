@@ -0,0 +1,32 @@
+package com.github.souzafcharles.api.config;
+
+import com.github.souzafcharles.api.web.CatalogProtobufHttpMessageConverter;
+import com.github.souzafcharles.api.web.VaryAcceptInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Adds Protobuf to the formats offered through content negotiation. It is appended after the
+ * Jackson converters, because a request without {@code Accept} gets the first producible type
+ * and that must stay JSON. CBOR and Smile need no registration: Spring MVC adds their Jackson
+ * converters, also after JSON, as soon as the data formats are on the classpath. Responses
+ * therefore vary on {@code Accept}, and strong ETags are qualified by format in
+ * {@link com.github.souzafcharles.api.web.RepresentationETagAdvice}.
+ */
+@Configuration
+public class MessageConverterConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new CatalogProtobufHttpMessageConverter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new VaryAcceptInterceptor());
+    }
+}
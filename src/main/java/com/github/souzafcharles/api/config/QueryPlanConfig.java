@@ -0,0 +1,39 @@
+package com.github.souzafcharles.api.config;
+
+import com.github.souzafcharles.api.persistence.QueryPlanCheck;
+import com.github.souzafcharles.api.persistence.SqlCapture;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * Registers {@link QueryPlanCheck} when {@code fakestore.query-plan.check-on-startup=true}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "fakestore.query-plan.check-on-startup", havingValue = "true")
+public class QueryPlanConfig {
+
+    @Bean
+    public SqlCapture sqlCapture() {
+        return new SqlCapture();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlCaptureCustomizer(SqlCapture sqlCapture) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+    }
+
+    @Bean
+    public QueryPlanCheck queryPlanCheck(ListableBeanFactory beanFactory,
+                                         DataSource dataSource,
+                                         PlatformTransactionManager transactionManager,
+                                         SqlCapture sqlCapture) {
+        return new QueryPlanCheck(beanFactory, dataSource, transactionManager, sqlCapture);
+    }
+}
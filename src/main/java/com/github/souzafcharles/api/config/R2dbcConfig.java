@@ -0,0 +1,33 @@
+package com.github.souzafcharles.api.config;
+
+import com.github.souzafcharles.api.persistence.ReactiveDatabase;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ReactiveDataProperties.class)
+public class R2dbcConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReactiveDatabase reactiveDatabase(ReactiveDataProperties properties) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(properties.url())
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, properties.username())
+                .option(ConnectionFactoryOptions.PASSWORD, properties.password())
+                .build();
+
+        ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("reactive")
+                .initialSize(properties.initialSize())
+                .maxSize(properties.maxSize())
+                .maxIdleTime(properties.maxIdleTime())
+                .maxAcquireTime(properties.maxAcquireTime())
+                .build();
+        return new ReactiveDatabase(new ConnectionPool(configuration));
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.souzafcharles.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Per-client, per-route token buckets. {@code costs} maps a route pattern, as declared on the
+ * controller, to the number of tokens one request takes; unlisted routes cost one token.
+ */
+@ConfigurationProperties(prefix = "fakestore.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100") int capacity,
+        @DefaultValue("50") double refillPerSecond,
+        @DefaultValue("10000") int maxBuckets,
+        @DefaultValue("5m") Duration idleTimeout,
+        Map<String, Integer> costs
+) {
+
+    public RateLimitProperties {
+        costs = costs == null ? Map.of() : Map.copyOf(costs);
+    }
+
+    public int cost(String route) {
+        return Math.min(costs.getOrDefault(route, 1), capacity);
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.souzafcharles.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "fakestore.reactive")
+public record ReactiveDataProperties(
+        @DefaultValue("r2dbc:h2:mem:///testdb") String url,
+        @DefaultValue("sa") String username,
+        @DefaultValue("") String password,
+        @DefaultValue("2") int initialSize,
+        @DefaultValue("10") int maxSize,
+        @DefaultValue("30m") Duration maxIdleTime,
+        @DefaultValue("5s") Duration maxAcquireTime
+) { }
@@ -0,0 +1,41 @@
+package com.github.souzafcharles.api.config;
+
+import com.github.souzafcharles.api.persistence.StatementMetrics;
+import com.github.souzafcharles.api.web.StatementMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * JDBC statement metrics in place of {@code spring.jpa.show-sql}. {@link DataSourceConfig} wraps
+ * the application {@code DataSource} when the {@link StatementMetrics} bean exists, and every API
+ * request is tallied for repeated statements. Actuator endpoints use their own handler mapping and
+ * are not tallied.
+ */
+@Configuration
+@EnableConfigurationProperties(StatementMetricsProperties.class)
+@ConditionalOnProperty(name = "fakestore.sql-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class StatementMetricsConfig implements WebMvcConfigurer {
+
+    private final StatementMetricsProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public StatementMetricsConfig(StatementMetricsProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean(destroyMethod = "close")
+    public StatementMetrics statementMetrics() {
+        return new StatementMetrics(properties, meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new StatementMetricsInterceptor(statementMetrics()));
+    }
+}
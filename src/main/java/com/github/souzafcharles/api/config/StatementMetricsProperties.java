@@ -0,0 +1,19 @@
+package com.github.souzafcharles.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * JDBC statement instrumentation. Statements taking {@code slowThreshold} or longer are logged;
+ * a statement text executed {@code repeatedStatementThreshold} times in one request is reported
+ * as a likely N+1. {@code logQueueCapacity} bounds the warnings waiting to be written.
+ */
+@ConfigurationProperties(prefix = "fakestore.sql-metrics")
+public record StatementMetricsProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100ms") Duration slowThreshold,
+        @DefaultValue("5") int repeatedStatementThreshold,
+        @DefaultValue("1000") int logQueueCapacity
+) { }
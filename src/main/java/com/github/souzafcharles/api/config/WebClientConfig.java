@@ -1,14 +1,100 @@
 package com.github.souzafcharles.api.config;
 
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
 
 @Configuration
+@EnableConfigurationProperties(FakeStoreClientProperties.class)
 public class WebClientConfig {
 
+    public static final String FAKE_STORE = "fakeStore";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider fakeStoreConnectionProvider(FakeStoreClientProperties properties) {
+        return ConnectionProvider.builder(FAKE_STORE)
+                .maxConnections(properties.maxConnections())
+                .pendingAcquireMaxCount(properties.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.connectTimeout())
+                .maxIdleTime(properties.maxIdleTime())
+                .evictInBackground(properties.evictInterval())
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient webClient(WebClient.Builder builder,
+                               ConnectionProvider fakeStoreConnectionProvider,
+                               FakeStoreClientProperties properties) {
+        HttpClient httpClient = HttpClient.create(fakeStoreConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.connectTimeout().toMillis())
+                .responseTimeout(properties.responseTimeout())
+                .compress(true)
+                .metrics(true, uri -> FAKE_STORE);
+
+        if (properties.http2Enabled()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
     @Bean
-    public WebClient webClient(WebClient.Builder builder) {
-        return builder.build();
+    public CircuitBreaker fakeStoreCircuitBreaker(FakeStoreClientProperties properties, MeterRegistry meterRegistry) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.circuitBreakerFailureRateThreshold())
+                .slidingWindowSize(properties.circuitBreakerSlidingWindowSize())
+                .waitDurationInOpenState(properties.circuitBreakerWaitDurationInOpenState())
+                .recordException(WebClientConfig::isTransient)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry.circuitBreaker(FAKE_STORE);
+    }
+
+    @Bean
+    public Retry fakeStoreRetry(FakeStoreClientProperties properties, MeterRegistry meterRegistry) {
+        Counter retries = Counter.builder("fakestore.client.retries")
+                .description("Retried calls to the Fake Store API")
+                .register(meterRegistry);
+
+        return Retry.backoff(properties.retryMaxAttempts(), properties.retryMinBackoff())
+                .maxBackoff(properties.retryMaxBackoff())
+                .jitter(properties.retryJitter())
+                .filter(WebClientConfig::isTransient)
+                .doBeforeRetry(signal -> retries.increment())
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    // Connection failures and 5xx/429 responses surface before any body element is
+    // decoded, so retrying them never replays elements of a streamed response.
+    static boolean isTransient(Throwable throwable) {
+        if (throwable instanceof CallNotPermittedException) {
+            return false;
+        }
+        if (throwable instanceof WebClientRequestException) {
+            return true;
+        }
+        return throwable instanceof WebClientResponseException e
+                && (e.getStatusCode().is5xxServerError() || e.getStatusCode().value() == 429);
     }
 }
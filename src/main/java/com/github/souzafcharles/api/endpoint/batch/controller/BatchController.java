@@ -0,0 +1,39 @@
+package com.github.souzafcharles.api.endpoint.batch.controller;
+
+import com.github.souzafcharles.api.endpoint.batch.model.dto.BatchRequestDTO;
+import com.github.souzafcharles.api.endpoint.batch.model.dto.BatchResponseDTO;
+import com.github.souzafcharles.api.endpoint.batch.service.BatchOperationDispatcher;
+import com.github.souzafcharles.api.endpoint.batch.service.BatchService;
+import com.github.souzafcharles.api.utils.Messages;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/batch")
+@Tag(name = "Batch API", description = Messages.BATCH_TAG_DESCRIPTION)
+public class BatchController {
+
+    private final BatchService batchService;
+    private final BatchOperationDispatcher batchOperationDispatcher;
+
+    public BatchController(BatchService batchService, BatchOperationDispatcher batchOperationDispatcher) {
+        this.batchService = batchService;
+        this.batchOperationDispatcher = batchOperationDispatcher;
+    }
+
+    @PostMapping
+    @Operation(summary = Messages.BATCH_EXECUTE_SUMMARY, description = Messages.BATCH_EXECUTE_DESCRIPTION)
+    public ResponseEntity<BatchResponseDTO> execute(@RequestBody BatchRequestDTO dto,
+                                                    HttpServletRequest request,
+                                                    HttpServletResponse response) {
+        return ResponseEntity.ok(batchService.execute(dto,
+                operation -> batchOperationDispatcher.dispatch(request, response, operation)));
+    }
+}
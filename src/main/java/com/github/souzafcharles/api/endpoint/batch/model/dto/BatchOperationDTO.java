@@ -0,0 +1,14 @@
+package com.github.souzafcharles.api.endpoint.batch.model.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.Serializable;
+import java.util.Map;
+
+public record BatchOperationDTO(
+        String id,
+        String method,
+        String path,
+        Map<String, String> headers,
+        JsonNode body
+) implements Serializable { }
@@ -0,0 +1,9 @@
+package com.github.souzafcharles.api.endpoint.batch.model.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+public record BatchRequestDTO(
+        List<BatchOperationDTO> operations,
+        boolean atomic
+) implements Serializable { }
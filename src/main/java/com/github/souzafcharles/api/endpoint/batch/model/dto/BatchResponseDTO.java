@@ -0,0 +1,10 @@
+package com.github.souzafcharles.api.endpoint.batch.model.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+public record BatchResponseDTO(
+        boolean atomic,
+        boolean rolledBack,
+        List<BatchResultDTO> results
+) implements Serializable { }
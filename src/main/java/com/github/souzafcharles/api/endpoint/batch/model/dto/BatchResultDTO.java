@@ -0,0 +1,19 @@
+package com.github.souzafcharles.api.endpoint.batch.model.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.http.HttpStatus;
+
+import java.io.Serializable;
+import java.util.Map;
+
+public record BatchResultDTO(
+        String id,
+        int status,
+        Map<String, String> headers,
+        JsonNode body
+) implements Serializable {
+
+    public static BatchResultDTO skipped(String id) {
+        return new BatchResultDTO(id, HttpStatus.FAILED_DEPENDENCY.value(), Map.of(), null);
+    }
+}
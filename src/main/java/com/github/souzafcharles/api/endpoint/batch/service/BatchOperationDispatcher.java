@@ -0,0 +1,104 @@
+package com.github.souzafcharles.api.endpoint.batch.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.github.souzafcharles.api.endpoint.batch.model.dto.BatchOperationDTO;
+import com.github.souzafcharles.api.endpoint.batch.model.dto.BatchResultDTO;
+import com.github.souzafcharles.api.utils.Messages;
+import com.github.souzafcharles.api.web.CapturedResponse;
+import com.github.souzafcharles.api.web.SubRequest;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Runs one batch operation through the application's own {@link DispatcherServlet}, so it
+ * is handled exactly like a standalone call: same controllers, validation, exception
+ * handlers and ETag handling. The servlet filter chain is not applied. Bodies are embedded in
+ * the batch response, which the container compresses as a whole, so {@code Accept-Encoding}
+ * is not passed on and sub-requests never take the precompressed body path.
+ */
+@Component
+public class BatchOperationDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchOperationDispatcher.class);
+    private static final String GZIP = "gzip";
+
+    private final DispatcherServlet dispatcherServlet;
+    private final ObjectMapper objectMapper;
+
+    public BatchOperationDispatcher(DispatcherServlet dispatcherServlet, ObjectMapper objectMapper) {
+        this.dispatcherServlet = dispatcherServlet;
+        this.objectMapper = objectMapper;
+    }
+
+    public BatchResultDTO dispatch(HttpServletRequest parent, HttpServletResponse parentResponse, BatchOperationDTO operation) {
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            if (operation.headers() != null) {
+                operation.headers().forEach(headers::set);
+                headers.remove(HttpHeaders.ACCEPT_ENCODING);
+            }
+            byte[] body = new byte[0];
+            if (operation.body() != null && !operation.body().isNull()) {
+                body = objectMapper.writeValueAsBytes(operation.body());
+                if (headers.getContentType() == null) {
+                    headers.setContentType(MediaType.APPLICATION_JSON);
+                }
+            }
+
+            SubRequest request = new SubRequest(parent, operation.method(), operation.path(), headers, body);
+            CapturedResponse response = new CapturedResponse(parentResponse);
+            dispatcherServlet.service(request, response);
+            JsonNode responseBody = readBody(response);
+            return new BatchResultDTO(
+                    operation.id(),
+                    response.getStatus(),
+                    response.capturedHeaders().toSingleValueMap(),
+                    responseBody
+            );
+        } catch (ServletException | IOException | RuntimeException e) {
+            log.warn(Messages.BATCH_OPERATION_FAILED, operation.id(), operation.method(), operation.path(), e.getMessage());
+            return new BatchResultDTO(operation.id(), HttpStatus.INTERNAL_SERVER_ERROR.value(), Map.of(),
+                    TextNode.valueOf(Messages.ERROR_GENERIC));
+        }
+    }
+
+    private JsonNode readBody(CapturedResponse response) throws IOException {
+        byte[] bytes = response.capturedBody();
+        if (bytes.length == 0) {
+            return null;
+        }
+        // Embedded bodies are always decoded, whatever a handler chose to send
+        if (GZIP.equalsIgnoreCase(response.getHeader(HttpHeaders.CONTENT_ENCODING))) {
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+                bytes = in.readAllBytes();
+            }
+            response.capturedHeaders().remove(HttpHeaders.CONTENT_ENCODING);
+        }
+        String contentType = response.getContentType();
+        if (contentType != null && isJson(MediaType.parseMediaType(contentType))) {
+            return objectMapper.readTree(bytes);
+        }
+        return TextNode.valueOf(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    private static boolean isJson(MediaType mediaType) {
+        return MediaType.APPLICATION_JSON.isCompatibleWith(mediaType)
+                || (mediaType.getSubtype() != null && mediaType.getSubtype().endsWith("+json"));
+    }
+}
@@ -0,0 +1,152 @@
+package com.github.souzafcharles.api.endpoint.batch.service;
+
+import com.github.souzafcharles.api.endpoint.batch.model.dto.BatchOperationDTO;
+import com.github.souzafcharles.api.endpoint.batch.model.dto.BatchRequestDTO;
+import com.github.souzafcharles.api.endpoint.batch.model.dto.BatchResponseDTO;
+import com.github.souzafcharles.api.endpoint.batch.model.dto.BatchResultDTO;
+import com.github.souzafcharles.api.exceptions.custom.InvalidRequestException;
+import com.github.souzafcharles.api.utils.Messages;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Executes the operations of a batch and collects one result per operation, in request
+ * order.
+ * <p>
+ * Without {@code atomic}, each run of consecutive reads is dispatched concurrently and
+ * every write is a barrier, so a read placed after a write always sees it; each write
+ * commits on its own. With {@code atomic}, all operations run in order on the calling
+ * thread inside a single transaction, which the services join. The first operation that
+ * answers with a 4xx or 5xx marks it rollback-only, and the remaining operations are
+ * reported as 424 without being run. Until it commits, the versions an atomic batch reads
+ * may never exist, so its operations are sent without {@code If-None-Match} and their
+ * results are returned without an {@code ETag}.
+ */
+@Service
+public class BatchService {
+
+    public static final int MAX_OPERATIONS = 20;
+
+    private static final Set<HttpMethod> READS = Set.of(HttpMethod.GET, HttpMethod.HEAD);
+    private static final Set<HttpMethod> SUPPORTED = Set.of(
+            HttpMethod.GET, HttpMethod.HEAD, HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH, HttpMethod.DELETE);
+
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncTaskExecutor taskExecutor;
+
+    public BatchService(TransactionTemplate transactionTemplate,
+                        @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                        AsyncTaskExecutor taskExecutor) {
+        this.transactionTemplate = transactionTemplate;
+        this.taskExecutor = taskExecutor;
+    }
+
+    public BatchResponseDTO execute(BatchRequestDTO request, Function<BatchOperationDTO, BatchResultDTO> dispatcher) {
+        List<BatchOperationDTO> operations = validate(request);
+        if (request.atomic()) {
+            return transactionTemplate.execute(status -> {
+                List<BatchResultDTO> results = new ArrayList<>(operations.size());
+                boolean failed = false;
+                for (BatchOperationDTO operation : operations) {
+                    if (failed) {
+                        results.add(BatchResultDTO.skipped(operation.id()));
+                        continue;
+                    }
+                    BatchResultDTO result = withoutETag(dispatcher.apply(withoutIfNoneMatch(operation)));
+                    results.add(result);
+                    if (result.status() >= HttpStatus.BAD_REQUEST.value()) {
+                        failed = true;
+                        status.setRollbackOnly();
+                    }
+                }
+                return new BatchResponseDTO(true, failed, results);
+            });
+        }
+
+        BatchResultDTO[] results = new BatchResultDTO[operations.size()];
+        int start = 0;
+        while (start < operations.size()) {
+            int end = start + 1;
+            if (isRead(operations.get(start))) {
+                while (end < operations.size() && isRead(operations.get(end))) {
+                    end++;
+                }
+            }
+            dispatchGroup(operations, start, end, results, dispatcher);
+            start = end;
+        }
+        return new BatchResponseDTO(false, false, Arrays.asList(results));
+    }
+
+    // The first operation of a group runs on the calling thread, the rest on the task executor.
+    private void dispatchGroup(List<BatchOperationDTO> operations, int start, int end,
+                               BatchResultDTO[] results, Function<BatchOperationDTO, BatchResultDTO> dispatcher) {
+        List<CompletableFuture<Void>> pending = new ArrayList<>(end - start - 1);
+        for (int i = start + 1; i < end; i++) {
+            int index = i;
+            pending.add(CompletableFuture.runAsync(
+                    () -> results[index] = dispatcher.apply(operations.get(index)), taskExecutor));
+        }
+        results[start] = dispatcher.apply(operations.get(start));
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private static BatchOperationDTO withoutIfNoneMatch(BatchOperationDTO operation) {
+        if (operation.headers() == null) {
+            return operation;
+        }
+        return new BatchOperationDTO(operation.id(), operation.method(), operation.path(),
+                without(operation.headers(), HttpHeaders.IF_NONE_MATCH), operation.body());
+    }
+
+    private static BatchResultDTO withoutETag(BatchResultDTO result) {
+        if (result.headers() == null) {
+            return result;
+        }
+        return new BatchResultDTO(result.id(), result.status(), without(result.headers(), HttpHeaders.ETAG), result.body());
+    }
+
+    private static Map<String, String> without(Map<String, String> headers, String name) {
+        Map<String, String> copy = new LinkedHashMap<>(headers);
+        copy.keySet().removeIf(name::equalsIgnoreCase);
+        return copy;
+    }
+
+    private static boolean isRead(BatchOperationDTO operation) {
+        return READS.contains(HttpMethod.valueOf(operation.method().toUpperCase()));
+    }
+
+    private static List<BatchOperationDTO> validate(BatchRequestDTO request) {
+        List<BatchOperationDTO> operations = request.operations();
+        if (operations == null || operations.isEmpty()) {
+            throw new InvalidRequestException(Messages.BATCH_EMPTY);
+        }
+        if (operations.size() > MAX_OPERATIONS) {
+            throw new InvalidRequestException(String.format(Messages.BATCH_TOO_MANY_OPERATIONS, MAX_OPERATIONS, operations.size()));
+        }
+        for (BatchOperationDTO operation : operations) {
+            if (operation.method() == null || !SUPPORTED.contains(HttpMethod.valueOf(operation.method().toUpperCase()))) {
+                throw new InvalidRequestException(String.format(Messages.BATCH_UNSUPPORTED_METHOD, operation.method()));
+            }
+            if (operation.path() == null || !operation.path().startsWith("/") || operation.path().startsWith("/batch")) {
+                throw new InvalidRequestException(String.format(Messages.BATCH_INVALID_PATH, operation.path()));
+            }
+        }
+        return operations;
+    }
+}
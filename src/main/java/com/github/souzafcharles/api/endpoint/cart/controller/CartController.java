@@ -4,6 +4,9 @@ import com.github.souzafcharles.api.endpoint.cart.model.dto.CartRequestDTO;
 import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
 import com.github.souzafcharles.api.endpoint.cart.service.CartService;
 import com.github.souzafcharles.api.utils.Messages;
+import com.github.souzafcharles.api.web.NdjsonWriter;
+import com.github.souzafcharles.api.web.SelfLinkTemplate;
+import com.github.souzafcharles.api.web.SparseModels;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -11,22 +14,29 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.hateoas.server.core.EmbeddedWrapper;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/carts")
 @Tag(name = "Cart API", description = Messages.CART_TAG_DESCRIPTION)
 public class CartController {
 
+    private static final SelfLinkTemplate SELF_LINKS = SelfLinkTemplate.of(CartController.class);
+
     private final CartService cartService;
+    private final NdjsonWriter ndjsonWriter;
 
-    public CartController(CartService cartService) {
+    public CartController(CartService cartService, NdjsonWriter ndjsonWriter) {
         this.cartService = cartService;
+        this.ndjsonWriter = ndjsonWriter;
     }
 
     @GetMapping
@@ -36,11 +46,22 @@ public class CartController {
             PagedResourcesAssembler<CartResponseDTO> assembler
     ) {
         var page = cartService.getAllCarts(pageable);
-        var model = assembler.toModel(page, cart ->
-                EntityModel.of(cart, WebMvcLinkBuilder.linkTo(
-                        WebMvcLinkBuilder.methodOn(CartController.class).getById(cart.id())
-                ).withSelfRel())
-        );
+        var selfLink = SELF_LINKS.resolve();
+        var model = assembler.toModel(page, cart -> EntityModel.of(cart, selfLink.apply(cart.id())));
+        return page.isEmpty()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.ok(model);
+    }
+
+    @GetMapping(params = "fields")
+    @Operation(summary = Messages.CART_GET_ALL_FIELDS_SUMMARY, description = Messages.CART_FIELDS_DESCRIPTION)
+    public ResponseEntity<PagedModel<EmbeddedWrapper>> getAllWithFields(
+            @RequestParam String fields,
+            Pageable pageable,
+            PagedResourcesAssembler<Map<String, Object>> assembler
+    ) {
+        var page = cartService.getAllCarts(pageable, fields);
+        var model = SparseModels.toModel(assembler, page, SELF_LINKS.resolve(), CartResponseDTO.class);
         return page.isEmpty()
                 ? ResponseEntity.noContent().build()
                 : ResponseEntity.ok(model);
@@ -52,6 +73,18 @@ public class CartController {
         return ResponseEntity.ok(cartService.getCartById(id));
     }
 
+    @GetMapping(value = "/{id}", params = "fields")
+    @Operation(summary = Messages.CART_GET_BY_ID_FIELDS_SUMMARY, description = Messages.CART_FIELDS_DESCRIPTION)
+    public ResponseEntity<Map<String, Object>> getByIdWithFields(@PathVariable String id, @RequestParam String fields) {
+        return ResponseEntity.ok(cartService.getCartById(id, fields));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = Messages.CART_EXPORT_SUMMARY, description = Messages.CART_EXPORT_DESCRIPTION)
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ndjsonWriter.stream(cartService::exportCarts);
+    }
+
     @PostMapping
     @Operation(summary = Messages.CART_CREATE_SUMMARY, description = Messages.CART_CREATE_DESCRIPTION)
     public ResponseEntity<CartResponseDTO> create(@RequestBody @Valid CartRequestDTO dto) {
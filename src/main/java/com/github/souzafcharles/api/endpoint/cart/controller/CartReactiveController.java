@@ -0,0 +1,40 @@
+package com.github.souzafcharles.api.endpoint.cart.controller;
+
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
+import com.github.souzafcharles.api.endpoint.cart.repository.CartReactiveRepository;
+import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
+import com.github.souzafcharles.api.utils.Messages;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/reactive/carts")
+@Tag(name = "Reactive Read API", description = Messages.REACTIVE_TAG_DESCRIPTION)
+public class CartReactiveController {
+
+    private final CartReactiveRepository cartReactiveRepository;
+
+    public CartReactiveController(CartReactiveRepository cartReactiveRepository) {
+        this.cartReactiveRepository = cartReactiveRepository;
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = Messages.REACTIVE_CART_GET_ALL_SUMMARY)
+    public Flux<CartResponseDTO> getAll() {
+        return cartReactiveRepository.findAll();
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = Messages.REACTIVE_CART_GET_BY_ID_SUMMARY)
+    public Mono<CartResponseDTO> getById(@PathVariable String id) {
+        return cartReactiveRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> ResourceNotFoundException.forCart(id)));
+    }
+}
@@ -4,6 +4,7 @@ import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.entity.CartProduct;
 import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
 import com.github.souzafcharles.api.endpoint.cart.repository.CartRepository;
+import com.github.souzafcharles.api.endpoint.cart.sync.CartSynchronizer;
 import com.github.souzafcharles.api.client.FakeStoreClient;
 import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
 import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
@@ -16,7 +17,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.context.annotation.DependsOn;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -25,6 +25,7 @@ import java.util.Objects;
 public class CartDataInitializer {
 
     private static final Logger log = LoggerFactory.getLogger(CartDataInitializer.class);
+    private static final int BATCH_SIZE = 100;
 
     private final CartRepository cartRepository;
     private final ProductRepository productRepository;
@@ -48,49 +49,57 @@ public class CartDataInitializer {
             return;
         }
 
-        CartResponseDTO[] carts = fakeStoreClient.getAllCarts().block();
-        if (carts == null || carts.length == 0) {
-            log.warn(Messages.CART_NO_RETURNED);
-            return;
-        }
+        int received = 0;
+        int saved = 0;
+        for (List<CartResponseDTO> batch : fakeStoreClient.streamAllCarts()
+                .buffer(BATCH_SIZE)
+                .toIterable(1)) {
+            received += batch.size();
+            List<Cart> entities = batch.stream()
+                    .map(dto -> {
+                        User user = userRepository.findById(dto.userId()).orElse(null);
+                        if (user == null) {
+                            log.warn(Messages.CART_IGNORED_USER_NOT_FOUND, dto.id(), dto.userId());
+                            return null;
+                        }
 
-        List<Cart> entities = Arrays.stream(carts)
-                .map(dto -> {
-                    User user = userRepository.findById(dto.userId()).orElse(null);
-                    if (user == null) {
-                        log.warn(Messages.CART_IGNORED_USER_NOT_FOUND, dto.id(), dto.userId());
-                        return null;
-                    }
+                        Cart cart = new Cart();
+                        cart.setId(dto.id());
+                        cart.setUser(user);
 
-                    Cart cart = new Cart();
-                    cart.setId(dto.id());
-                    cart.setUser(user);
+                        List<CartProduct> cartProducts = dto.products().stream()
+                                .map(p -> {
+                                    Product product = productRepository.findById(p.productId()).orElse(null);
+                                    if (product == null) {
+                                        log.warn(Messages.CART_PRODUCT_IGNORED, dto.id(), p.productId());
+                                        return null;
+                                    }
+                                    CartProduct cartProduct = new CartProduct();
+                                    cartProduct.setCart(cart);
+                                    cartProduct.setProduct(product);
+                                    cartProduct.setQuantity(p.quantity());
+                                    return cartProduct;
+                                })
+                                .filter(Objects::nonNull)
+                                .toList();
 
-                    List<CartProduct> cartProducts = dto.products().stream()
-                            .map(p -> {
-                                Product product = productRepository.findById(p.productId()).orElse(null);
-                                if (product == null) {
-                                    log.warn(Messages.CART_PRODUCT_IGNORED, dto.id(), p.productId());
-                                    return null;
-                                }
-                                CartProduct cartProduct = new CartProduct();
-                                cartProduct.setCart(cart);
-                                cartProduct.setProduct(product);
-                                cartProduct.setQuantity(p.quantity());
-                                return cartProduct;
-                            })
-                            .filter(Objects::nonNull)
-                            .toList();
+                        cart.setCartProducts(cartProducts);
+                        cart.setSyncHash(CartSynchronizer.hash(dto));
+                        return cart;
+                    })
+                    .filter(Objects::nonNull)
+                    .toList();
 
-                    cart.setCartProducts(cartProducts);
-                    return cart;
-                })
-                .filter(Objects::nonNull)
-                .toList();
+            if (!entities.isEmpty()) {
+                cartRepository.saveAll(entities);
+                saved += entities.size();
+            }
+        }
 
-        if (!entities.isEmpty()) {
-            cartRepository.saveAll(entities);
-            log.info(Messages.CART_SAVED_SUCCESS, entities.size());
+        if (received == 0) {
+            log.warn(Messages.CART_NO_RETURNED);
+        } else if (saved > 0) {
+            log.info(Messages.CART_SAVED_SUCCESS, saved);
         } else {
             log.warn(Messages.CART_NO_VALID);
         }
@@ -0,0 +1,24 @@
+package com.github.souzafcharles.api.endpoint.cart.model.dto;
+
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductResponseDTO;
+
+/**
+ * One row of the flattened cart/line/product join. {@code productId} is {@code null}
+ * for a cart without lines.
+ */
+public record CartLineDTO(
+        String cartId,
+        String userId,
+        String productId,
+        String productTitle,
+        Double productPrice,
+        Integer quantity
+) {
+    public boolean hasProduct() {
+        return productId != null;
+    }
+
+    public CartProductResponseDTO toProduct() {
+        return new CartProductResponseDTO(productId, productTitle, productPrice, quantity);
+    }
+}
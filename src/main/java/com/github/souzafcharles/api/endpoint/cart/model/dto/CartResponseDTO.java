@@ -4,6 +4,7 @@ import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductResponseDTO;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 
 public record CartResponseDTO(
@@ -20,4 +21,34 @@ public record CartResponseDTO(
                         .toList()
         );
     }
+
+    /**
+     * Folds the consecutive join rows of a single cart back into one DTO.
+     */
+    public static CartResponseDTO fromLines(List<CartLineDTO> lines) {
+        CartLineDTO first = lines.getFirst();
+        return new CartResponseDTO(
+                first.cartId(),
+                first.userId(),
+                lines.stream()
+                        .filter(CartLineDTO::hasProduct)
+                        .map(CartLineDTO::toProduct)
+                        .toList()
+        );
+    }
+
+    /**
+     * Folds join rows ordered by cart into one DTO per cart, keeping that order.
+     */
+    public static List<CartResponseDTO> fromOrderedLines(List<CartLineDTO> lines) {
+        List<CartResponseDTO> carts = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i <= lines.size(); i++) {
+            if (i == lines.size() || !lines.get(i).cartId().equals(lines.get(start).cartId())) {
+                carts.add(fromLines(lines.subList(start, i)));
+                start = i;
+            }
+        }
+        return carts;
+    }
 }
\ No newline at end of file
@@ -2,14 +2,14 @@ package com.github.souzafcharles.api.endpoint.cart.model.entity;
 
 import com.github.souzafcharles.api.endpoint.cartproduct.model.entity.CartProduct;
 import com.github.souzafcharles.api.endpoint.user.model.entity.User;
+import com.github.souzafcharles.api.utils.TimeOrderedIds;
 import jakarta.persistence.*;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 @Entity
-@Table(name = "tb_cart")
+@Table(name = "tb_cart", indexes = @Index(name = "idx_cart_user", columnList = "user_id"))
 public class Cart {
 
     @Id
@@ -22,10 +22,13 @@ public class Cart {
     @OneToMany(mappedBy = "cart", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<CartProduct> cartProducts = new ArrayList<>();
 
+    @Column(name = "sync_hash", length = 64)
+    private String syncHash;
+
     @PrePersist
     public void generateIdIfNull() {
         if (this.id == null) {
-            this.id = UUID.randomUUID().toString();
+            this.id = TimeOrderedIds.next();
         }
     }
 
@@ -52,4 +55,12 @@ public class Cart {
     public void setCartProducts(List<CartProduct> cartProducts) {
         this.cartProducts = cartProducts;
     }
+
+    public String getSyncHash() {
+        return syncHash;
+    }
+
+    public void setSyncHash(String syncHash) {
+        this.syncHash = syncHash;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.github.souzafcharles.api.endpoint.cart.repository;
+
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartLineDTO;
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
+import com.github.souzafcharles.api.persistence.ReactiveDatabase;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Carts are read as one joined row per cart line, ordered by cart, and folded back into
+ * {@link CartResponseDTO}s as the rows arrive, so a cart is emitted as soon as its last
+ * line has been read.
+ */
+@Repository
+public class CartReactiveRepository {
+
+    private static final String SELECT = """
+            SELECT c.id AS cart_id, c.user_id, cp.product_id, p.title, p.price, cp.quantity
+            FROM tb_cart c
+            LEFT JOIN tb_cart_product cp ON cp.cart_id = c.id
+            LEFT JOIN tb_product p ON p.id = cp.product_id
+            """;
+
+    private final DatabaseClient client;
+
+    public CartReactiveRepository(ReactiveDatabase reactiveDatabase) {
+        this.client = reactiveDatabase.client();
+    }
+
+    public Flux<CartResponseDTO> findAll() {
+        return group(client.sql(SELECT + " ORDER BY c.id, cp.product_id")
+                .map(CartReactiveRepository::toLine)
+                .all());
+    }
+
+    public Mono<CartResponseDTO> findById(String id) {
+        return group(client.sql(SELECT + " WHERE c.id = :id ORDER BY cp.product_id")
+                .bind("id", id)
+                .map(CartReactiveRepository::toLine)
+                .all())
+                .next();
+    }
+
+    private static Flux<CartResponseDTO> group(Flux<CartLineDTO> lines) {
+        return lines.bufferUntilChanged(CartLineDTO::cartId)
+                .map(CartResponseDTO::fromLines);
+    }
+
+    private static CartLineDTO toLine(Readable row) {
+        return new CartLineDTO(
+                row.get("cart_id", String.class),
+                row.get("user_id", String.class),
+                row.get("product_id", String.class),
+                row.get("title", String.class),
+                row.get("price", Double.class),
+                row.get("quantity", Integer.class)
+        );
+    }
+}
@@ -1,14 +1,96 @@
 package com.github.souzafcharles.api.endpoint.cart.repository;
 
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartLineDTO;
 import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.ProductRevenueDTO;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.ProductSalesDTO;
+import com.github.souzafcharles.api.persistence.FullScan;
+import com.github.souzafcharles.api.persistence.StreamingHints;
+import com.github.souzafcharles.api.sync.SyncState;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface CartRepository extends JpaRepository<Cart, String> {
 
-    List<Cart> findByUserId(String userId);
-    List<Cart> findByCartProductsProductId(String productId);
+    // Outer joins keep carts without lines as a single row with null product columns.
+    String SELECT_LINES = "SELECT new com.github.souzafcharles.api.endpoint.cart.model.dto.CartLineDTO("
+            + "c.id, c.user.id, p.id, p.title, p.price, cp.quantity) "
+            + "FROM Cart c LEFT JOIN c.cartProducts cp LEFT JOIN cp.product p ";
+
+    @FullScan
+    @Query("SELECT c.id FROM Cart c")
+    Page<String> findIdPage(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    @Query(SELECT_LINES + "WHERE c.id = :cartId ORDER BY p.id")
+    List<CartLineDTO> findLinesByCartId(String cartId);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    @Query(SELECT_LINES + "WHERE c.user.id = :userId ORDER BY c.id, p.id")
+    List<CartLineDTO> findLinesByUserId(String userId);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    @Query(SELECT_LINES + "WHERE c.id IN (SELECT x.cart.id FROM CartProduct x WHERE x.product.id = :productId) "
+            + "ORDER BY c.id, p.id")
+    List<CartLineDTO> findLinesOfCartsContainingProduct(String productId);
+
+    @FullScan
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    @Query(SELECT_LINES + "WHERE c.id IN (SELECT x.cart.id FROM CartProduct x "
+            + "GROUP BY x.cart.id HAVING SUM(x.quantity * x.product.price) > :minTotal) ORDER BY c.id, p.id")
+    List<CartLineDTO> findLinesOfCartsWithTotalValueGreaterThan(Double minTotal);
+
+    @Query("SELECT COALESCE(SUM(cp.quantity), 0) FROM CartProduct cp WHERE cp.cart.user.id = :userId")
+    long sumQuantityByUserId(String userId);
+
+    @FullScan
+    @Query("SELECT c.id AS id, c.syncHash AS syncHash FROM Cart c WHERE c.syncHash IS NOT NULL")
+    List<SyncState> findSyncStates();
+
+    @FullScan
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_LINES + "ORDER BY c.id, p.id")
+    Stream<CartLineDTO> streamLinesForExport();
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    @Query(SELECT_LINES + "WHERE c.id IN :cartIds ORDER BY c.id, p.id")
+    List<CartLineDTO> findLinesByCartIds(Collection<String> cartIds);
+
+    // Cart product analytics, aggregated by the database instead of per cart and per line in memory.
+
+    @FullScan
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.github.souzafcharles.api.endpoint.cartproduct.model.dto.ProductSalesDTO("
+            + "p.id, p.title, CAST(SUM(cp.quantity) AS Integer)) "
+            + "FROM CartProduct cp JOIN cp.product p GROUP BY p.id, p.title ORDER BY SUM(cp.quantity) DESC, p.id")
+    List<ProductSalesDTO> findMostSoldProducts(Limit limit);
+
+    @FullScan
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.github.souzafcharles.api.endpoint.cartproduct.model.dto.ProductRevenueDTO("
+            + "p.title, SUM(cp.quantity * p.price)) "
+            + "FROM CartProduct cp JOIN cp.product p GROUP BY p.title ORDER BY p.title")
+    List<ProductRevenueDTO> findRevenuePerProductTitle();
+
+    @FullScan
+    @Query("SELECT COALESCE(SUM(cp.quantity), 0) FROM CartProduct cp")
+    long sumQuantity();
+
+    @Query("SELECT cp.cart.id FROM CartProduct cp WHERE cp.product.id = :productId ORDER BY cp.cart.id")
+    List<String> findCartIdsByProductId(String productId);
 }
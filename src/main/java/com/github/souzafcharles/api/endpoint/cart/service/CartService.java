@@ -1,14 +1,22 @@
 package com.github.souzafcharles.api.endpoint.cart.service;
 
+import com.github.souzafcharles.api.concurrency.ConcurrencyLimited;
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartLineDTO;
 import com.github.souzafcharles.api.endpoint.cart.model.dto.CartRequestDTO;
 import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
 import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
 import com.github.souzafcharles.api.endpoint.cart.repository.CartRepository;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductRequestDTO;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductResponseDTO;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.entity.CartProduct;
+import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
 import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
 import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
 import com.github.souzafcharles.api.exceptions.custom.DatabaseException;
 import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
+import com.github.souzafcharles.api.persistence.AnalyticsQuery;
+import com.github.souzafcharles.api.persistence.ProjectionQueries;
+import com.github.souzafcharles.api.persistence.SparseFieldset;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -16,38 +24,97 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class CartService {
 
+    private static final String PRODUCTS = "products";
+    private static final SparseFieldset FIELDS = SparseFieldset.of(Cart.class)
+            .with("userId", "user.id")
+            .withDerived(PRODUCTS);
+
     private final CartRepository cartRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final ProjectionQueries projectionQueries;
 
     public CartService(CartRepository cartRepository,
                        UserRepository userRepository,
-                       ProductRepository productRepository) {
+                       ProductRepository productRepository,
+                       ProjectionQueries projectionQueries) {
         this.cartRepository = cartRepository;
         this.userRepository = userRepository;
         this.productRepository = productRepository;
+        this.projectionQueries = projectionQueries;
     }
 
+    @Transactional(readOnly = true)
     public Page<CartResponseDTO> getAllCarts(Pageable pageable) {
-        List<CartResponseDTO> allCarts = cartRepository.findAll().stream()
-                .map(CartResponseDTO::new)
+        // The page is rebuilt on the client's pageable so links keep its field names, not entity paths
+        Page<String> ids = cartRepository.findIdPage(FIELDS.pageable(pageable));
+        Map<String, List<CartLineDTO>> lines = ids.isEmpty() ? Map.of()
+                : cartRepository.findLinesByCartIds(ids.getContent()).stream()
+                        .collect(Collectors.groupingBy(CartLineDTO::cartId));
+        // A cart deleted between the two queries has no lines left and is left out of the page
+        List<CartResponseDTO> carts = ids.getContent().stream()
+                .filter(lines::containsKey)
+                .map(id -> CartResponseDTO.fromLines(lines.get(id)))
                 .toList();
+        return new PageImpl<>(carts, pageable, ids.getTotalElements());
+    }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), allCarts.size());
-        return new PageImpl<>(allCarts.subList(start, end), pageable, allCarts.size());
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllCarts(Pageable pageable, String fields) {
+        List<String> selected = FIELDS.select(fields);
+        Page<Map<String, Object>> page = projectionQueries.findPage(FIELDS, selected, pageable);
+        if (selected.contains(PRODUCTS)) {
+            attachProducts(page.getContent());
+        }
+        return page;
     }
 
-    public CartResponseDTO getCartById(String id) {
-        Cart cart = cartRepository.findById(id)
+    @Transactional(readOnly = true)
+    public Map<String, Object> getCartById(String id, String fields) {
+        List<String> selected = FIELDS.select(fields);
+        Map<String, Object> cart = projectionQueries.findById(FIELDS, selected, id)
                 .orElseThrow(() -> ResourceNotFoundException.forCart(id));
-        return new CartResponseDTO(cart);
+        if (selected.contains(PRODUCTS)) {
+            attachProducts(List.of(cart));
+        }
+        return cart;
+    }
+
+    // One query for the lines of every cart on the page, reading only the product columns the DTO exposes.
+    private void attachProducts(List<Map<String, Object>> carts) {
+        if (carts.isEmpty()) {
+            return;
+        }
+        List<String> cartIds = carts.stream()
+                .map(cart -> (String) cart.get(SparseFieldset.ID))
+                .toList();
+        Map<String, List<CartProductResponseDTO>> products = cartRepository.findLinesByCartIds(cartIds).stream()
+                .filter(CartLineDTO::hasProduct)
+                .collect(Collectors.groupingBy(CartLineDTO::cartId, LinkedHashMap::new, Collectors.mapping(
+                        CartLineDTO::toProduct, Collectors.toList())));
+        carts.forEach(cart -> cart.put(PRODUCTS, products.getOrDefault(cart.get(SparseFieldset.ID), List.of())));
+    }
+
+    @Transactional(readOnly = true)
+    public CartResponseDTO getCartById(String id) {
+        List<CartLineDTO> lines = cartRepository.findLinesByCartId(id);
+        if (lines.isEmpty()) {
+            throw ResourceNotFoundException.forCart(id);
+        }
+        return CartResponseDTO.fromLines(lines);
     }
 
     public CartResponseDTO createCart(CartRequestDTO dto) {
@@ -69,23 +136,42 @@ public class CartService {
                 .orElseThrow(() -> ResourceNotFoundException.forUser(dto.userId()));
 
         cart.setUser(user);
-        cart.setCartProducts(buildCartProducts(cart, dto));
+        replaceCartProducts(cart, buildCartProducts(cart, dto));
 
         return new CartResponseDTO(cartRepository.save(cart));
     }
 
+    // Edits the managed collection in place: orphan removal deletes the dropped lines, and lines
+    // kept by the update are changed rather than deleted and inserted again under the same key.
+    private static void replaceCartProducts(Cart cart, List<CartProduct> lines) {
+        Map<String, CartProduct> requested = lines.stream()
+                .collect(Collectors.toMap(cp -> cp.getProduct().getId(), Function.identity(),
+                        (first, second) -> second, LinkedHashMap::new));
+        cart.getCartProducts().removeIf(cp -> !requested.containsKey(cp.getProduct().getId()));
+        for (CartProduct existing : cart.getCartProducts()) {
+            existing.setQuantity(requested.remove(existing.getProduct().getId()).getQuantity());
+        }
+        cart.getCartProducts().addAll(requested.values());
+    }
+
+    // One lookup for every product of the request rather than one per line.
     private List<CartProduct> buildCartProducts(Cart cart, CartRequestDTO dto) {
+        Map<String, Product> products = productRepository.findAllById(dto.products().stream()
+                        .map(CartProductRequestDTO::productId)
+                        .toList()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
         return dto.products().stream()
-                .map(p -> productRepository.findById(p.productId())
-                        .map(product -> {
-                            CartProduct cp = new CartProduct();
-                            cp.setCart(cart);
-                            cp.setProduct(product);
-                            cp.setQuantity(p.quantity());
-                            return cp;
-                        })
-                        .orElseThrow(() -> ResourceNotFoundException.forProduct(p.productId()))
-                ).toList();
+                .map(p -> {
+                    Product product = products.get(p.productId());
+                    if (product == null) {
+                        throw ResourceNotFoundException.forProduct(p.productId());
+                    }
+                    CartProduct cp = new CartProduct();
+                    cp.setCart(cart);
+                    cp.setProduct(product);
+                    cp.setQuantity(p.quantity());
+                    return cp;
+                }).toList();
     }
 
     public void deleteCart(String id) {
@@ -98,31 +184,42 @@ public class CartService {
         }
     }
 
+    @Transactional(readOnly = true)
     public List<CartResponseDTO> getCartsByUserId(String userId) {
-        return cartRepository.findByUserId(userId).stream()
-                .map(CartResponseDTO::new)
-                .toList();
+        return CartResponseDTO.fromOrderedLines(cartRepository.findLinesByUserId(userId));
     }
 
+    @Transactional(readOnly = true)
     public List<CartResponseDTO> getCartsByProductId(String productId) {
-        return cartRepository.findByCartProductsProductId(productId).stream()
-                .map(CartResponseDTO::new)
-                .toList();
+        return CartResponseDTO.fromOrderedLines(cartRepository.findLinesOfCartsContainingProduct(productId));
     }
 
+    @Transactional(readOnly = true)
     public long getTotalProductsForUser(String userId) {
-        return cartRepository.findByUserId(userId).stream()
-                .flatMap(c -> c.getCartProducts().stream())
-                .mapToLong(cp -> cp.getQuantity() != null ? cp.getQuantity() : 0)
-                .sum();
+        return cartRepository.sumQuantityByUserId(userId);
     }
 
+    @ConcurrencyLimited
+    @AnalyticsQuery
     public List<CartResponseDTO> getCartsWithTotalValueGreaterThan(Double minTotal) {
-        return cartRepository.findAll().stream()
-                .filter(cart -> cart.getCartProducts().stream()
-                        .mapToDouble(cp -> cp.getQuantity() * cp.getProduct().getPrice())
-                        .sum() > minTotal)
-                .map(CartResponseDTO::new)
-                .toList();
+        return CartResponseDTO.fromOrderedLines(cartRepository.findLinesOfCartsWithTotalValueGreaterThan(minTotal));
+    }
+
+    // Lines arrive ordered by cart, so only the lines of the current cart are held in memory.
+    @AnalyticsQuery
+    public void exportCarts(Consumer<CartResponseDTO> sink) {
+        try (Stream<CartLineDTO> lines = cartRepository.streamLinesForExport()) {
+            List<CartLineDTO> current = new ArrayList<>();
+            lines.forEach(line -> {
+                if (!current.isEmpty() && !current.getFirst().cartId().equals(line.cartId())) {
+                    sink.accept(CartResponseDTO.fromLines(current));
+                    current.clear();
+                }
+                current.add(line);
+            });
+            if (!current.isEmpty()) {
+                sink.accept(CartResponseDTO.fromLines(current));
+            }
+        }
     }
-}
\ No newline at end of file
+}
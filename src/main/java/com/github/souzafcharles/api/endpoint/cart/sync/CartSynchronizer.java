@@ -0,0 +1,165 @@
+package com.github.souzafcharles.api.endpoint.cart.sync;
+
+import com.github.souzafcharles.api.client.FakeStoreClient;
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
+import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
+import com.github.souzafcharles.api.endpoint.cart.repository.CartRepository;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.entity.CartProduct;
+import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
+import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
+import com.github.souzafcharles.api.endpoint.user.model.entity.User;
+import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
+import com.github.souzafcharles.api.sync.EntitySynchronizer;
+import com.github.souzafcharles.api.sync.SyncResult;
+import com.github.souzafcharles.api.sync.SyncState;
+import com.github.souzafcharles.api.utils.ContentHash;
+import com.github.souzafcharles.api.utils.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class CartSynchronizer extends EntitySynchronizer<CartResponseDTO> {
+
+    private static final Logger log = LoggerFactory.getLogger(CartSynchronizer.class);
+
+    private final CartRepository cartRepository;
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+    private final FakeStoreClient fakeStoreClient;
+
+    public CartSynchronizer(CartRepository cartRepository,
+                            UserRepository userRepository,
+                            ProductRepository productRepository,
+                            FakeStoreClient fakeStoreClient,
+                            TransactionTemplate transactionTemplate) {
+        super(transactionTemplate);
+        this.cartRepository = cartRepository;
+        this.userRepository = userRepository;
+        this.productRepository = productRepository;
+        this.fakeStoreClient = fakeStoreClient;
+    }
+
+    public static String hash(CartResponseDTO dto) {
+        String products = dto.products().stream()
+                .sorted(Comparator.comparing(CartProductResponseDTO::productId))
+                .map(p -> p.productId() + ":" + p.quantity())
+                .collect(Collectors.joining(","));
+        return ContentHash.of(dto.userId(), products);
+    }
+
+    @Override
+    public String name() {
+        return "Cart";
+    }
+
+    @Override
+    protected Flux<CartResponseDTO> fetchUpstream() {
+        return fakeStoreClient.streamAllCarts();
+    }
+
+    @Override
+    protected String idOf(CartResponseDTO dto) {
+        return dto.id();
+    }
+
+    @Override
+    protected String hashOf(CartResponseDTO dto) {
+        return hash(dto);
+    }
+
+    @Override
+    protected List<SyncState> findSyncStates() {
+        return cartRepository.findSyncStates();
+    }
+
+    @Override
+    protected SyncResult upsert(List<CartResponseDTO> changed) {
+        Map<String, Cart> existing = cartRepository.findAllById(changed.stream().map(CartResponseDTO::id).toList())
+                .stream()
+                .collect(Collectors.toMap(Cart::getId, Function.identity()));
+        Map<String, User> users = userRepository.findAllById(changed.stream().map(CartResponseDTO::userId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<String, Product> products = productRepository.findAllById(changed.stream()
+                        .flatMap(dto -> dto.products().stream())
+                        .map(CartProductResponseDTO::productId)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        int inserted = 0;
+        int updated = 0;
+        List<Cart> entities = new ArrayList<>(changed.size());
+        for (CartResponseDTO dto : changed) {
+            User user = users.get(dto.userId());
+            if (user == null) {
+                log.warn(Messages.CART_IGNORED_USER_NOT_FOUND, dto.id(), dto.userId());
+                continue;
+            }
+
+            Cart cart = existing.get(dto.id());
+            if (cart == null) {
+                cart = new Cart();
+                cart.setId(dto.id());
+                inserted++;
+            } else {
+                updated++;
+            }
+            cart.setUser(user);
+            mergeCartProducts(cart, dto, products);
+            cart.setSyncHash(hash(dto));
+            entities.add(cart);
+        }
+
+        cartRepository.saveAll(entities);
+        return new SyncResult(inserted, updated, 0);
+    }
+
+    @Override
+    protected void delete(Collection<String> ids) {
+        cartRepository.deleteAllById(ids);
+    }
+
+    // Lines are updated in place rather than cleared and re-added: Hibernate flushes
+    // inserts before orphan deletes, so re-adding a product would collide on the PK.
+    private void mergeCartProducts(Cart cart, CartResponseDTO dto, Map<String, Product> products) {
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        for (CartProductResponseDTO p : dto.products()) {
+            if (products.containsKey(p.productId())) {
+                quantities.merge(p.productId(), p.quantity(), Integer::sum);
+            } else {
+                log.warn(Messages.CART_PRODUCT_IGNORED, dto.id(), p.productId());
+            }
+        }
+
+        List<CartProduct> cartProducts = new ArrayList<>(cart.getCartProducts());
+        cartProducts.removeIf(cp -> !quantities.containsKey(cp.getProduct().getId()));
+        for (CartProduct cp : cartProducts) {
+            cp.setQuantity(quantities.remove(cp.getProduct().getId()));
+        }
+        quantities.forEach((productId, quantity) -> {
+            CartProduct cartProduct = new CartProduct();
+            cartProduct.setCart(cart);
+            cartProduct.setProduct(products.get(productId));
+            cartProduct.setQuantity(quantity);
+            cartProducts.add(cartProduct);
+        });
+
+        cart.getCartProducts().clear();
+        cart.getCartProducts().addAll(cartProducts);
+    }
+}
@@ -0,0 +1,8 @@
+package com.github.souzafcharles.api.endpoint.cartproduct.model.dto;
+
+import java.io.Serializable;
+
+public record ProductRevenueDTO(
+        String title,
+        Double revenue
+) implements Serializable { }
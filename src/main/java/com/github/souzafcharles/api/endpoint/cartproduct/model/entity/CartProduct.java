@@ -5,7 +5,7 @@ import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "tb_cart_product")
+@Table(name = "tb_cart_product", indexes = @Index(name = "idx_cart_product_product", columnList = "product_id"))
 public class CartProduct {
 
     @EmbeddedId
@@ -1,15 +1,21 @@
 package com.github.souzafcharles.api.endpoint.cartproduct.service;
 
+import com.github.souzafcharles.api.concurrency.Coalesced;
+import com.github.souzafcharles.api.concurrency.ConcurrencyLimited;
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartLineDTO;
 import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
 import com.github.souzafcharles.api.endpoint.cart.repository.CartRepository;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductRequestDTO;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.ProductRevenueDTO;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.ProductSalesDTO;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.entity.CartProduct;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.entity.CartProductId;
 import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
 import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
 import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
+import com.github.souzafcharles.api.persistence.AnalyticsQuery;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -70,61 +76,46 @@ public class CartProductService {
         cartRepository.save(cart);
     }
 
+    @Coalesced
+    @Transactional(readOnly = true)
     public List<CartProductResponseDTO> getProductsInCart(String cartId) {
-        Cart cart = cartRepository.findById(cartId)
-                .orElseThrow(() -> ResourceNotFoundException.forCart(cartId));
-
-        return cart.getCartProducts().stream()
-                .map(CartProductResponseDTO::new)
+        List<CartLineDTO> lines = cartRepository.findLinesByCartId(cartId);
+        if (lines.isEmpty()) {
+            throw ResourceNotFoundException.forCart(cartId);
+        }
+        return lines.stream()
+                .filter(CartLineDTO::hasProduct)
+                .map(CartLineDTO::toProduct)
                 .toList();
     }
 
+    @ConcurrencyLimited
+    @Coalesced
+    @AnalyticsQuery
     public List<ProductSalesDTO> getMostSoldProducts(int topN) {
-        return cartRepository.findAll().stream()
-                .flatMap(cart -> cart.getCartProducts().stream())
-                .collect(Collectors.groupingBy(
-                        cp -> cp.getProduct().getId(),
-                        Collectors.summingInt(cp -> cp.getQuantity() != null ? cp.getQuantity() : 0)
-                ))
-                .entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                .limit(topN)
-                .map(entry -> {
-                    Product product = productRepository.findById(entry.getKey()).orElse(null);
-                    if (product == null) {
-                        return null;
-                    }
-                    return new ProductSalesDTO(product.getId(), product.getTitle(), entry.getValue());
-                })
-                .filter(Objects::nonNull)
-                .toList();
+        return topN > 0 ? cartRepository.findMostSoldProducts(Limit.of(topN)) : List.of();
     }
 
+    @ConcurrencyLimited
+    @Coalesced
+    @AnalyticsQuery
     public Map<String, Double> getRevenuePerProduct() {
-        Map<String, Double> revenueMap = new HashMap<>();
-
-        cartRepository.findAll().forEach(cart ->
-                cart.getCartProducts().forEach(cp -> {
-                    double revenue = cp.getQuantity() * cp.getProduct().getPrice();
-                    revenueMap.merge(cp.getProduct().getTitle(), revenue, Double::sum);
-                })
-        );
-
-        return revenueMap;
+        return cartRepository.findRevenuePerProductTitle().stream()
+                .collect(Collectors.toMap(ProductRevenueDTO::title, ProductRevenueDTO::revenue,
+                        Double::sum, LinkedHashMap::new));
     }
 
+    @ConcurrencyLimited
+    @Coalesced
+    @AnalyticsQuery
     public long getTotalItemsInCarts() {
-        return cartRepository.findAll().stream()
-                .flatMap(cart -> cart.getCartProducts().stream())
-                .mapToLong(CartProduct::getQuantity)
-                .sum();
+        return cartRepository.sumQuantity();
     }
 
+    @ConcurrencyLimited
+    @Coalesced
+    @AnalyticsQuery
     public List<String> getCartsContainingProduct(String productId) {
-        return cartRepository.findAll().stream()
-                .filter(cart -> cart.getCartProducts().stream()
-                        .anyMatch(cp -> cp.getProduct().getId().equals(productId)))
-                .map(Cart::getId)
-                .toList();
+        return cartRepository.findCartIdsByProductId(productId);
     }
-}
\ No newline at end of file
+}
@@ -1,21 +1,35 @@
 package com.github.souzafcharles.api.endpoint.product.controller;
 
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductBulkResultDTO;
 import com.github.souzafcharles.api.endpoint.product.model.dto.ProductRequestDTO;
 import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.service.ProductBulkImportService;
 import com.github.souzafcharles.api.endpoint.product.service.ProductService;
 import com.github.souzafcharles.api.utils.Messages;
+import com.github.souzafcharles.api.web.ETags;
+import com.github.souzafcharles.api.web.MultiGetEntry;
+import com.github.souzafcharles.api.web.NdjsonWriter;
+import com.github.souzafcharles.api.web.PrecompressedBodyCache;
+import com.github.souzafcharles.api.web.SelfLinkTemplate;
+import com.github.souzafcharles.api.web.SparseModels;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.hateoas.server.core.EmbeddedWrapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -24,29 +38,124 @@ import java.util.Map;
 @Tag(name = "Product API", description = Messages.PRODUCT_TAG_DESCRIPTION)
 public class ProductController {
 
+    private static final String GZIP = "gzip";
+    private static final SelfLinkTemplate SELF_LINKS = SelfLinkTemplate.of(ProductController.class);
+
     private final ProductService productService;
+    private final ProductBulkImportService productBulkImportService;
+    private final NdjsonWriter ndjsonWriter;
+    private final PrecompressedBodyCache bodyCache;
 
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService,
+                             ProductBulkImportService productBulkImportService,
+                             NdjsonWriter ndjsonWriter,
+                             PrecompressedBodyCache bodyCache) {
         this.productService = productService;
+        this.productBulkImportService = productBulkImportService;
+        this.ndjsonWriter = ndjsonWriter;
+        this.bodyCache = bodyCache;
     }
 
     @GetMapping
     @Operation(summary = Messages.PRODUCT_GET_ALL_SUMMARY, description = Messages.PRODUCT_GET_ALL_DESCRIPTION)
     public ResponseEntity<PagedModel<EntityModel<ProductResponseDTO>>> getAll(
-            Pageable pageable, PagedResourcesAssembler<ProductResponseDTO> assembler) {
+            Pageable pageable, PagedResourcesAssembler<ProductResponseDTO> assembler,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = ETags.weak("products", productService.getProductsTableVersion());
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         var page = productService.getAllProducts(pageable);
-        var model = assembler.toModel(page, product ->
-                EntityModel.of(product,
-                        WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(ProductController.class)
-                                .getById(product.id())).withSelfRel())
-        );
-        return page.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(model);
+        var selfLink = SELF_LINKS.resolve();
+        var model = assembler.toModel(page, product -> EntityModel.of(product, selfLink.apply(product.id())));
+        return page.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok().eTag(eTag).body(model);
+    }
+
+    @GetMapping(params = {"fields", "!ids"})
+    @Operation(summary = Messages.PRODUCT_GET_ALL_FIELDS_SUMMARY, description = Messages.PRODUCT_FIELDS_DESCRIPTION)
+    public ResponseEntity<PagedModel<EmbeddedWrapper>> getAllWithFields(
+            @RequestParam String fields, Pageable pageable, PagedResourcesAssembler<Map<String, Object>> assembler,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = ETags.weak("products", productService.getProductsTableVersion());
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        var page = productService.getAllProducts(pageable, fields);
+        var model = SparseModels.toModel(assembler, page, SELF_LINKS.resolve(), ProductResponseDTO.class);
+        return page.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok().eTag(eTag).body(model);
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(summary = Messages.PRODUCT_GET_BY_IDS_SUMMARY, description = Messages.PRODUCT_GET_BY_IDS_DESCRIPTION)
+    public ResponseEntity<List<MultiGetEntry<ProductResponseDTO>>> getByIds(@RequestParam List<String> ids) {
+        return ResponseEntity.ok(productService.getProductsByIds(ids));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = Messages.PRODUCT_GET_BY_ID_SUMMARY, description = Messages.PRODUCT_GET_BY_ID_DESCRIPTION)
-    public ResponseEntity<ProductResponseDTO> getById(@PathVariable String id) {
-        return ResponseEntity.ok(productService.getProductById(id));
+    public ResponseEntity<ProductResponseDTO> getById(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = ETags.strong(id, productService.getProductVersion(id));
+        String matched = ETags.matching(ifNoneMatch, eTag);
+        if (matched != null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(matched).build();
+        }
+        var product = productService.getVersionedProductById(id);
+        return ResponseEntity.ok().eTag(ETags.strong(id, product.version())).body(product.product());
+    }
+
+    // Same resource as getById, served from the precompressed cache when JSON is negotiated.
+    @GetMapping(value = "/{id}", headers = HttpHeaders.ACCEPT_ENCODING)
+    @Operation(hidden = true)
+    public ResponseEntity<?> getByIdPrecompressed(
+            @PathVariable String id,
+            @RequestHeader(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (!PrecompressedBodyCache.prefersJson(accept)) {
+            return getById(id, ifNoneMatch);
+        }
+        long version = productService.getProductVersion(id);
+        String eTag = ETags.strong(id, version);
+        String matched = ETags.matching(ifNoneMatch, eTag);
+        if (matched != null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(matched).build();
+        }
+
+        var body = bodyCache.get(cacheKey(id), version, PrecompressedBodyCache.acceptsGzip(acceptEncoding),
+                () -> load(id));
+        String bodyTag = ETags.strong(id, body.version());
+        var response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (body.gzipped()) {
+            response.eTag(ETags.variant(bodyTag, GZIP)).header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        } else {
+            response.eTag(bodyTag);
+        }
+        return response.body(body.bytes());
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    @Operation(summary = Messages.PRODUCT_GET_BY_ID_FIELDS_SUMMARY, description = Messages.PRODUCT_FIELDS_DESCRIPTION)
+    public ResponseEntity<Map<String, Object>> getByIdWithFields(
+            @PathVariable String id, @RequestParam String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = ETags.strong(id, productService.getProductVersion(id));
+        String matched = ETags.matching(ifNoneMatch, eTag);
+        if (matched != null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(matched).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(productService.getProductById(id, fields));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = Messages.PRODUCT_EXPORT_SUMMARY, description = Messages.PRODUCT_EXPORT_DESCRIPTION)
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ndjsonWriter.stream(productService::exportProducts);
     }
 
     @PostMapping
@@ -55,16 +164,31 @@ public class ProductController {
         return ResponseEntity.status(HttpStatus.CREATED).body(productService.createProduct(dto));
     }
 
+    // The body is parsed as it arrives and the per-item results are spooled to disk, then sent
+    // with the summary as the last line once the upload has been read, so clients that only
+    // read after sending their whole body work too.
+    @PostMapping(value = "/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = Messages.PRODUCT_BULK_CREATE_SUMMARY, description = Messages.PRODUCT_BULK_CREATE_DESCRIPTION)
+    public ResponseEntity<StreamingResponseBody> bulkCreate(HttpServletRequest request) throws IOException {
+        InputStream body = request.getInputStream();
+        return ndjsonWriter.<ProductBulkResultDTO>spool(sink -> productBulkImportService.importProducts(body, sink));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = Messages.PRODUCT_UPDATE_SUMMARY, description = Messages.PRODUCT_UPDATE_DESCRIPTION)
     public ResponseEntity<ProductResponseDTO> update(@PathVariable String id, @RequestBody @Valid ProductRequestDTO dto) {
-        return ResponseEntity.ok(productService.updateProduct(id, dto));
+        ProductResponseDTO updated = productService.updateProduct(id, dto);
+        bodyCache.evict(cacheKey(id));
+        return ResponseEntity.ok(updated);
     }
 
     @DeleteMapping("/{id}")
     @Operation(summary = Messages.PRODUCT_DELETE_SUMMARY, description = Messages.PRODUCT_DELETE_DESCRIPTION)
     public ResponseEntity<Void> delete(@PathVariable String id) {
         productService.deleteProduct(id);
+        bodyCache.evict(cacheKey(id));
         return ResponseEntity.noContent().build();
     }
 
@@ -97,4 +221,13 @@ public class ProductController {
     public ResponseEntity<List<ProductResponseDTO>> productsByPriceRange(@RequestParam Double min, @RequestParam Double max) {
         return ResponseEntity.ok(productService.getProductsByPriceRange(min, max));
     }
-}
\ No newline at end of file
+
+    private PrecompressedBodyCache.Loaded load(String id) {
+        var product = productService.getVersionedProductById(id);
+        return new PrecompressedBodyCache.Loaded(product.product(), product.version());
+    }
+
+    private static String cacheKey(String id) {
+        return "products/" + id;
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.souzafcharles.api.endpoint.product.controller;
+
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.repository.ProductReactiveRepository;
+import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
+import com.github.souzafcharles.api.utils.Messages;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/reactive/products")
+@Tag(name = "Reactive Read API", description = Messages.REACTIVE_TAG_DESCRIPTION)
+public class ProductReactiveController {
+
+    private final ProductReactiveRepository productReactiveRepository;
+
+    public ProductReactiveController(ProductReactiveRepository productReactiveRepository) {
+        this.productReactiveRepository = productReactiveRepository;
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = Messages.REACTIVE_PRODUCT_GET_ALL_SUMMARY)
+    public Flux<ProductResponseDTO> getAll() {
+        return productReactiveRepository.findAll();
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = Messages.REACTIVE_PRODUCT_GET_BY_ID_SUMMARY)
+    public Mono<ProductResponseDTO> getById(@PathVariable String id) {
+        return productReactiveRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> ResourceNotFoundException.forProduct(id)));
+    }
+}
@@ -4,19 +4,20 @@ import com.github.souzafcharles.api.client.FakeStoreClient;
 import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
 import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
 import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
+import com.github.souzafcharles.api.endpoint.product.sync.ProductSynchronizer;
 import com.github.souzafcharles.api.utils.Messages;
 import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
 import java.util.List;
 
 @Component("productDataInitializer")
 public class ProductDataInitializer {
 
     private static final Logger log = LoggerFactory.getLogger(ProductDataInitializer.class);
+    private static final int BATCH_SIZE = 100;
 
     private final ProductRepository productRepository;
     private final FakeStoreClient fakeStoreClient;
@@ -33,26 +34,32 @@ public class ProductDataInitializer {
             return;
         }
 
-        ProductResponseDTO[] products = fakeStoreClient.getAllProducts().block();
-        if (products == null || products.length == 0) {
+        int saved = 0;
+        for (List<ProductResponseDTO> batch : fakeStoreClient.streamAllProducts()
+                .buffer(BATCH_SIZE)
+                .toIterable(1)) {
+            List<Product> entities = batch.stream()
+                    .map(dto -> {
+                        Product product = new Product();
+                        product.setId(dto.id());
+                        product.setTitle(dto.title());
+                        product.setPrice(dto.price());
+                        product.setDescription(dto.description());
+                        product.setCategory(dto.category());
+                        product.setImage(dto.image());
+                        product.setSyncHash(ProductSynchronizer.hash(dto));
+                        return product;
+                    })
+                    .toList();
+
+            productRepository.saveAll(entities);
+            saved += entities.size();
+        }
+
+        if (saved == 0) {
             log.warn(Messages.PRODUCT_NO_RETURNED);
             return;
         }
-
-        List<Product> entities = Arrays.stream(products)
-                .map(dto -> {
-                    Product product = new Product();
-                    product.setId(dto.id());
-                    product.setTitle(dto.title());
-                    product.setPrice(dto.price());
-                    product.setDescription(dto.description());
-                    product.setCategory(dto.category());
-                    product.setImage(dto.image());
-                    return product;
-                })
-                .toList();
-
-        productRepository.saveAll(entities);
-        log.info(Messages.PRODUCT_SAVED_SUCCESS, entities.size());
+        log.info(Messages.PRODUCT_SAVED_SUCCESS, saved);
     }
 }
\ No newline at end of file
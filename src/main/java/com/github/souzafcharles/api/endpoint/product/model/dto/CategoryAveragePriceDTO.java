@@ -0,0 +1,8 @@
+package com.github.souzafcharles.api.endpoint.product.model.dto;
+
+import java.io.Serializable;
+
+public record CategoryAveragePriceDTO(
+        String category,
+        Double averagePrice
+) implements Serializable { }
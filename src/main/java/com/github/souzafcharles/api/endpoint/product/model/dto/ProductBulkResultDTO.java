@@ -0,0 +1,26 @@
+package com.github.souzafcharles.api.endpoint.product.model.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+public record ProductBulkResultDTO(
+        int index,
+        String id,
+        Status status,
+        List<String> errors
+) implements Serializable {
+
+    public enum Status { CREATED, INVALID, FAILED }
+
+    public static ProductBulkResultDTO created(int index, String id) {
+        return new ProductBulkResultDTO(index, id, Status.CREATED, List.of());
+    }
+
+    public static ProductBulkResultDTO invalid(int index, List<String> errors) {
+        return new ProductBulkResultDTO(index, null, Status.INVALID, errors);
+    }
+
+    public static ProductBulkResultDTO failed(int index, String error) {
+        return new ProductBulkResultDTO(index, null, Status.FAILED, List.of(error));
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.souzafcharles.api.endpoint.product.model.dto;
+
+import java.io.Serializable;
+
+public record ProductBulkSummaryDTO(
+        int received,
+        int created,
+        int invalid,
+        int failed
+) implements Serializable {
+
+    public static final ProductBulkSummaryDTO EMPTY = new ProductBulkSummaryDTO(0, 0, 0, 0);
+
+    public ProductBulkSummaryDTO plus(ProductBulkSummaryDTO other) {
+        return new ProductBulkSummaryDTO(
+                received + other.received,
+                created + other.created,
+                invalid + other.invalid,
+                failed + other.failed
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.souzafcharles.api.endpoint.product.model.dto;
+
+import java.io.Serializable;
+
+/**
+ * A product together with the entity version it was read at, so that the ETag always
+ * describes the body it is sent with.
+ */
+public record VersionedProductDTO(
+        ProductResponseDTO product,
+        long version
+) implements Serializable {
+    public VersionedProductDTO(String id, String title, Double price, String description,
+                               String category, String image, Long version) {
+        this(new ProductResponseDTO(id, title, price, description, category, image), version);
+    }
+}
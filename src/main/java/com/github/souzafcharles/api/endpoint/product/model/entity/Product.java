@@ -1,14 +1,19 @@
 package com.github.souzafcharles.api.endpoint.product.model.entity;
 
 import com.github.souzafcharles.api.endpoint.cartproduct.model.entity.CartProduct;
+import com.github.souzafcharles.api.persistence.TableVersionListener;
+import com.github.souzafcharles.api.utils.TimeOrderedIds;
 import jakarta.persistence.*;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 @Entity
-@Table(name = "tb_product")
+@Table(name = "tb_product", indexes = {
+        @Index(name = "idx_product_price", columnList = "price"),
+        @Index(name = "idx_product_category_price", columnList = "category, price")
+})
+@EntityListeners(TableVersionListener.class)
 public class Product {
 
     @Id
@@ -28,6 +33,12 @@ public class Product {
 
     private String image;
 
+    @Column(name = "sync_hash", length = 64)
+    private String syncHash;
+
+    @Version
+    private Long version;
+
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<CartProduct> cartProducts = new ArrayList<>();
 
@@ -36,7 +47,7 @@ public class Product {
     @PrePersist
     public void generateIdIfNull() {
         if (this.id == null) {
-            this.id = UUID.randomUUID().toString();
+            this.id = TimeOrderedIds.next();
         }
     }
 
@@ -96,4 +107,20 @@ public class Product {
     public void setCartProducts(List<CartProduct> cartProducts) {
         this.cartProducts = cartProducts;
     }
+
+    public String getSyncHash() {
+        return syncHash;
+    }
+
+    public void setSyncHash(String syncHash) {
+        this.syncHash = syncHash;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
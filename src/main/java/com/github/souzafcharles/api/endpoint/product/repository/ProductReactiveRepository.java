@@ -0,0 +1,45 @@
+package com.github.souzafcharles.api.endpoint.product.repository;
+
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.persistence.ReactiveDatabase;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public class ProductReactiveRepository {
+
+    private static final String SELECT = "SELECT id, title, price, description, category, image FROM tb_product";
+
+    private final DatabaseClient client;
+
+    public ProductReactiveRepository(ReactiveDatabase reactiveDatabase) {
+        this.client = reactiveDatabase.client();
+    }
+
+    public Flux<ProductResponseDTO> findAll() {
+        return client.sql(SELECT + " ORDER BY id")
+                .map(ProductReactiveRepository::toDto)
+                .all();
+    }
+
+    public Mono<ProductResponseDTO> findById(String id) {
+        return client.sql(SELECT + " WHERE id = :id")
+                .bind("id", id)
+                .map(ProductReactiveRepository::toDto)
+                .one();
+    }
+
+    private static ProductResponseDTO toDto(Readable row) {
+        return new ProductResponseDTO(
+                row.get("id", String.class),
+                row.get("title", String.class),
+                row.get("price", Double.class),
+                row.get("description", String.class),
+                row.get("category", String.class),
+                row.get("image", String.class)
+        );
+    }
+}
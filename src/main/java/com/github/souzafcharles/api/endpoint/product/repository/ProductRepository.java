@@ -1,16 +1,77 @@
 package com.github.souzafcharles.api.endpoint.product.repository;
 
+import com.github.souzafcharles.api.endpoint.product.model.dto.CategoryAveragePriceDTO;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.model.dto.VersionedProductDTO;
 import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
+import com.github.souzafcharles.api.persistence.FullScan;
+import com.github.souzafcharles.api.persistence.StreamingHints;
+import com.github.souzafcharles.api.sync.SyncState;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, String> {
-    List<Product> findByTitleContainingIgnoreCase(String title);
-    List<Product> findAllByOrderByPriceDesc();
-    List<Product> findAllByOrderByPriceAsc();
-    List<Product> findByPriceBetween(Double minPrice, Double maxPrice);
-    List<Product> findByDescriptionContainingIgnoreCase(String keyword);
+
+    String SELECT_DTO = "SELECT new com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO("
+            + "p.id, p.title, p.price, p.description, p.category, p.image) FROM Product p ";
+
+    @Query("SELECT new com.github.souzafcharles.api.endpoint.product.model.dto.VersionedProductDTO("
+            + "p.id, p.title, p.price, p.description, p.category, p.image, p.version) FROM Product p WHERE p.id = :id")
+    Optional<VersionedProductDTO> findVersionedDtoById(String id);
+
+    @Query(SELECT_DTO + "WHERE p.id IN :ids")
+    List<ProductResponseDTO> findDtosByIdIn(Collection<String> ids);
+
+    @FullScan
+    @Query(value = SELECT_DTO, countQuery = "SELECT COUNT(p) FROM Product p")
+    Page<ProductResponseDTO> findDtoPage(Pageable pageable);
+
+    // % and _ in the keyword are matched literally
+    @FullScan
+    @Query(SELECT_DTO + "WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :#{escape(#keyword)}, '%')) ESCAPE :#{escapeCharacter()} "
+            + "OR LOWER(p.description) LIKE LOWER(CONCAT('%', :#{escape(#keyword)}, '%')) ESCAPE :#{escapeCharacter()} ORDER BY p.id")
+    List<ProductResponseDTO> searchDtos(String keyword);
+
+    @Query(SELECT_DTO + "ORDER BY p.price DESC, p.id")
+    List<ProductResponseDTO> findDtosOrderByPriceDesc(Limit limit);
+
+    @Query(SELECT_DTO + "ORDER BY p.price ASC, p.id")
+    List<ProductResponseDTO> findDtosOrderByPriceAsc(Limit limit);
+
+    @Query(SELECT_DTO + "WHERE p.price BETWEEN :minPrice AND :maxPrice ORDER BY p.id")
+    List<ProductResponseDTO> findDtosByPriceBetween(Double minPrice, Double maxPrice);
+
+    // Served from idx_product_category_price alone, without touching the table rows.
+    @FullScan
+    @Query("SELECT new com.github.souzafcharles.api.endpoint.product.model.dto.CategoryAveragePriceDTO("
+            + "p.category, AVG(p.price)) FROM Product p GROUP BY p.category ORDER BY p.category")
+    List<CategoryAveragePriceDTO> findAveragePricePerCategory();
+
+    @Query("SELECT p.version FROM Product p WHERE p.id = :id")
+    Optional<Long> findVersionById(String id);
+
+    @FullScan
+    @Query("SELECT p.id AS id, p.syncHash AS syncHash FROM Product p WHERE p.syncHash IS NOT NULL")
+    List<SyncState> findSyncStates();
+
+    @FullScan
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_DTO + "ORDER BY p.id")
+    Stream<ProductResponseDTO> streamAllForExport();
 }
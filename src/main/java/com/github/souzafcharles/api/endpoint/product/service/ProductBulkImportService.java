@@ -0,0 +1,189 @@
+package com.github.souzafcharles.api.endpoint.product.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductBulkResultDTO;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductBulkSummaryDTO;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductRequestDTO;
+import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
+import com.github.souzafcharles.api.persistence.TableVersions;
+import com.github.souzafcharles.api.utils.Messages;
+import com.github.souzafcharles.api.utils.TimeOrderedIds;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Loads products from a JSON array or an NDJSON stream without holding the whole
+ * payload: items are parsed one at a time, validated in parallel per chunk, and each
+ * chunk is written with a single JDBC batch in its own transaction. A failing chunk
+ * is rolled back and reported without affecting the chunks already committed.
+ * <p>
+ * Rows are written the way {@link ProductService#createProduct} writes them: a time-ordered
+ * UUID, version 0 and no sync hash, so the catalog sync treats them as local rows.
+ */
+@Service
+public class ProductBulkImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductBulkImportService.class);
+
+    private static final String INSERT_SQL = "INSERT INTO tb_product "
+            + "(id, title, price, description, category, image, version) VALUES (?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectReader reader;
+    private final TableVersions tableVersions;
+    private final int chunkSize;
+
+    public ProductBulkImportService(JdbcTemplate jdbcTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    Validator validator,
+                                    ObjectMapper objectMapper,
+                                    TableVersions tableVersions,
+                                    @Value("${fakestore.bulk.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.reader = objectMapper.readerFor(ProductRequestDTO.class);
+        this.tableVersions = tableVersions;
+        this.chunkSize = chunkSize;
+    }
+
+    public ProductBulkSummaryDTO importProducts(InputStream body, Consumer<ProductBulkResultDTO> sink) {
+        ProductBulkSummaryDTO summary = ProductBulkSummaryDTO.EMPTY;
+        List<Item> chunk = new ArrayList<>(chunkSize);
+        int index = 0;
+
+        try (MappingIterator<ProductRequestDTO> items = reader.readValues(body)) {
+            boolean previousMalformed = false;
+            while (true) {
+                try {
+                    if (!items.hasNextValue()) {
+                        break;
+                    }
+                } catch (JsonProcessingException e) {
+                    // A syntax error leaves no next item to resync to. If it already failed
+                    // the previous item it is not reported a second time.
+                    if (!previousMalformed) {
+                        chunk.add(malformed(index, e));
+                    }
+                    break;
+                }
+                try {
+                    chunk.add(new Item(index, items.nextValue(), null));
+                    previousMalformed = false;
+                } catch (JsonProcessingException e) {
+                    chunk.add(malformed(index, e));
+                    previousMalformed = true;
+                }
+                index++;
+                if (chunk.size() == chunkSize) {
+                    summary = summary.plus(process(chunk, sink));
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (!chunk.isEmpty()) {
+            summary = summary.plus(process(chunk, sink));
+        }
+        log.info(Messages.PRODUCT_BULK_FINISHED,
+                summary.received(), summary.created(), summary.invalid(), summary.failed());
+        return summary;
+    }
+
+    private static Item malformed(int index, JsonProcessingException e) {
+        return new Item(index, null, Messages.PRODUCT_BULK_MALFORMED_ITEM + e.getOriginalMessage());
+    }
+
+    private ProductBulkSummaryDTO process(List<Item> chunk, Consumer<ProductBulkResultDTO> sink) {
+        List<ProductBulkResultDTO> results = chunk.parallelStream()
+                .map(this::validate)
+                .toList();
+
+        List<Row> rows = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            ProductBulkResultDTO result = results.get(i);
+            if (result.status() == ProductBulkResultDTO.Status.CREATED) {
+                rows.add(new Row(result.id(), chunk.get(i).request()));
+            }
+        }
+
+        int failed = 0;
+        if (!rows.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(rows));
+                tableVersions.increment(Product.class);
+            } catch (DataAccessException e) {
+                String error = e.getMostSpecificCause().getMessage();
+                log.warn(Messages.PRODUCT_BULK_CHUNK_FAILED, chunk.getFirst().index(), error);
+                results = results.stream()
+                        .map(r -> r.status() == ProductBulkResultDTO.Status.CREATED
+                                ? ProductBulkResultDTO.failed(r.index(), error)
+                                : r)
+                        .toList();
+                failed = rows.size();
+            }
+        }
+
+        results.forEach(sink);
+        int invalid = results.size() - rows.size();
+        return new ProductBulkSummaryDTO(results.size(), rows.size() - failed, invalid, failed);
+    }
+
+    private ProductBulkResultDTO validate(Item item) {
+        if (item.parseError() != null) {
+            return ProductBulkResultDTO.invalid(item.index(), List.of(item.parseError()));
+        }
+        if (item.request() == null) {
+            return ProductBulkResultDTO.invalid(item.index(), List.of(Messages.PRODUCT_BULK_NULL_ITEM));
+        }
+        List<String> errors = validator.validate(item.request()).stream()
+                .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                .map(ProductBulkImportService::describe)
+                .toList();
+        return errors.isEmpty()
+                ? ProductBulkResultDTO.created(item.index(), TimeOrderedIds.next())
+                : ProductBulkResultDTO.invalid(item.index(), errors);
+    }
+
+    private void insert(List<Row> rows) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ProductRequestDTO dto = row.request();
+            ps.setString(1, row.id());
+            ps.setString(2, dto.title());
+            ps.setDouble(3, dto.price());
+            ps.setString(4, dto.description());
+            ps.setString(5, dto.category());
+            ps.setString(6, dto.image());
+        });
+    }
+
+    private static String describe(ConstraintViolation<ProductRequestDTO> violation) {
+        return violation.getPropertyPath() + ": " + violation.getMessage();
+    }
+
+    private record Item(int index, ProductRequestDTO request, String parseError) { }
+
+    private record Row(String id, ProductRequestDTO request) { }
+}
@@ -1,45 +1,107 @@
 package com.github.souzafcharles.api.endpoint.product.service;
 
 import com.github.souzafcharles.api.client.FakeStoreClient;
+import com.github.souzafcharles.api.concurrency.Coalesced;
+import com.github.souzafcharles.api.concurrency.ConcurrencyLimited;
+import com.github.souzafcharles.api.endpoint.product.model.dto.CategoryAveragePriceDTO;
 import com.github.souzafcharles.api.endpoint.product.model.dto.ProductRequestDTO;
 import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.model.dto.VersionedProductDTO;
 import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
 import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
+import com.github.souzafcharles.api.exceptions.custom.InvalidRequestException;
 import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
+import com.github.souzafcharles.api.persistence.AnalyticsQuery;
+import com.github.souzafcharles.api.persistence.ProjectionQueries;
+import com.github.souzafcharles.api.persistence.SparseFieldset;
+import com.github.souzafcharles.api.persistence.TableVersions;
+import com.github.souzafcharles.api.utils.Messages;
+import com.github.souzafcharles.api.web.MultiGetEntry;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class ProductService {
 
+    private static final SparseFieldset FIELDS =
+            SparseFieldset.of(Product.class, "title", "price", "description", "category", "image");
+
     private final ProductRepository productRepository;
+    private final TableVersions tableVersions;
+    private final ProjectionQueries projectionQueries;
 
-    public ProductService(ProductRepository productRepository) {
+    public ProductService(ProductRepository productRepository,
+                          TableVersions tableVersions,
+                          ProjectionQueries projectionQueries) {
         this.productRepository = productRepository;
+        this.tableVersions = tableVersions;
+        this.projectionQueries = projectionQueries;
     }
 
+    @Coalesced
+    @Transactional(readOnly = true)
     public Page<ProductResponseDTO> getAllProducts(Pageable pageable) {
-        List<ProductResponseDTO> allProducts = productRepository.findAll()
-                .stream()
-                .map(ProductResponseDTO::new)
-                .toList();
+        return productRepository.findDtoPage(FIELDS.pageable(pageable));
+    }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), allProducts.size());
-        return new PageImpl<>(allProducts.subList(start, end), pageable, allProducts.size());
+    @Coalesced
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllProducts(Pageable pageable, String fields) {
+        return projectionQueries.findPage(FIELDS, FIELDS.select(fields), pageable);
     }
 
-    public ProductResponseDTO getProductById(String id) {
-        Product product = productRepository.findById(id)
+    @Coalesced
+    @Transactional(readOnly = true)
+    public long getProductVersion(String id) {
+        return productRepository.findVersionById(id)
                 .orElseThrow(() -> ResourceNotFoundException.forProduct(id));
-        return new ProductResponseDTO(product);
+    }
+
+    // In-memory counter: no transaction, so list requests answered with 304 never borrow a connection
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String getProductsTableVersion() {
+        return tableVersions.tag(Product.class);
+    }
+
+    // The version comes from the same read as the body: a coalesced caller may join a flight
+    // that started before a write committed, and must not tag that body with the newer version.
+    @Coalesced
+    @Transactional(readOnly = true)
+    public VersionedProductDTO getVersionedProductById(String id) {
+        return productRepository.findVersionedDtoById(id)
+                .orElseThrow(() -> ResourceNotFoundException.forProduct(id));
+    }
+
+    // Not coalesced: the caller tags the result with a version read beforehand, so it must not
+    // be handed a body from a flight that started before that version was committed.
+    @Transactional(readOnly = true)
+    public Map<String, Object> getProductById(String id, String fields) {
+        return projectionQueries.findById(FIELDS, FIELDS.select(fields), id)
+                .orElseThrow(() -> ResourceNotFoundException.forProduct(id));
+    }
+
+    @Coalesced
+    @Transactional(readOnly = true)
+    public List<MultiGetEntry<ProductResponseDTO>> getProductsByIds(List<String> ids) {
+        if (ids.size() > MultiGetEntry.MAX_IDS) {
+            throw new InvalidRequestException(String.format(Messages.EXCEPTION_TOO_MANY_IDS, MultiGetEntry.MAX_IDS, ids.size()));
+        }
+        Map<String, ProductResponseDTO> found = productRepository.findDtosByIdIn(new LinkedHashSet<>(ids)).stream()
+                .collect(Collectors.toMap(ProductResponseDTO::id, Function.identity()));
+        return ids.stream()
+                .map(id -> MultiGetEntry.of(id, found.get(id)))
+                .toList();
     }
 
     public ProductResponseDTO createProduct(ProductRequestDTO dto) {
@@ -69,40 +131,50 @@ public class ProductService {
         productRepository.delete(product);
     }
 
+    @ConcurrencyLimited
+    @Coalesced
+    @AnalyticsQuery
     public List<ProductResponseDTO> searchProducts(String keyword) {
-        Set<Product> results = new HashSet<>();
-        results.addAll(productRepository.findByTitleContainingIgnoreCase(keyword));
-        results.addAll(productRepository.findByDescriptionContainingIgnoreCase(keyword));
-        return results.stream()
-                .map(ProductResponseDTO::new)
-                .toList();
+        return productRepository.searchDtos(keyword);
     }
 
+    @ConcurrencyLimited
+    @Coalesced
+    @AnalyticsQuery
     public List<ProductResponseDTO> getTopExpensiveProducts(int topN) {
-        return productRepository.findAllByOrderByPriceDesc().stream()
-                .limit(topN)
-                .map(ProductResponseDTO::new)
-                .toList();
+        return topN > 0 ? productRepository.findDtosOrderByPriceDesc(Limit.of(topN)) : List.of();
     }
 
+    @ConcurrencyLimited
+    @Coalesced
+    @AnalyticsQuery
     public List<ProductResponseDTO> getTopCheapestProducts(int topN) {
-        return productRepository.findAllByOrderByPriceAsc().stream()
-                .limit(topN)
-                .map(ProductResponseDTO::new)
-                .toList();
+        return topN > 0 ? productRepository.findDtosOrderByPriceAsc(Limit.of(topN)) : List.of();
     }
 
+    @ConcurrencyLimited
+    @Coalesced
+    @AnalyticsQuery
     public Map<String, Double> getAveragePricePerCategory() {
-        return productRepository.findAll().stream()
-                .collect(Collectors.groupingBy(
-                        Product::getCategory,
-                        Collectors.averagingDouble(Product::getPrice)
+        return productRepository.findAveragePricePerCategory().stream()
+                .collect(Collectors.toMap(
+                        CategoryAveragePriceDTO::category,
+                        CategoryAveragePriceDTO::averagePrice,
+                        (first, second) -> first,
+                        LinkedHashMap::new
                 ));
     }
 
+    @Coalesced
+    @Transactional(readOnly = true)
     public List<ProductResponseDTO> getProductsByPriceRange(Double min, Double max) {
-        return productRepository.findByPriceBetween(min, max).stream()
-                .map(ProductResponseDTO::new)
-                .toList();
+        return productRepository.findDtosByPriceBetween(min, max);
+    }
+
+    @AnalyticsQuery
+    public void exportProducts(Consumer<ProductResponseDTO> sink) {
+        try (Stream<ProductResponseDTO> products = productRepository.streamAllForExport()) {
+            products.forEach(sink);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,95 @@
+package com.github.souzafcharles.api.endpoint.product.sync;
+
+import com.github.souzafcharles.api.client.FakeStoreClient;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
+import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
+import com.github.souzafcharles.api.sync.EntitySynchronizer;
+import com.github.souzafcharles.api.sync.SyncResult;
+import com.github.souzafcharles.api.sync.SyncState;
+import com.github.souzafcharles.api.utils.ContentHash;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class ProductSynchronizer extends EntitySynchronizer<ProductResponseDTO> {
+
+    private final ProductRepository productRepository;
+    private final FakeStoreClient fakeStoreClient;
+
+    public ProductSynchronizer(ProductRepository productRepository,
+                               FakeStoreClient fakeStoreClient,
+                               TransactionTemplate transactionTemplate) {
+        super(transactionTemplate);
+        this.productRepository = productRepository;
+        this.fakeStoreClient = fakeStoreClient;
+    }
+
+    public static String hash(ProductResponseDTO dto) {
+        return ContentHash.of(dto.title(), dto.price(), dto.description(), dto.category(), dto.image());
+    }
+
+    @Override
+    public String name() {
+        return "Product";
+    }
+
+    @Override
+    protected Flux<ProductResponseDTO> fetchUpstream() {
+        return fakeStoreClient.streamAllProducts();
+    }
+
+    @Override
+    protected String idOf(ProductResponseDTO dto) {
+        return dto.id();
+    }
+
+    @Override
+    protected String hashOf(ProductResponseDTO dto) {
+        return hash(dto);
+    }
+
+    @Override
+    protected List<SyncState> findSyncStates() {
+        return productRepository.findSyncStates();
+    }
+
+    @Override
+    protected SyncResult upsert(List<ProductResponseDTO> changed) {
+        Map<String, Product> existing = productRepository.findAllById(changed.stream().map(ProductResponseDTO::id).toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<Product> entities = new ArrayList<>(changed.size());
+        for (ProductResponseDTO dto : changed) {
+            Product product = existing.get(dto.id());
+            if (product == null) {
+                product = new Product();
+                product.setId(dto.id());
+            }
+            product.setTitle(dto.title());
+            product.setPrice(dto.price());
+            product.setDescription(dto.description());
+            product.setCategory(dto.category());
+            product.setImage(dto.image());
+            product.setSyncHash(hash(dto));
+            entities.add(product);
+        }
+
+        productRepository.saveAll(entities);
+        return new SyncResult(changed.size() - existing.size(), existing.size(), 0);
+    }
+
+    @Override
+    protected void delete(Collection<String> ids) {
+        productRepository.deleteAllById(ids);
+    }
+}
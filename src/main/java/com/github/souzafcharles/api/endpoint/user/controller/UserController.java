@@ -4,6 +4,11 @@ import com.github.souzafcharles.api.endpoint.user.model.dto.UserRequestDTO;
 import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
 import com.github.souzafcharles.api.endpoint.user.service.UserService;
 import com.github.souzafcharles.api.utils.Messages;
+import com.github.souzafcharles.api.web.ETags;
+import com.github.souzafcharles.api.web.MultiGetEntry;
+import com.github.souzafcharles.api.web.NdjsonWriter;
+import com.github.souzafcharles.api.web.SelfLinkTemplate;
+import com.github.souzafcharles.api.web.SparseModels;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -11,45 +16,111 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.hateoas.server.core.EmbeddedWrapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/users")
 @Tag(name = "User API", description = Messages.USER_TAG_DESCRIPTION)
 public class UserController {
 
+    private static final SelfLinkTemplate SELF_LINKS = SelfLinkTemplate.of(UserController.class);
+
     private final UserService userService;
+    private final NdjsonWriter ndjsonWriter;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, NdjsonWriter ndjsonWriter) {
         this.userService = userService;
+        this.ndjsonWriter = ndjsonWriter;
     }
 
     @GetMapping
     @Operation(summary = Messages.USER_GET_ALL_SUMMARY, description = Messages.USER_GET_ALL_DESCRIPTION)
     public ResponseEntity<PagedModel<EntityModel<UserResponseDTO>>> getAll(
             Pageable pageable,
-            PagedResourcesAssembler<UserResponseDTO> assembler
+            PagedResourcesAssembler<UserResponseDTO> assembler,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
+        String eTag = ETags.weak("users", userService.getUsersTableVersion());
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         var page = userService.getAllUsers(pageable);
-        var model = assembler.toModel(page, user ->
-                EntityModel.of(user, WebMvcLinkBuilder.linkTo(
-                        WebMvcLinkBuilder.methodOn(UserController.class).getById(user.id())
-                ).withSelfRel())
-        );
+        var selfLink = SELF_LINKS.resolve();
+        var model = assembler.toModel(page, user -> EntityModel.of(user, selfLink.apply(user.id())));
+        return page.isEmpty()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.ok().eTag(eTag).body(model);
+    }
+
+    @GetMapping(params = {"fields", "!ids"})
+    @Operation(summary = Messages.USER_GET_ALL_FIELDS_SUMMARY, description = Messages.USER_FIELDS_DESCRIPTION)
+    public ResponseEntity<PagedModel<EmbeddedWrapper>> getAllWithFields(
+            @RequestParam String fields,
+            Pageable pageable,
+            PagedResourcesAssembler<Map<String, Object>> assembler,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        String eTag = ETags.weak("users", userService.getUsersTableVersion());
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        var page = userService.getAllUsers(pageable, fields);
+        var model = SparseModels.toModel(assembler, page, SELF_LINKS.resolve(), UserResponseDTO.class);
         return page.isEmpty()
                 ? ResponseEntity.noContent().build()
-                : ResponseEntity.ok(model);
+                : ResponseEntity.ok().eTag(eTag).body(model);
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(summary = Messages.USER_GET_BY_IDS_SUMMARY, description = Messages.USER_GET_BY_IDS_DESCRIPTION)
+    public ResponseEntity<List<MultiGetEntry<UserResponseDTO>>> getByIds(@RequestParam List<String> ids) {
+        return ResponseEntity.ok(userService.getUsersByIds(ids));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = Messages.USER_GET_BY_ID_SUMMARY, description = Messages.USER_GET_BY_ID_DESCRIPTION)
-    public ResponseEntity<UserResponseDTO> getById(@PathVariable String id) {
-        return ResponseEntity.ok(userService.getUserById(id));
+    public ResponseEntity<UserResponseDTO> getById(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        String eTag = ETags.strong(id, userService.getUserVersion(id));
+        String matched = ETags.matching(ifNoneMatch, eTag);
+        if (matched != null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(matched).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(userService.getUserById(id));
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    @Operation(summary = Messages.USER_GET_BY_ID_FIELDS_SUMMARY, description = Messages.USER_FIELDS_DESCRIPTION)
+    public ResponseEntity<Map<String, Object>> getByIdWithFields(
+            @PathVariable String id,
+            @RequestParam String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        String eTag = ETags.strong(id, userService.getUserVersion(id));
+        String matched = ETags.matching(ifNoneMatch, eTag);
+        if (matched != null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(matched).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(userService.getUserById(id, fields));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = Messages.USER_EXPORT_SUMMARY, description = Messages.USER_EXPORT_DESCRIPTION)
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ndjsonWriter.stream(userService::exportUsers);
     }
 
     @PostMapping
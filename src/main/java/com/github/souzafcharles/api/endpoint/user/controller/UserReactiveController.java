@@ -0,0 +1,40 @@
+package com.github.souzafcharles.api.endpoint.user.controller;
+
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import com.github.souzafcharles.api.endpoint.user.repository.UserReactiveRepository;
+import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
+import com.github.souzafcharles.api.utils.Messages;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/reactive/users")
+@Tag(name = "Reactive Read API", description = Messages.REACTIVE_TAG_DESCRIPTION)
+public class UserReactiveController {
+
+    private final UserReactiveRepository userReactiveRepository;
+
+    public UserReactiveController(UserReactiveRepository userReactiveRepository) {
+        this.userReactiveRepository = userReactiveRepository;
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = Messages.REACTIVE_USER_GET_ALL_SUMMARY)
+    public Flux<UserResponseDTO> getAll() {
+        return userReactiveRepository.findAll();
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = Messages.REACTIVE_USER_GET_BY_ID_SUMMARY)
+    public Mono<UserResponseDTO> getById(@PathVariable String id) {
+        return userReactiveRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> ResourceNotFoundException.forUser(id)));
+    }
+}
@@ -4,19 +4,20 @@ import com.github.souzafcharles.api.client.FakeStoreClient;
 import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
 import com.github.souzafcharles.api.endpoint.user.model.entity.User;
 import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
+import com.github.souzafcharles.api.endpoint.user.sync.UserSynchronizer;
 import com.github.souzafcharles.api.utils.Messages;
 import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
 import java.util.List;
 
 @Component("userDataInitializer")
 public class UserDataInitializer {
 
     private static final Logger log = LoggerFactory.getLogger(UserDataInitializer.class);
+    private static final int BATCH_SIZE = 100;
 
     private final UserRepository userRepository;
     private final FakeStoreClient fakeStoreClient;
@@ -33,24 +34,30 @@ public class UserDataInitializer {
             return;
         }
 
-        UserResponseDTO[] users = fakeStoreClient.getAllUsers().block();
-        if (users == null || users.length == 0) {
+        int saved = 0;
+        for (List<UserResponseDTO> batch : fakeStoreClient.streamAllUsers()
+                .buffer(BATCH_SIZE)
+                .toIterable(1)) {
+            List<User> entities = batch.stream()
+                    .map(dto -> {
+                        User user = new User();
+                        user.setId(dto.id());
+                        user.setUsername(dto.username());
+                        user.setEmail(dto.email());
+                        user.setPassword("123456");
+                        user.setSyncHash(UserSynchronizer.hash(dto));
+                        return user;
+                    })
+                    .toList();
+
+            userRepository.saveAll(entities);
+            saved += entities.size();
+        }
+
+        if (saved == 0) {
             log.warn(Messages.USER_NO_RETURNED);
             return;
         }
-
-        List<User> entities = Arrays.stream(users)
-                .map(dto -> {
-                    User user = new User();
-                    user.setId(dto.id());
-                    user.setUsername(dto.username());
-                    user.setEmail(dto.email());
-                    user.setPassword("123456");
-                    return user;
-                })
-                .toList();
-
-        userRepository.saveAll(entities);
-        log.info(Messages.USER_SAVED_SUCCESS, entities.size());
+        log.info(Messages.USER_SAVED_SUCCESS, saved);
     }
 }
\ No newline at end of file
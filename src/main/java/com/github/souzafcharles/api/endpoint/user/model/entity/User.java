@@ -1,14 +1,16 @@
 package com.github.souzafcharles.api.endpoint.user.model.entity;
 
 import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
+import com.github.souzafcharles.api.persistence.TableVersionListener;
+import com.github.souzafcharles.api.utils.TimeOrderedIds;
 import jakarta.persistence.*;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 @Entity
 @Table(name = "tb_user")
+@EntityListeners(TableVersionListener.class)
 public class User {
 
     @Id
@@ -23,13 +25,19 @@ public class User {
     @Column(nullable = false)
     private String password;
 
+    @Column(name = "sync_hash", length = 64)
+    private String syncHash;
+
+    @Version
+    private Long version;
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Cart> carts = new ArrayList<>();
 
     @PrePersist
     public void generateIdIfNull() {
         if (this.id == null) {
-            this.id = UUID.randomUUID().toString();
+            this.id = TimeOrderedIds.next();
         }
     }
 
@@ -72,4 +80,20 @@ public class User {
     public void setCarts(List<Cart> carts) {
         this.carts = carts;
     }
-}
+
+    public String getSyncHash() {
+        return syncHash;
+    }
+
+    public void setSyncHash(String syncHash) {
+        this.syncHash = syncHash;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
\ No newline at end of file
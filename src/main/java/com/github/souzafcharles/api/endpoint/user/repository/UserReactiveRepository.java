@@ -0,0 +1,42 @@
+package com.github.souzafcharles.api.endpoint.user.repository;
+
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import com.github.souzafcharles.api.persistence.ReactiveDatabase;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public class UserReactiveRepository {
+
+    private static final String SELECT = "SELECT id, username, email FROM tb_user";
+
+    private final DatabaseClient client;
+
+    public UserReactiveRepository(ReactiveDatabase reactiveDatabase) {
+        this.client = reactiveDatabase.client();
+    }
+
+    public Flux<UserResponseDTO> findAll() {
+        return client.sql(SELECT + " ORDER BY id")
+                .map(UserReactiveRepository::toDto)
+                .all();
+    }
+
+    public Mono<UserResponseDTO> findById(String id) {
+        return client.sql(SELECT + " WHERE id = :id")
+                .bind("id", id)
+                .map(UserReactiveRepository::toDto)
+                .one();
+    }
+
+    private static UserResponseDTO toDto(Readable row) {
+        return new UserResponseDTO(
+                row.get("id", String.class),
+                row.get("username", String.class),
+                row.get("email", String.class)
+        );
+    }
+}
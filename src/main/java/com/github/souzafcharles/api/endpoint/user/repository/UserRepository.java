@@ -1,17 +1,69 @@
 package com.github.souzafcharles.api.endpoint.user.repository;
 
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
 import com.github.souzafcharles.api.endpoint.user.model.entity.User;
+import com.github.souzafcharles.api.persistence.FullScan;
+import com.github.souzafcharles.api.persistence.StreamingHints;
+import com.github.souzafcharles.api.sync.SyncState;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
 
-    Optional<User> findByUsername(String username);
+    String SELECT_DTO = "SELECT new com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO("
+            + "u.id, u.username, u.email) FROM User u ";
+
     Optional<User> findByEmail(String email);
-    List<User> findByUsernameContainingIgnoreCase(String keyword);
+
+    @FullScan
     long countByUsernameIsNotNull();
+
+    @Query(SELECT_DTO + "WHERE u.id = :id")
+    Optional<UserResponseDTO> findDtoById(String id);
+
+    @Query(SELECT_DTO + "WHERE u.id IN :ids")
+    List<UserResponseDTO> findDtosByIdIn(Collection<String> ids);
+
+    @FullScan
+    @Query(value = SELECT_DTO, countQuery = "SELECT COUNT(u) FROM User u")
+    Page<UserResponseDTO> findDtoPage(Pageable pageable);
+
+    @Query(SELECT_DTO + "WHERE u.username = :username")
+    Optional<UserResponseDTO> findDtoByUsername(String username);
+
+    @Query(SELECT_DTO + "WHERE u.email = :email")
+    Optional<UserResponseDTO> findDtoByEmail(String email);
+
+    // % and _ in the keyword are matched literally
+    @FullScan
+    @Query(SELECT_DTO + "WHERE LOWER(u.username) LIKE LOWER(CONCAT('%', :#{escape(#keyword)}, '%')) "
+            + "ESCAPE :#{escapeCharacter()} ORDER BY u.id")
+    List<UserResponseDTO> searchDtosByUsername(String keyword);
+
+    @Query("SELECT u.version FROM User u WHERE u.id = :id")
+    Optional<Long> findVersionById(String id);
+
+    @FullScan
+    @Query("SELECT u.id AS id, u.syncHash AS syncHash FROM User u WHERE u.syncHash IS NOT NULL")
+    List<SyncState> findSyncStates();
+
+    @FullScan
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_DTO + "ORDER BY u.id")
+    Stream<UserResponseDTO> streamAllForExport();
 }
@@ -2,45 +2,94 @@ package com.github.souzafcharles.api.endpoint.user.service;
 
 import com.github.souzafcharles.api.exceptions.custom.DatabaseException;
 import com.github.souzafcharles.api.exceptions.custom.DuplicateEmailException;
+import com.github.souzafcharles.api.exceptions.custom.InvalidRequestException;
 import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
 import com.github.souzafcharles.api.endpoint.user.model.dto.UserRequestDTO;
 import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
 import com.github.souzafcharles.api.endpoint.user.model.entity.User;
 import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
+import com.github.souzafcharles.api.persistence.AnalyticsQuery;
+import com.github.souzafcharles.api.persistence.ProjectionQueries;
+import com.github.souzafcharles.api.persistence.SparseFieldset;
+import com.github.souzafcharles.api.persistence.TableVersions;
 import com.github.souzafcharles.api.utils.Messages;
+import com.github.souzafcharles.api.web.MultiGetEntry;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class UserService {
 
+    private static final SparseFieldset FIELDS = SparseFieldset.of(User.class, "username", "email");
+
     private final UserRepository userRepository;
+    private final TableVersions tableVersions;
+    private final ProjectionQueries projectionQueries;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository,
+                       TableVersions tableVersions,
+                       ProjectionQueries projectionQueries) {
         this.userRepository = userRepository;
+        this.tableVersions = tableVersions;
+        this.projectionQueries = projectionQueries;
     }
 
+    @Transactional(readOnly = true)
     public Page<UserResponseDTO> getAllUsers(Pageable pageable) {
-        List<UserResponseDTO> allUsers = userRepository.findAll().stream()
-                .map(UserResponseDTO::new)
-                .toList();
+        return userRepository.findDtoPage(FIELDS.pageable(pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllUsers(Pageable pageable, String fields) {
+        return projectionQueries.findPage(FIELDS, FIELDS.select(fields), pageable);
+    }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), allUsers.size());
-        return new PageImpl<>(allUsers.subList(start, end), pageable, allUsers.size());
+    @Transactional(readOnly = true)
+    public long getUserVersion(String id) {
+        return userRepository.findVersionById(id)
+                .orElseThrow(() -> ResourceNotFoundException.forUser(id));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String getUsersTableVersion() {
+        return tableVersions.tag(User.class);
     }
 
+    @Transactional(readOnly = true)
     public UserResponseDTO getUserById(String id) {
-        User user = userRepository.findById(id)
+        return userRepository.findDtoById(id)
+                .orElseThrow(() -> ResourceNotFoundException.forUser(id));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Object> getUserById(String id, String fields) {
+        return projectionQueries.findById(FIELDS, FIELDS.select(fields), id)
                 .orElseThrow(() -> ResourceNotFoundException.forUser(id));
-        return new UserResponseDTO(user);
+    }
+
+    @Transactional(readOnly = true)
+    public List<MultiGetEntry<UserResponseDTO>> getUsersByIds(List<String> ids) {
+        if (ids.size() > MultiGetEntry.MAX_IDS) {
+            throw new InvalidRequestException(String.format(Messages.EXCEPTION_TOO_MANY_IDS, MultiGetEntry.MAX_IDS, ids.size()));
+        }
+        Map<String, UserResponseDTO> found = userRepository.findDtosByIdIn(new LinkedHashSet<>(ids)).stream()
+                .collect(Collectors.toMap(UserResponseDTO::id, Function.identity()));
+        return ids.stream()
+                .map(id -> MultiGetEntry.of(id, found.get(id)))
+                .toList();
     }
 
     public UserResponseDTO createUser(UserRequestDTO dto) {
@@ -90,25 +139,32 @@ public class UserService {
         }
     }
 
+    @Transactional(readOnly = true)
     public UserResponseDTO getUserByUsername(String username) {
-        return userRepository.findByUsername(username)
-                .map(UserResponseDTO::new)
+        return userRepository.findDtoByUsername(username)
                 .orElseThrow(() -> ResourceNotFoundException.forUser(username));
     }
 
+    @Transactional(readOnly = true)
     public UserResponseDTO getUserByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .map(UserResponseDTO::new)
+        return userRepository.findDtoByEmail(email)
                 .orElseThrow(() -> ResourceNotFoundException.forUser(email));
     }
 
+    @Transactional(readOnly = true)
     public List<UserResponseDTO> searchUsersByUsername(String keyword) {
-        return userRepository.findByUsernameContainingIgnoreCase(keyword).stream()
-                .map(UserResponseDTO::new)
-                .toList();
+        return userRepository.searchDtosByUsername(keyword);
     }
 
+    @Transactional(readOnly = true)
     public long countUsers() {
         return userRepository.countByUsernameIsNotNull();
     }
-}
\ No newline at end of file
+
+    @AnalyticsQuery
+    public void exportUsers(Consumer<UserResponseDTO> sink) {
+        try (Stream<UserResponseDTO> users = userRepository.streamAllForExport()) {
+            users.forEach(sink);
+        }
+    }
+}
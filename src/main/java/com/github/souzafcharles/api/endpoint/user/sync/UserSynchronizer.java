@@ -0,0 +1,93 @@
+package com.github.souzafcharles.api.endpoint.user.sync;
+
+import com.github.souzafcharles.api.client.FakeStoreClient;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import com.github.souzafcharles.api.endpoint.user.model.entity.User;
+import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
+import com.github.souzafcharles.api.sync.EntitySynchronizer;
+import com.github.souzafcharles.api.sync.SyncResult;
+import com.github.souzafcharles.api.sync.SyncState;
+import com.github.souzafcharles.api.utils.ContentHash;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class UserSynchronizer extends EntitySynchronizer<UserResponseDTO> {
+
+    private final UserRepository userRepository;
+    private final FakeStoreClient fakeStoreClient;
+
+    public UserSynchronizer(UserRepository userRepository,
+                            FakeStoreClient fakeStoreClient,
+                            TransactionTemplate transactionTemplate) {
+        super(transactionTemplate);
+        this.userRepository = userRepository;
+        this.fakeStoreClient = fakeStoreClient;
+    }
+
+    public static String hash(UserResponseDTO dto) {
+        return ContentHash.of(dto.username(), dto.email());
+    }
+
+    @Override
+    public String name() {
+        return "User";
+    }
+
+    @Override
+    protected Flux<UserResponseDTO> fetchUpstream() {
+        return fakeStoreClient.streamAllUsers();
+    }
+
+    @Override
+    protected String idOf(UserResponseDTO dto) {
+        return dto.id();
+    }
+
+    @Override
+    protected String hashOf(UserResponseDTO dto) {
+        return hash(dto);
+    }
+
+    @Override
+    protected List<SyncState> findSyncStates() {
+        return userRepository.findSyncStates();
+    }
+
+    @Override
+    protected SyncResult upsert(List<UserResponseDTO> changed) {
+        Map<String, User> existing = userRepository.findAllById(changed.stream().map(UserResponseDTO::id).toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<User> entities = new ArrayList<>(changed.size());
+        for (UserResponseDTO dto : changed) {
+            User user = existing.get(dto.id());
+            if (user == null) {
+                user = new User();
+                user.setId(dto.id());
+                user.setPassword("123456");
+            }
+            user.setUsername(dto.username());
+            user.setEmail(dto.email());
+            user.setSyncHash(hash(dto));
+            entities.add(user);
+        }
+
+        userRepository.saveAll(entities);
+        return new SyncResult(changed.size() - existing.size(), existing.size(), 0);
+    }
+
+    @Override
+    protected void delete(Collection<String> ids) {
+        userRepository.deleteAllById(ids);
+    }
+}
@@ -0,0 +1,8 @@
+package com.github.souzafcharles.api.exceptions.custom;
+
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.souzafcharles.api.exceptions.custom;
+
+import com.github.souzafcharles.api.utils.Messages;
+
+public class ServiceOverloadedException extends RuntimeException {
+
+    public ServiceOverloadedException(String limiter) {
+        super(String.format(Messages.EXCEPTION_OVERLOADED, limiter));
+    }
+}
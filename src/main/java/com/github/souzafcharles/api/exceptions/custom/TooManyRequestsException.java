@@ -0,0 +1,23 @@
+package com.github.souzafcharles.api.exceptions.custom;
+
+import com.github.souzafcharles.api.utils.Messages;
+
+import java.time.Duration;
+
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String route, Duration retryAfter) {
+        this(route, Math.max(1, (retryAfter.toMillis() + 999) / 1000));
+    }
+
+    private TooManyRequestsException(String route, long retryAfterSeconds) {
+        super(String.format(Messages.EXCEPTION_RATE_LIMITED, route, retryAfterSeconds));
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -4,6 +4,7 @@ import com.github.souzafcharles.api.exceptions.custom.*;
 import com.github.souzafcharles.api.exceptions.model.StandardError;
 import com.github.souzafcharles.api.utils.Messages;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -42,6 +43,27 @@ public class ResourceExceptionHandler {
         return buildResponse(e, Messages.ERROR_DATABASE, HttpStatus.BAD_REQUEST, request);
     }
 
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<StandardError> handleInvalidRequest(InvalidRequestException e, HttpServletRequest request) {
+        return buildResponse(e, Messages.ERROR_INVALID_REQUEST, HttpStatus.BAD_REQUEST, request);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<StandardError> handleTooManyRequests(TooManyRequestsException e, HttpServletRequest request) {
+        ResponseEntity<StandardError> response = buildResponse(e, Messages.ERROR_TOO_MANY_REQUESTS, HttpStatus.TOO_MANY_REQUESTS, request);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<StandardError> handleServiceOverloaded(ServiceOverloadedException e, HttpServletRequest request) {
+        ResponseEntity<StandardError> response = buildResponse(e, Messages.ERROR_SERVICE_OVERLOADED, HttpStatus.SERVICE_UNAVAILABLE, request);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response.getBody());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<StandardError> handleGenericException(Exception e, HttpServletRequest request) {
         return buildResponse(e, Messages.ERROR_GENERIC, HttpStatus.INTERNAL_SERVER_ERROR, request);
@@ -0,0 +1,25 @@
+package com.github.souzafcharles.api.persistence;
+
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Read-only transaction served by the analytics connection pool, for full scans and
+ * aggregations that must not hold connections needed by cart and catalog writes.
+ * See {@link WorkloadRoutingDataSource}.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Transactional(readOnly = true)
+public @interface AnalyticsQuery {
+
+    @AliasFor(annotation = Transactional.class, attribute = "timeout")
+    int timeout() default -1;
+}
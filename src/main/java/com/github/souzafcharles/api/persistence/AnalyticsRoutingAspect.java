@@ -0,0 +1,29 @@
+package com.github.souzafcharles.api.persistence;
+
+import com.github.souzafcharles.api.persistence.WorkloadRoutingDataSource.Workload;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds the analytics workload around {@link AnalyticsQuery} methods. Ordered ahead of the
+ * transaction interceptor, which acquires the connection when the transaction begins.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class AnalyticsRoutingAspect {
+
+    @Around("@annotation(com.github.souzafcharles.api.persistence.AnalyticsQuery)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        Workload previous = WorkloadRoutingDataSource.bind(Workload.ANALYTICS);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadRoutingDataSource.restore(previous);
+        }
+    }
+}
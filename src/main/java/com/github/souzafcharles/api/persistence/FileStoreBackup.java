@@ -0,0 +1,8 @@
+package com.github.souzafcharles.api.persistence;
+
+import java.time.Instant;
+
+/**
+ * One backup archive written by {@link FileStoreMaintenance#backup()}.
+ */
+public record FileStoreBackup(String file, long bytes, Instant createdAt, long durationMillis) { }
@@ -0,0 +1,23 @@
+package com.github.souzafcharles.api.persistence;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+/**
+ * {@code POST /actuator/backup} writes an online backup of the file-backed database and
+ * returns where it was written.
+ */
+@Endpoint(id = "backup")
+public class FileStoreBackupEndpoint {
+
+    private final FileStoreMaintenance maintenance;
+
+    public FileStoreBackupEndpoint(FileStoreMaintenance maintenance) {
+        this.maintenance = maintenance;
+    }
+
+    @WriteOperation
+    public FileStoreBackup backup() {
+        return maintenance.backup();
+    }
+}
@@ -0,0 +1,129 @@
+package com.github.souzafcharles.api.persistence;
+
+import com.github.souzafcharles.api.config.FileStoreProperties;
+import com.github.souzafcharles.api.exceptions.custom.DatabaseException;
+import com.github.souzafcharles.api.exceptions.custom.ServiceOverloadedException;
+import com.github.souzafcharles.api.utils.Messages;
+import org.h2.engine.SessionLocal;
+import org.h2.jdbc.JdbcConnection;
+import org.h2.mvstore.FileStore;
+import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Online backup and scheduled compaction of the file-backed H2 database.
+ * <p>
+ * {@link #backup()} runs H2's {@code BACKUP TO}, which copies a consistent MVStore snapshot into
+ * a zip archive while reads and writes continue; the archive is restored by unzipping it in place
+ * of the database file. Only the newest {@code retainedBackups} archives are kept. One backup runs
+ * at a time; a call made while one is running fails at once instead of queueing behind it.
+ * <p>
+ * MVStore never overwrites pages in place, so updated and deleted rows leave partly dead chunks
+ * behind. H2's background writer rewrites a little of them while the store is idle; {@link #compact()}
+ * rewrites up to {@code compactWriteLimit} of them on a schedule, once the live share of the chunks
+ * drops below {@code compactFillRate}, so freed space is reused instead of the file growing. Moving
+ * chunks to shrink the file is not safe while the store is open for writes, so that is left to
+ * H2's compaction on close, bounded by {@code MAX_COMPACT_TIME} in the database URL.
+ */
+public class FileStoreMaintenance {
+
+    private static final Logger log = LoggerFactory.getLogger(FileStoreMaintenance.class);
+    private static final String BACKUP_PREFIX = "fakestore-";
+    private static final String BACKUP_SUFFIX = ".zip";
+    private static final String BACKUP_LIMITER = "backup";
+    private static final DateTimeFormatter BACKUP_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmssSSS").withZone(ZoneOffset.UTC);
+
+    private final DataSource dataSource;
+    private final FileStoreProperties properties;
+    private final ReentrantLock backupLock = new ReentrantLock();
+
+    public FileStoreMaintenance(DataSource dataSource, FileStoreProperties properties) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+    }
+
+    public FileStoreBackup backup() {
+        if (!backupLock.tryLock()) {
+            throw new ServiceOverloadedException(BACKUP_LIMITER);
+        }
+        try {
+            return writeBackup();
+        } finally {
+            backupLock.unlock();
+        }
+    }
+
+    private FileStoreBackup writeBackup() {
+        Instant start = Instant.now();
+        Path target = properties.backupDirectory()
+                .resolve(BACKUP_PREFIX + BACKUP_TIMESTAMP.format(start) + BACKUP_SUFFIX)
+                .toAbsolutePath();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            Files.createDirectories(target.getParent());
+            statement.execute("BACKUP TO '" + target.toString().replace("'", "''") + "'");
+            long bytes = Files.size(target);
+            long durationMillis = Instant.now().toEpochMilli() - start.toEpochMilli();
+            log.info(Messages.FILE_STORE_BACKUP_COMPLETED, target, bytes, durationMillis);
+            deleteOldBackups();
+            return new FileStoreBackup(target.toString(), bytes, start, durationMillis);
+        } catch (SQLException | IOException e) {
+            throw new DatabaseException(e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${fakestore.file-store.compact-interval:PT1H}",
+            fixedDelayString = "${fakestore.file-store.compact-interval:PT1H}")
+    public void compact() {
+        try (Connection connection = dataSource.getConnection()) {
+            MVStore mvStore = ((SessionLocal) connection.unwrap(JdbcConnection.class).getSession())
+                    .getDatabase().getStore().getMvStore();
+            FileStore<?> fileStore = mvStore.getFileStore();
+            if (fileStore == null) {
+                return;
+            }
+            int fillRateBefore = fileStore.getChunksFillRate();
+            if (mvStore.compact(properties.compactFillRate(), (int) properties.compactWriteLimit().toBytes())) {
+                log.info(Messages.FILE_STORE_COMPACTED, fillRateBefore, fileStore.getChunksFillRate(), fileStore.size());
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.warn(Messages.FILE_STORE_COMPACTION_FAILED, e.getMessage());
+        }
+    }
+
+    private void deleteOldBackups() throws IOException {
+        List<Path> backups;
+        try (Stream<Path> files = Files.list(properties.backupDirectory())) {
+            // The timestamp in the name sorts newest first in reverse name order
+            backups = files.filter(FileStoreMaintenance::isBackup)
+                    .sorted(Comparator.comparing((Path path) -> path.getFileName().toString()).reversed())
+                    .toList();
+        }
+        for (Path old : backups.subList(Math.min(properties.retainedBackups(), backups.size()), backups.size())) {
+            Files.deleteIfExists(old);
+        }
+    }
+
+    private static boolean isBackup(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(BACKUP_PREFIX) && name.endsWith(BACKUP_SUFFIX);
+    }
+}
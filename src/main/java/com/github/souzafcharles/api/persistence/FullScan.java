@@ -0,0 +1,18 @@
+package com.github.souzafcharles.api.persistence;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a repository query that reads a whole table by design (exports, unfiltered pages,
+ * leading-wildcard searches, aggregates over every row), so {@link QueryPlanCheck} accepts a
+ * table scan in its plan.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface FullScan {
+}
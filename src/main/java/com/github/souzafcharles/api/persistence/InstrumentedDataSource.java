@@ -0,0 +1,194 @@
+package com.github.souzafcharles.api.persistence;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Proxy {@link DataSource} that reports every statement executed on its connections to
+ * {@link StatementMetrics}. Connections, statements and result sets are wrapped in JDK proxies
+ * that pass each call through; only the {@code execute*} methods are timed and only
+ * {@link ResultSet#next()} is counted, when the result set or its statement is closed.
+ * {@code unwrap} reaches the pooled driver connection as before.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private static final String BATCH = "batch";
+
+    private final StatementMetrics metrics;
+
+    public InstrumentedDataSource(DataSource target, StatementMetrics metrics) {
+        super(target);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(super.getConnection(username, password));
+    }
+
+    private Connection connection(Connection target) {
+        return proxy(Connection.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            return switch (method.getName()) {
+                case "prepareCall" -> statement(CallableStatement.class, (Statement) result, (String) args[0]);
+                case "prepareStatement" -> statement(PreparedStatement.class, (Statement) result, (String) args[0]);
+                case "createStatement" -> statement(Statement.class, (Statement) result, null);
+                default -> result;
+            };
+        });
+    }
+
+    private <T extends Statement> T statement(Class<T> type, Statement target, String preparedSql) {
+        return proxy(type, target, new StatementHandler(target, preparedSql));
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private String sql;
+        private RowCounter open;
+        private ResultSet openProxy;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.sql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (name.equals("getResultSet")) {
+                if (openProxy != null) {
+                    return openProxy;
+                }
+                ResultSet resultSet = (ResultSet) InstrumentedDataSource.invoke(target, method, args);
+                return resultSet != null ? rows(resultSet) : null;
+            }
+            if (name.equals("close")) {
+                finishRows();
+            }
+            return InstrumentedDataSource.invoke(target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            finishRows();
+            if (args != null && args.length > 0 && args[0] instanceof String statementSql) {
+                sql = statementSql;
+            }
+            String executed = sql != null ? sql : BATCH;
+            long start = System.nanoTime();
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            metrics.recordExecution(executed, System.nanoTime() - start, affectedRows(result));
+            return result instanceof ResultSet resultSet ? rows(resultSet) : result;
+        }
+
+        private ResultSet rows(ResultSet resultSet) {
+            open = new RowCounter(resultSet, sql != null ? sql : BATCH);
+            openProxy = proxy(ResultSet.class, resultSet, open);
+            return openProxy;
+        }
+
+        private void finishRows() {
+            if (open != null) {
+                open.finish();
+                open = null;
+                openProxy = null;
+            }
+        }
+    }
+
+    private final class RowCounter implements InvocationHandler {
+
+        private final ResultSet target;
+        private final String sql;
+        private long rows;
+        private boolean finished;
+
+        private RowCounter(ResultSet target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("close")) {
+                finish();
+            }
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            if (name.equals("next") && Boolean.TRUE.equals(result)) {
+                rows++;
+            }
+            return result;
+        }
+
+        private void finish() {
+            if (!finished) {
+                finished = true;
+                metrics.recordRows(sql, rows);
+            }
+        }
+    }
+
+    /**
+     * Rows affected by an update or a batch; -1 for queries, whose rows are counted as they are read.
+     */
+    private static long affectedRows(Object result) {
+        if (result instanceof Number count) {
+            return count.longValue();
+        }
+        long total = 0;
+        if (result instanceof int[] counts) {
+            for (int count : counts) {
+                total += Math.max(count, 0);
+            }
+            return total;
+        }
+        if (result instanceof long[] counts) {
+            for (long count : counts) {
+                total += Math.max(count, 0);
+            }
+            return total;
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    // Identity of the proxy itself, so pools and transaction managers can compare it
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> target.toString();
+                    default -> handler.invoke(proxy, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
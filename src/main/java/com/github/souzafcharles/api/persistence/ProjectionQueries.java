@@ -0,0 +1,100 @@
+package com.github.souzafcharles.api.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads only the columns behind the selected fields of a {@link SparseFieldset}, returning
+ * one mutable map per row keyed by field name so derived fields can be added afterwards.
+ */
+@Component
+public class ProjectionQueries {
+
+    private final EntityManager entityManager;
+
+    public ProjectionQueries(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public Page<Map<String, Object>> findPage(SparseFieldset fieldset, List<String> fields, Pageable pageable) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<?> root = query.from(fieldset.entityType());
+        query.multiselect(selections(root, fieldset, fields));
+        query.orderBy(QueryUtils.toOrders(fieldset.sort(pageable.getSort()), root, builder));
+
+        TypedQuery<Tuple> typed = entityManager.createQuery(query)
+                .setHint(AvailableHints.HINT_READ_ONLY, true);
+        if (pageable.isPaged()) {
+            typed.setFirstResult((int) pageable.getOffset());
+            typed.setMaxResults(pageable.getPageSize());
+        }
+        List<Map<String, Object>> content = typed.getResultList().stream()
+                .map(tuple -> toMap(tuple, fieldset, fields))
+                .toList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(fieldset.entityType()));
+    }
+
+    public Optional<Map<String, Object>> findById(SparseFieldset fieldset, List<String> fields, String id) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<?> root = query.from(fieldset.entityType());
+        query.multiselect(selections(root, fieldset, fields));
+        query.where(builder.equal(root.get(SparseFieldset.ID), id));
+
+        return entityManager.createQuery(query)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .findFirst()
+                .map(tuple -> toMap(tuple, fieldset, fields));
+    }
+
+    private long count(Class<?> entityType) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        query.select(builder.count(query.from(entityType)));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static List<Selection<?>> selections(Root<?> root, SparseFieldset fieldset, List<String> fields) {
+        return fields.stream()
+                .filter(field -> fieldset.path(field) != null)
+                .<Selection<?>>map(field -> path(root, fieldset.path(field)).alias(field))
+                .toList();
+    }
+
+    private static Path<?> path(Root<?> root, String attributePath) {
+        Path<?> path = root;
+        for (String attribute : attributePath.split("\\.")) {
+            path = path.get(attribute);
+        }
+        return path;
+    }
+
+    private static Map<String, Object> toMap(Tuple tuple, SparseFieldset fieldset, List<String> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String field : fields) {
+            if (fieldset.path(field) != null) {
+                row.put(field, tuple.get(field));
+            }
+        }
+        return row;
+    }
+}
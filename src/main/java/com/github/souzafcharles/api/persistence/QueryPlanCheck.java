@@ -0,0 +1,246 @@
+package com.github.souzafcharles.api.persistence;
+
+import com.github.souzafcharles.api.utils.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Startup check that the repository query methods are served by indexes. Every query method
+ * is invoked once with placeholder arguments inside a read-only transaction that is rolled
+ * back, the SQL Hibernate prepares for it is captured through {@link SqlCapture}, and H2's
+ * {@code EXPLAIN} output for that SQL is searched for tables read without an index
+ * condition, whether by a table scan or a full index walk. Methods annotated
+ * {@link FullScan} are skipped. Any other scan fails the startup.
+ * <p>
+ * Plans are taken with the tables as they are at startup, and H2 picks an available index
+ * even for an empty table, so the result does not depend on how much data has been loaded yet.
+ */
+public class QueryPlanCheck implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryPlanCheck.class);
+    // "PUBLIC"."TB_CART" "C1_0" /* PUBLIC.IDX_CART_USER: USER_ID = ?1 */ - no condition after the index means it is walked in full
+    private static final Pattern TABLE_ACCESS = Pattern.compile(
+            "\\.\"(\\w+)\" \"\\w+\"\\s*/\\* ([^*:]+?)(: [^*]*)? \\*/(\\s*/\\* direct lookup \\*/)?");
+    // ORDER BY 3 DESC FETCH FIRST ?1 ROWS ONLY /* index sorted: 1 of 2 columns */
+    private static final Pattern LIMITED_INDEX_WALK = Pattern.compile("FETCH FIRST [^/]*/\\* index sorted");
+    private static final String PLACEHOLDER = "0";
+
+    private final ListableBeanFactory beanFactory;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final SqlCapture sqlCapture;
+
+    public QueryPlanCheck(ListableBeanFactory beanFactory,
+                          DataSource dataSource,
+                          PlatformTransactionManager transactionManager,
+                          SqlCapture sqlCapture) {
+        this.beanFactory = beanFactory;
+        this.dataSource = dataSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.sqlCapture = sqlCapture;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            String database = connection.getMetaData().getDatabaseProductName();
+            if (!"H2".equals(database)) {
+                log.warn(Messages.QUERY_PLAN_SKIPPED, database);
+                return;
+            }
+            List<String> scans = new ArrayList<>();
+            int checked = 0;
+            Repositories repositories = new Repositories(beanFactory);
+            for (Class<?> domainType : repositories) {
+                RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+                Object repository = repositories.getRepositoryFor(domainType).orElseThrow();
+                for (Method method : information.getQueryMethods()) {
+                    if (method.isAnnotationPresent(FullScan.class)) {
+                        continue;
+                    }
+                    String name = information.getRepositoryInterface().getSimpleName() + "." + method.getName();
+                    for (String sql : captureSql(name, repository, method)) {
+                        explain(connection, sql).forEach(table -> scans.add(name + " -> " + table));
+                    }
+                    checked++;
+                }
+            }
+            if (!scans.isEmpty()) {
+                throw new IllegalStateException(String.format(Messages.EXCEPTION_TABLE_SCAN, scans));
+            }
+            log.info(Messages.QUERY_PLAN_CHECKED, checked);
+        }
+    }
+
+    private List<String> captureSql(String name, Object repository, Method method) {
+        return sqlCapture.capture(() -> transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            try {
+                Object result = method.invoke(repository, placeholders(method));
+                if (result instanceof Stream<?> stream) {
+                    stream.close();
+                }
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                Throwable cause = e instanceof InvocationTargetException ? e.getCause() : e;
+                throw new IllegalStateException(String.format(Messages.EXCEPTION_QUERY_PLAN_INVOCATION, name, cause.getMessage()), cause);
+            }
+        }));
+    }
+
+    private static Object[] placeholders(Method method) {
+        return Arrays.stream(method.getParameterTypes())
+                .map(QueryPlanCheck::placeholder)
+                .toArray();
+    }
+
+    private static Object placeholder(Class<?> type) {
+        if (type == String.class) {
+            return PLACEHOLDER;
+        }
+        if (type == Double.class || type == double.class) {
+            return 0.0;
+        }
+        if (type == Integer.class || type == int.class) {
+            return 0;
+        }
+        if (type == Long.class || type == long.class) {
+            return 0L;
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return List.of(PLACEHOLDER);
+        }
+        if (type == Pageable.class) {
+            return PageRequest.of(0, 1);
+        }
+        if (type == Limit.class) {
+            return Limit.of(1);
+        }
+        if (type == Sort.class) {
+            return Sort.unsorted();
+        }
+        return null;
+    }
+
+    private static Set<String> explain(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setString(i, PLACEHOLDER);
+            }
+            Set<String> tables = new LinkedHashSet<>();
+            try (ResultSet plan = statement.executeQuery()) {
+                while (plan.next()) {
+                    tables.addAll(tableScans(plan.getString(1)));
+                }
+            }
+            return tables;
+        }
+    }
+
+    /**
+     * Tables read without an index condition. A limited read that walks an index in order
+     * (top-N by an indexed column) and H2's direct row-count lookup are not scans.
+     */
+    static Set<String> tableScans(String plan) {
+        Set<Integer> limitedIndexWalks = limitedIndexWalks(plan);
+        Set<String> tables = new LinkedHashSet<>();
+        Matcher matcher = TABLE_ACCESS.matcher(plan);
+        while (matcher.find()) {
+            boolean tableScan = matcher.group(2).endsWith(".tableScan");
+            boolean conditioned = matcher.group(3) != null;
+            boolean directLookup = matcher.group(4) != null;
+            boolean limitedIndexWalk = limitedIndexWalks.contains(matcher.start());
+            if (tableScan || !(conditioned || directLookup || limitedIndexWalk)) {
+                tables.add(matcher.group(1));
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * Offsets of the table accesses that serve a limited, index-sorted read. H2 can only take
+     * the order from the index of the first table of a query, so that is the access excused for
+     * each query or subquery whose {@code FETCH FIRST} is marked {@code index sorted}; tables
+     * joined to it are still walked in full for every row.
+     */
+    private static Set<Integer> limitedIndexWalks(String plan) {
+        int[] depth = nesting(plan);
+        Set<Integer> accesses = new HashSet<>();
+        Matcher walk = LIMITED_INDEX_WALK.matcher(plan);
+        while (walk.find()) {
+            int level = depth[walk.start()];
+            int select = plan.lastIndexOf("SELECT", walk.start());
+            while (select > 0 && depth[select] != level) {
+                select = plan.lastIndexOf("SELECT", select - 1);
+            }
+            Matcher access = TABLE_ACCESS.matcher(plan);
+            access.region(Math.max(select, 0), walk.start());
+            while (access.find()) {
+                if (depth[access.start()] == level) {
+                    accesses.add(access.start());
+                    break;
+                }
+            }
+        }
+        return accesses;
+    }
+
+    // Parenthesis depth at each offset, ignoring quoted names, literals and comments.
+    private static int[] nesting(String plan) {
+        int[] depth = new int[plan.length()];
+        int level = 0;
+        char quote = 0;
+        for (int i = 0; i < plan.length(); i++) {
+            char c = plan.charAt(i);
+            if (quote == '*') {
+                if (c == '/' && plan.charAt(i - 1) == '*') {
+                    quote = 0;
+                }
+            } else if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '/' && i + 1 < plan.length() && plan.charAt(i + 1) == '*') {
+                quote = '*';
+            } else if (c == '(') {
+                level++;
+            } else if (c == ')') {
+                level--;
+            }
+            depth[i] = level;
+        }
+        return depth;
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.souzafcharles.api.persistence;
+
+import io.r2dbc.pool.ConnectionPool;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Owns the R2DBC connection pool behind the {@code /reactive} read API.
+ * <p>
+ * The pool is deliberately not a {@link io.r2dbc.spi.ConnectionFactory} bean: Spring Boot
+ * backs off its JDBC {@code DataSource} as soon as one exists, and JPA still needs it.
+ */
+public class ReactiveDatabase implements AutoCloseable {
+
+    private final ConnectionPool pool;
+    private final DatabaseClient client;
+
+    public ReactiveDatabase(ConnectionPool pool) {
+        this.pool = pool;
+        this.client = DatabaseClient.create(pool);
+    }
+
+    public DatabaseClient client() {
+        return client;
+    }
+
+    @Override
+    public void close() {
+        pool.dispose();
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.souzafcharles.api.persistence;
+
+import com.github.souzafcharles.api.exceptions.custom.InvalidRequestException;
+import com.github.souzafcharles.api.utils.Messages;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The fields of a resource that can be requested through {@code fields=}, each mapped to the
+ * entity attribute path it is read from. Fields added with {@link #withDerived(String)} have
+ * no column of their own and are assembled by the owning service.
+ */
+public final class SparseFieldset {
+
+    public static final String ID = "id";
+
+    private final Class<?> entityType;
+    private final Map<String, String> paths;
+
+    private SparseFieldset(Class<?> entityType, Map<String, String> paths) {
+        this.entityType = entityType;
+        this.paths = Collections.unmodifiableMap(paths);
+    }
+
+    /**
+     * Declares fields that map one to one to attributes of the entity, in response order.
+     */
+    public static SparseFieldset of(Class<?> entityType, String... attributes) {
+        Map<String, String> paths = new LinkedHashMap<>();
+        paths.put(ID, ID);
+        for (String attribute : attributes) {
+            paths.put(attribute, attribute);
+        }
+        return new SparseFieldset(entityType, paths);
+    }
+
+    public SparseFieldset with(String field, String path) {
+        Map<String, String> copy = new LinkedHashMap<>(paths);
+        copy.put(field, path);
+        return new SparseFieldset(entityType, copy);
+    }
+
+    public SparseFieldset withDerived(String field) {
+        return with(field, null);
+    }
+
+    /**
+     * Resolves a comma-separated {@code fields} parameter to the selected fields in declaration
+     * order. The id is always selected, since links and lookups depend on it.
+     */
+    public List<String> select(String fields) {
+        Set<String> requested = new HashSet<>();
+        requested.add(ID);
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .forEach(field -> {
+                    if (!paths.containsKey(field)) {
+                        throw new InvalidRequestException(String.format(
+                                Messages.EXCEPTION_UNKNOWN_FIELD, field, String.join(", ", paths.keySet())));
+                    }
+                    requested.add(field);
+                });
+        return paths.keySet().stream()
+                .filter(requested::contains)
+                .toList();
+    }
+
+    /**
+     * Translates a client sort over fields of this set into entity attribute paths, so rows can
+     * only be ordered by what a client can read; derived fields and anything else are rejected.
+     * The id is added as the last order, or is the only one when the client gives none, so rows
+     * with equal sort keys keep their place from page to page.
+     */
+    public Sort sort(Sort requested) {
+        List<Sort.Order> orders = new ArrayList<>();
+        for (Sort.Order order : requested) {
+            String path = paths.get(order.getProperty());
+            if (path == null) {
+                throw new InvalidRequestException(String.format(
+                        Messages.EXCEPTION_UNSORTABLE_FIELD, order.getProperty(), String.join(", ", sortableFields())));
+            }
+            orders.add(order.withProperty(path));
+        }
+        if (requested.getOrderFor(ID) == null) {
+            orders.add(Sort.Order.asc(ID));
+        }
+        return Sort.by(orders);
+    }
+
+    /**
+     * The same page as {@code requested}, sorted by {@link #sort(Sort)}.
+     */
+    public Pageable pageable(Pageable requested) {
+        Sort sort = sort(requested.getSort());
+        return requested.isPaged()
+                ? PageRequest.of(requested.getPageNumber(), requested.getPageSize(), sort)
+                : Pageable.unpaged(sort);
+    }
+
+    private List<String> sortableFields() {
+        return paths.entrySet().stream()
+                .filter(entry -> entry.getValue() != null)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public Class<?> entityType() {
+        return entityType;
+    }
+
+    public String path(String field) {
+        return paths.get(field);
+    }
+}
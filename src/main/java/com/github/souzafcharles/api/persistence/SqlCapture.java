@@ -0,0 +1,35 @@
+package com.github.souzafcharles.api.persistence;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate {@link StatementInspector} that records the SQL prepared on the calling thread
+ * while {@link #capture(Runnable)} runs. Statements are passed through unchanged.
+ */
+public class SqlCapture implements StatementInspector {
+
+    private final ThreadLocal<List<String>> captured = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = captured.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    public List<String> capture(Runnable work) {
+        List<String> statements = new ArrayList<>();
+        captured.set(statements);
+        try {
+            work.run();
+        } finally {
+            captured.remove();
+        }
+        return statements;
+    }
+}
@@ -0,0 +1,214 @@
+package com.github.souzafcharles.api.persistence;
+
+import com.github.souzafcharles.api.config.StatementMetricsProperties;
+import com.github.souzafcharles.api.utils.Messages;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Records the statements executed through {@link InstrumentedDataSource}.
+ * <p>
+ * Each statement is timed into {@code fakestore.db.statement}, a percentile histogram tagged with
+ * the SQL operation, the first table it names and the {@link WorkloadRoutingDataSource.Workload}
+ * of the calling thread; rows read or written go into {@code fakestore.db.statement.rows}. Only
+ * statements slower than {@code slowThreshold} are logged, from a single background thread fed by
+ * a bounded queue, so a burst of slow statements never blocks the request that ran them; when the
+ * queue is full the entry is dropped and counted.
+ * <p>
+ * Between {@link #beginRequest()} and {@link #endRequest(String)} the statements run on the
+ * calling thread are tallied by SQL text. Hibernate prepares the same text for every lazy load of
+ * one association, so a text executed {@code repeatedStatementThreshold} times or more in one
+ * request is reported as an N+1 candidate. Statements run on other threads, such as concurrent
+ * batch reads or streamed exports, are timed but not tallied. Tallies nest: a statement counts
+ * towards every tally open on the thread, so a caller can wrap several requests in its own.
+ */
+public class StatementMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementMetrics.class);
+    // First table named after FROM, INTO or UPDATE, optionally schema-qualified and quoted
+    private static final Pattern TABLE = Pattern.compile(
+            "\\b(?:from|into|update)\\s+(?:\"?\\w+\"?\\.)?\"?(\\w+)", Pattern.CASE_INSENSITIVE);
+    private static final int MAX_CACHED_STATEMENTS = 2_000;
+
+    private record Key(WorkloadRoutingDataSource.Workload workload, String sql) { }
+
+    private record Meters(Timer timer, DistributionSummary rows, Counter slow) { }
+
+    private static final class Tally {
+        private final Tally parent;
+        private final Map<String, Integer> executions = new LinkedHashMap<>();
+        private int statements;
+
+        private Tally(Tally parent) {
+            this.parent = parent;
+        }
+    }
+
+    private final StatementMetricsProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final Map<Key, Meters> meters = new ConcurrentHashMap<>();
+    private final ThreadLocal<Tally> tally = new ThreadLocal<>();
+    private final ThreadPoolExecutor logWriter;
+    private final Counter logDropped;
+
+    public StatementMetrics(StatementMetricsProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = properties.slowThreshold().toNanos();
+        this.logWriter = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.logQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "statement-log");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> dropped());
+        this.logDropped = Counter.builder("fakestore.db.log.dropped")
+                .description("Slow and repeated statement warnings dropped because the log queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records one execution of {@code sql}.
+     *
+     * @param rows rows affected by an update, or -1 when the rows are counted later from a result
+     *             set through {@link #recordRows(String, long)}
+     */
+    public void recordExecution(String sql, long elapsedNanos, long rows) {
+        Meters statementMeters = meters(sql);
+        statementMeters.timer().record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (rows >= 0) {
+            statementMeters.rows().record(rows);
+        }
+        if (elapsedNanos >= slowThresholdNanos) {
+            statementMeters.slow().increment();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            logWriter.execute(() -> log.warn(Messages.SLOW_STATEMENT, elapsedMillis, sql));
+        }
+        for (Tally current = tally.get(); current != null; current = current.parent) {
+            current.statements++;
+            current.executions.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    public void recordRows(String sql, long rows) {
+        meters(sql).rows().record(rows);
+    }
+
+    public void beginRequest() {
+        tally.set(new Tally(tally.get()));
+    }
+
+    /**
+     * Closes the innermost tally opened by {@link #beginRequest()} on this thread and records it
+     * against {@code route}. A {@code null} route records nothing.
+     *
+     * @return executions per SQL text in the order first executed; empty when no tally was open
+     */
+    public Map<String, Integer> endRequest(String route) {
+        Tally current = tally.get();
+        if (current == null) {
+            return Map.of();
+        }
+        if (current.parent != null) {
+            tally.set(current.parent);
+        } else {
+            tally.remove();
+        }
+        if (route == null) {
+            return current.executions;
+        }
+        DistributionSummary.builder("fakestore.db.request.statements")
+                .description("Statements executed on the request thread per request")
+                .tag("route", route)
+                .register(meterRegistry)
+                .record(current.statements);
+        current.executions.forEach((sql, count) -> {
+            if (count >= properties.repeatedStatementThreshold()) {
+                Counter.builder("fakestore.db.request.repeated")
+                        .description("Requests that executed one statement text repeatedly, a likely N+1")
+                        .tag("route", route)
+                        .register(meterRegistry)
+                        .increment();
+                logWriter.execute(() -> log.warn(Messages.REPEATED_STATEMENT, route, count, sql));
+            }
+        });
+        return current.executions;
+    }
+
+    public void close() {
+        logWriter.shutdown();
+    }
+
+    private void dropped() {
+        logDropped.increment();
+    }
+
+    private Meters meters(String sql) {
+        Key key = new Key(WorkloadRoutingDataSource.current(), sql);
+        Meters cached = meters.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        // IN lists of varying length produce many texts; past the cap, meters are looked up by tags
+        Meters created = newMeters(key);
+        if (meters.size() < MAX_CACHED_STATEMENTS) {
+            meters.putIfAbsent(key, created);
+        }
+        return created;
+    }
+
+    private Meters newMeters(Key key) {
+        String operation = operation(key.sql());
+        String table = table(key.sql());
+        String workload = key.workload().name().toLowerCase(Locale.ROOT);
+        Timer timer = Timer.builder("fakestore.db.statement")
+                .description("JDBC statement execution time")
+                .tags("operation", operation, "table", table, "workload", workload)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        DistributionSummary rows = DistributionSummary.builder("fakestore.db.statement.rows")
+                .description("Rows returned by a query or affected by an update")
+                .tags("operation", operation, "table", table, "workload", workload)
+                .register(meterRegistry);
+        Counter slow = Counter.builder("fakestore.db.statement.slow")
+                .description("Statements slower than the slow statement threshold")
+                .tags("operation", operation, "table", table, "workload", workload)
+                .register(meterRegistry);
+        return new Meters(timer, rows, slow);
+    }
+
+    static String operation(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        String keyword = trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+        return switch (keyword) {
+            case "select", "with" -> "select";
+            case "insert", "update", "delete", "merge" -> keyword;
+            default -> "other";
+        };
+    }
+
+    static String table(String sql) {
+        Matcher matcher = TABLE.matcher(sql);
+        return matcher.find() ? matcher.group(1).toLowerCase(Locale.ROOT) : "none";
+    }
+}
@@ -0,0 +1,14 @@
+package com.github.souzafcharles.api.persistence;
+
+/**
+ * Query hint values for repository methods that return a {@link java.util.stream.Stream}.
+ * Callers must consume the stream inside a (read-only) transaction and close it.
+ */
+public class StreamingHints {
+
+    private StreamingHints() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static final String FETCH_SIZE = "500";
+}
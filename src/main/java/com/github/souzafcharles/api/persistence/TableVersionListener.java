@@ -0,0 +1,39 @@
+package com.github.souzafcharles.api.persistence;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener feeding {@link TableVersions}. The counter is bumped once the
+ * surrounding transaction completes, so a new tag is never paired with data that is
+ * not yet visible to other requests.
+ */
+public class TableVersionListener {
+
+    private final TableVersions tableVersions;
+
+    public TableVersionListener(TableVersions tableVersions) {
+        this.tableVersions = tableVersions;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Class<?> entityType = Hibernate.getClass(entity);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    tableVersions.increment(entityType);
+                }
+            });
+        } else {
+            tableVersions.increment(entityType);
+        }
+    }
+}
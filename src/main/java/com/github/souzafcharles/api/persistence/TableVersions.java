@@ -0,0 +1,35 @@
+package com.github.souzafcharles.api.persistence;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-entity change counters, bumped whenever a row of that entity is inserted,
+ * updated or deleted. The startup epoch is part of every tag so that counters
+ * restarting from zero never reproduce a tag handed out by a previous run.
+ */
+@Component
+public class TableVersions {
+
+    private final long epoch = System.currentTimeMillis();
+    private final Map<Class<?>, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    public void increment(Class<?> entityType) {
+        counter(entityType).incrementAndGet();
+    }
+
+    public String tag(Class<?>... entityTypes) {
+        StringBuilder tag = new StringBuilder(Long.toString(epoch, 36));
+        for (Class<?> entityType : entityTypes) {
+            tag.append('-').append(counter(entityType).get());
+        }
+        return tag.toString();
+    }
+
+    private AtomicLong counter(Class<?> entityType) {
+        return counters.computeIfAbsent(entityType, type -> new AtomicLong());
+    }
+}
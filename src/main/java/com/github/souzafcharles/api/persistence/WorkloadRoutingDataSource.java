@@ -0,0 +1,49 @@
+package com.github.souzafcharles.api.persistence;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Hands out connections from the pool of the workload bound to the current thread, OLTP unless
+ * an {@link AnalyticsQuery} method is running. The workload is bound before the transaction
+ * begins, so the transaction's connection comes from the right pool; statements inside an
+ * already running transaction keep using its connection.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Workload { OLTP, ANALYTICS }
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    public WorkloadRoutingDataSource(DataSource oltp, DataSource analytics) {
+        setTargetDataSources(Map.of(Workload.OLTP, oltp, Workload.ANALYTICS, analytics));
+        setDefaultTargetDataSource(oltp);
+        afterPropertiesSet();
+    }
+
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload != null ? workload : Workload.OLTP;
+    }
+
+    static Workload bind(Workload workload) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    static void restore(Workload previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return current();
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.souzafcharles.api.sync;
+
+import com.github.souzafcharles.api.endpoint.cart.sync.CartSynchronizer;
+import com.github.souzafcharles.api.endpoint.product.sync.ProductSynchronizer;
+import com.github.souzafcharles.api.endpoint.user.sync.UserSynchronizer;
+import com.github.souzafcharles.api.utils.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "fakestore.sync.enabled", havingValue = "true", matchIfMissing = true)
+public class CatalogSyncJob {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSyncJob.class);
+
+    private final List<EntitySynchronizer<?>> synchronizers;
+
+    public CatalogSyncJob(UserSynchronizer userSynchronizer,
+                          ProductSynchronizer productSynchronizer,
+                          CartSynchronizer cartSynchronizer) {
+        // Carts reference users and products, so they are synced last.
+        this.synchronizers = List.of(userSynchronizer, productSynchronizer, cartSynchronizer);
+    }
+
+    @Scheduled(initialDelayString = "${fakestore.sync.initial-delay:PT15M}",
+            fixedDelayString = "${fakestore.sync.interval:PT15M}")
+    public void run() {
+        for (EntitySynchronizer<?> synchronizer : synchronizers) {
+            try {
+                SyncResult result = synchronizer.sync();
+                log.info(Messages.SYNC_COMPLETED, synchronizer.name(),
+                        result.inserted(), result.updated(), result.deleted());
+            } catch (RuntimeException e) {
+                log.warn(Messages.SYNC_FAILED, synchronizer.name(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.souzafcharles.api.sync;
+
+import com.github.souzafcharles.api.utils.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Diffs an upstream collection against the rows previously synced from it and applies
+ * only the inserts, updates and deletes, one short transaction per batch.
+ * <p>
+ * Rows are matched by id and compared by the content hash recorded at the last sync,
+ * so rows created locally through the API (no hash) are never touched. Writes only take
+ * row locks, which H2's MVCC engine does not make readers wait on.
+ */
+public abstract class EntitySynchronizer<D> {
+
+    private static final Logger log = LoggerFactory.getLogger(EntitySynchronizer.class);
+    protected static final int BATCH_SIZE = 100;
+
+    private final TransactionTemplate transactionTemplate;
+
+    protected EntitySynchronizer(TransactionTemplate transactionTemplate) {
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public abstract String name();
+
+    protected abstract Flux<D> fetchUpstream();
+
+    protected abstract String idOf(D dto);
+
+    protected abstract String hashOf(D dto);
+
+    protected abstract List<SyncState> findSyncStates();
+
+    /**
+     * Inserts or updates the given upstream items. Runs inside a transaction.
+     */
+    protected abstract SyncResult upsert(List<D> changed);
+
+    /**
+     * Deletes the rows with the given ids. Runs inside a transaction.
+     */
+    protected abstract void delete(Collection<String> ids);
+
+    public SyncResult sync() {
+        Map<String, String> syncedHashes = findSyncStates().stream()
+                .collect(Collectors.toMap(SyncState::getId, SyncState::getSyncHash));
+        Set<String> seen = new HashSet<>();
+        SyncResult result = SyncResult.EMPTY;
+
+        for (List<D> batch : fetchUpstream().buffer(BATCH_SIZE).toIterable(1)) {
+            List<D> changed = new ArrayList<>();
+            for (D dto : batch) {
+                String id = idOf(dto);
+                seen.add(id);
+                if (!hashOf(dto).equals(syncedHashes.get(id))) {
+                    changed.add(dto);
+                }
+            }
+            if (!changed.isEmpty()) {
+                result = result.plus(transactionTemplate.execute(status -> upsert(changed)));
+            }
+        }
+
+        if (seen.isEmpty()) {
+            log.warn(Messages.SYNC_EMPTY_UPSTREAM, name());
+            return result;
+        }
+
+        List<String> stale = syncedHashes.keySet().stream()
+                .filter(id -> !seen.contains(id))
+                .toList();
+        for (int start = 0; start < stale.size(); start += BATCH_SIZE) {
+            List<String> chunk = stale.subList(start, Math.min(start + BATCH_SIZE, stale.size()));
+            transactionTemplate.executeWithoutResult(status -> delete(chunk));
+        }
+        return result.plus(new SyncResult(0, 0, stale.size()));
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.souzafcharles.api.sync;
+
+public record SyncResult(
+        int inserted,
+        int updated,
+        int deleted
+) {
+    public static final SyncResult EMPTY = new SyncResult(0, 0, 0);
+
+    public SyncResult plus(SyncResult other) {
+        return new SyncResult(
+                inserted + other.inserted,
+                updated + other.updated,
+                deleted + other.deleted
+        );
+    }
+}
@@ -0,0 +1,6 @@
+package com.github.souzafcharles.api.sync;
+
+public interface SyncState {
+    String getId();
+    String getSyncHash();
+}
@@ -11,10 +11,18 @@ public class Messages {
     public static final String ERROR_DUPLICATE_EMAIL = "Email address already in use.";
     public static final String ERROR_DATABASE = "Database integrity violation.";
     public static final String ERROR_GENERIC = "Unexpected internal server error.";
+    public static final String ERROR_INVALID_REQUEST = "Invalid request.";
+    public static final String ERROR_TOO_MANY_REQUESTS = "Too many requests.";
+    public static final String ERROR_SERVICE_OVERLOADED = "Service temporarily overloaded.";
 
     // ===== Custom Exception Messages =====
     public static final String EXCEPTION_DATABASE = "Database error detected: %s. Please verify database constraints and configurations";
     public static final String EXCEPTION_DUPLICATE_EMAIL = "The email address '%s' is already associated with an existing account.";
+    public static final String EXCEPTION_TOO_MANY_IDS = "At most %d ids can be requested at once, got %d.";
+    public static final String EXCEPTION_UNKNOWN_FIELD = "Unknown field '%s'. Selectable fields: %s.";
+    public static final String EXCEPTION_UNSORTABLE_FIELD = "Cannot sort by '%s'. Sortable fields: %s.";
+    public static final String EXCEPTION_RATE_LIMITED = "Rate limit exceeded for %s. Retry after %d seconds.";
+    public static final String EXCEPTION_OVERLOADED = "Too many concurrent %s requests, please retry shortly.";
 
     // ===== Product (Validation & Exceptions) =====
     public static final String PRODUCT_TITLE_REQUIRED = "The title is required";
@@ -30,6 +38,12 @@ public class Messages {
     public static final String PRODUCT_ALREADY_INITIALIZED = "Products already initialized. Skipping load.";
     public static final String PRODUCT_NO_RETURNED = "No product returned from the Fake Store API.";
     public static final String PRODUCT_SAVED_SUCCESS = "{} products were saved to the H2 database.";
+    public static final String PRODUCT_BULK_FINISHED = "Bulk product import finished: {} received, {} created, {} invalid, {} failed.";
+    public static final String PRODUCT_BULK_CHUNK_FAILED = "Bulk product import chunk starting at item {} was rolled back: {}";
+
+    // For bulk import results
+    public static final String PRODUCT_BULK_MALFORMED_ITEM = "Malformed item: ";
+    public static final String PRODUCT_BULK_NULL_ITEM = "The item must be a product object";
 
 
     // ===== Product Swagger =====
@@ -38,8 +52,17 @@ public class Messages {
     public static final String PRODUCT_GET_ALL_DESCRIPTION = "Fetches all products with pagination, enabling analysis of catalogue size and pricing distribution.";
     public static final String PRODUCT_GET_BY_ID_SUMMARY = "Retrieve a specific product";
     public static final String PRODUCT_GET_BY_ID_DESCRIPTION = "Fetches a product by its ID for detailed inspection and analytics.";
+    public static final String PRODUCT_GET_BY_IDS_SUMMARY = "Retrieve several products by ID";
+    public static final String PRODUCT_GET_BY_IDS_DESCRIPTION = "Fetches up to 100 products in one query. Results follow the order of the requested IDs, and unknown IDs are returned with found=false.";
+    public static final String PRODUCT_GET_ALL_FIELDS_SUMMARY = "Get products with selected fields";
+    public static final String PRODUCT_GET_BY_ID_FIELDS_SUMMARY = "Get a product by ID with selected fields";
+    public static final String PRODUCT_FIELDS_DESCRIPTION = "Returns only the comma-separated fields given in 'fields' (the id is always included). Only the matching columns are read from the database.";
+    public static final String PRODUCT_EXPORT_SUMMARY = "Export all products as NDJSON";
+    public static final String PRODUCT_EXPORT_DESCRIPTION = "Streams every product as newline-delimited JSON straight from a database cursor, for downstream data jobs that need the full catalogue.";
     public static final String PRODUCT_CREATE_SUMMARY = "Create a new product";
     public static final String PRODUCT_CREATE_DESCRIPTION = "Adds a new product to the catalogue, providing data for sales and inventory analysis.";
+    public static final String PRODUCT_BULK_CREATE_SUMMARY = "Create products in bulk";
+    public static final String PRODUCT_BULK_CREATE_DESCRIPTION = "Accepts a JSON array or an NDJSON stream of products, inserts them in batched transactions and, once the upload has been read, returns one NDJSON result per item followed by a summary line with the received, created, invalid and failed counts.";
     public static final String PRODUCT_UPDATE_SUMMARY = "Update an existing product";
     public static final String PRODUCT_UPDATE_DESCRIPTION = "Updates product details such as price, title, and description, enabling recalculation of metrics and insights.";
     public static final String PRODUCT_DELETE_SUMMARY = "Delete a product";
@@ -76,6 +99,13 @@ public class Messages {
     public static final String USER_GET_ALL_DESCRIPTION = "Fetches all users with pagination, enabling analysis of user base and activity.";
     public static final String USER_GET_BY_ID_SUMMARY = "Retrieve a specific user";
     public static final String USER_GET_BY_ID_DESCRIPTION = "Fetches a user by ID to inspect details and behaviour.";
+    public static final String USER_GET_BY_IDS_SUMMARY = "Retrieve several users by ID";
+    public static final String USER_GET_BY_IDS_DESCRIPTION = "Fetches up to 100 users in one query. Results follow the order of the requested IDs, and unknown IDs are returned with found=false.";
+    public static final String USER_GET_ALL_FIELDS_SUMMARY = "Get users with selected fields";
+    public static final String USER_GET_BY_ID_FIELDS_SUMMARY = "Get a user by ID with selected fields";
+    public static final String USER_FIELDS_DESCRIPTION = "Returns only the comma-separated fields given in 'fields' (the id is always included). Only the matching columns are read from the database.";
+    public static final String USER_EXPORT_SUMMARY = "Export all users as NDJSON";
+    public static final String USER_EXPORT_DESCRIPTION = "Streams every user as newline-delimited JSON straight from a database cursor, for downstream data jobs.";
     public static final String USER_CREATE_SUMMARY = "Create a new user";
     public static final String USER_CREATE_DESCRIPTION = "Registers a new user, providing data for engagement and analysis.";
     public static final String USER_UPDATE_SUMMARY = "Update an existing user";
@@ -113,6 +143,11 @@ public class Messages {
     public static final String CART_GET_ALL_DESCRIPTION = "Fetches all carts with pagination, allowing analysis of total items and cart usage patterns.";
     public static final String CART_GET_BY_ID_SUMMARY = "Retrieve a specific cart item";
     public static final String CART_GET_BY_ID_DESCRIPTION = "Fetches a cart by its ID, enabling detailed inspection of items and quantities for insight generation.";
+    public static final String CART_GET_ALL_FIELDS_SUMMARY = "Get carts with selected fields";
+    public static final String CART_GET_BY_ID_FIELDS_SUMMARY = "Get a cart by ID with selected fields";
+    public static final String CART_FIELDS_DESCRIPTION = "Returns only the comma-separated fields given in 'fields' (the id is always included). Products are only joined in when 'products' is requested.";
+    public static final String CART_EXPORT_SUMMARY = "Export all carts as NDJSON";
+    public static final String CART_EXPORT_DESCRIPTION = "Streams every cart with its items as newline-delimited JSON straight from a database cursor, for downstream data jobs.";
     public static final String CART_CREATE_SUMMARY = "Create a new cart item";
     public static final String CART_CREATE_DESCRIPTION = "Creates a cart for a specified user and their selected products, providing an initial dataset for further analysis.";
     public static final String CART_UPDATE_SUMMARY = "Update an existing cart";
@@ -128,6 +163,50 @@ public class Messages {
     public static final String CART_TOTAL_VALUE_SUMMARY = "Retrieve carts above a total value";
     public static final String CART_TOTAL_VALUE_DESCRIPTION = "Filters carts whose total value exceeds a specified minimum, providing insight into high-value purchasing behaviour.";
 
+    // ===== Catalog Sync (Logging) =====
+    public static final String SYNC_COMPLETED = "{} sync finished: {} inserted, {} updated, {} deleted.";
+    public static final String SYNC_FAILED = "{} sync failed: {}";
+    public static final String SYNC_EMPTY_UPSTREAM = "{} sync received no rows from the Fake Store API. Skipping deletes.";
+
+    // ===== Threads (Logging) =====
+    public static final String VIRTUAL_THREAD_PINNED = "Virtual thread pinned for {} ms at {}";
+
+    // ===== Query Plans (Logging & Exceptions) =====
+    public static final String QUERY_PLAN_SKIPPED = "Query plan check skipped: {} is not supported, only H2 plans are read.";
+    public static final String QUERY_PLAN_CHECKED = "Query plan check passed for {} repository queries.";
+    public static final String EXCEPTION_TABLE_SCAN = "Repository queries scan whole tables: %s. Add an index or mark the method @FullScan.";
+    public static final String EXCEPTION_QUERY_PLAN_INVOCATION = "Could not run %s with placeholder arguments for the query plan check: %s";
+
+    // ===== File Store (Logging) =====
+    public static final String FILE_STORE_BACKUP_COMPLETED = "Database backup written to {} ({} bytes in {} ms).";
+    public static final String FILE_STORE_COMPACTED = "Database chunks rewritten, live share {}% -> {}%, file size {} bytes.";
+    public static final String FILE_STORE_COMPACTION_FAILED = "Database file compaction failed: {}";
+
+    // ===== SQL Statements (Logging) =====
+    public static final String SLOW_STATEMENT = "Slow statement ({} ms): {}";
+    public static final String REPEATED_STATEMENT = "{} executed the same statement {} times, a likely N+1: {}";
+
+    // ===== Reactive Read API Swagger =====
+    public static final String REACTIVE_TAG_DESCRIPTION = "Non-blocking read-only endpoints backed by R2DBC. Collections are streamed as NDJSON with backpressure.";
+    public static final String REACTIVE_PRODUCT_GET_ALL_SUMMARY = "Stream all products";
+    public static final String REACTIVE_PRODUCT_GET_BY_ID_SUMMARY = "Retrieve a specific product without blocking";
+    public static final String REACTIVE_USER_GET_ALL_SUMMARY = "Stream all users";
+    public static final String REACTIVE_USER_GET_BY_ID_SUMMARY = "Retrieve a specific user without blocking";
+    public static final String REACTIVE_CART_GET_ALL_SUMMARY = "Stream all carts";
+    public static final String REACTIVE_CART_GET_BY_ID_SUMMARY = "Retrieve a specific cart without blocking";
+
+    // ===== Batch (Validation & Logging) =====
+    public static final String BATCH_EMPTY = "A batch must contain at least one operation.";
+    public static final String BATCH_TOO_MANY_OPERATIONS = "A batch can contain at most %d operations, got %d.";
+    public static final String BATCH_UNSUPPORTED_METHOD = "Unsupported batch operation method: %s";
+    public static final String BATCH_INVALID_PATH = "Invalid batch operation path: %s";
+    public static final String BATCH_OPERATION_FAILED = "Batch operation {} ({} {}) could not be dispatched: {}";
+
+    // ===== Batch Swagger =====
+    public static final String BATCH_TAG_DESCRIPTION = "Endpoint to combine several API calls into a single round trip.";
+    public static final String BATCH_EXECUTE_SUMMARY = "Execute a batch of operations";
+    public static final String BATCH_EXECUTE_DESCRIPTION = "Runs up to 20 product, user, cart and cart-product operations. Consecutive reads run concurrently; with atomic=true every operation shares one transaction that is rolled back on the first failure.";
+
     // ===== CartProduct Swagger =====
     public static final String CART_PRODUCT_TAG_DESCRIPTION = "Endpoints to manage products within carts and analyze sales/analytics.";
     public static final String CART_PRODUCT_ADD_SUMMARY = "Add a product to a cart";
@@ -0,0 +1,38 @@
+package com.github.souzafcharles.api.utils;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RFC 9562 version 7 UUIDs: a 48-bit Unix millisecond timestamp followed by a 12-bit counter
+ * and 62 random bits. Keys generated by this JVM are strictly increasing, also as canonical
+ * strings, so new rows are appended to the right edge of the primary and foreign key indexes
+ * instead of splitting pages at random positions. When more than 4096 keys are generated within
+ * a millisecond the counter carries into the timestamp, which runs slightly ahead until the
+ * clock catches up.
+ */
+public class TimeOrderedIds {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int COUNTER_BITS = 12;
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private TimeOrderedIds() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static String next() {
+        return nextUuid().toString();
+    }
+
+    public static UUID nextUuid() {
+        long candidate = System.currentTimeMillis() << COUNTER_BITS;
+        long timestampAndCounter = LAST.accumulateAndGet(candidate, (last, now) -> now > last ? now : last + 1);
+        long mostSignificant = (timestampAndCounter >>> COUNTER_BITS) << 16
+                | 0x7000L
+                | (timestampAndCounter & 0xFFFL);
+        long leastSignificant = RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+}
@@ -0,0 +1,142 @@
+package com.github.souzafcharles.api.web;
+
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.web.protobuf.CartList;
+import com.github.souzafcharles.api.web.protobuf.CartProductList;
+import com.github.souzafcharles.api.web.protobuf.CatalogProtoMapper;
+import com.github.souzafcharles.api.web.protobuf.ProductList;
+import com.google.protobuf.Message;
+import org.springframework.core.ResolvableType;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes product, cart and cart-product responses as {@code application/x-protobuf} using the
+ * messages of {@code catalog.proto}. Single DTOs, lists of DTOs and HATEOAS pages of DTOs are
+ * supported; the element type is taken from the declared return type so that empty lists
+ * still map to the right message. Other bodies, such as errors, are not converted, so clients
+ * should list JSON as a fallback in {@code Accept}.
+ */
+public class CatalogProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private static final Set<Class<?>> ELEMENT_TYPES =
+            Set.of(ProductResponseDTO.class, CartResponseDTO.class, CartProductResponseDTO.class);
+
+    public CatalogProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ELEMENT_TYPES.contains(clazz);
+    }
+
+    // Lists and pages are only recognised from their generic type, so advertise the media type
+    // for any class and let canWrite(Type, ...) decide.
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return getSupportedMediaTypes();
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return canWrite(mediaType) && elementType(type != null ? ResolvableType.forType(type) : ResolvableType.forClass(clazz)) != null;
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        ResolvableType resolvable = type != null ? ResolvableType.forType(type) : ResolvableType.forInstance(body);
+        toMessage(body, elementType(resolvable)).writeTo(outputMessage.getBody());
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException(getClass().getSimpleName() + " is write-only", inputMessage);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        return readInternal(null, inputMessage);
+    }
+
+    private static Message toMessage(Object body, Class<?> elementType) {
+        if (body instanceof ProductResponseDTO product) {
+            return CatalogProtoMapper.toProto(product);
+        }
+        if (body instanceof CartResponseDTO cart) {
+            return CatalogProtoMapper.toProto(cart);
+        }
+        if (body instanceof CartProductResponseDTO cartProduct) {
+            return CatalogProtoMapper.toProto(cartProduct);
+        }
+
+        List<?> elements = body instanceof CollectionModel<?> model
+                ? model.getContent().stream().map(CatalogProtobufHttpMessageConverter::unwrap).toList()
+                : List.copyOf((Collection<?>) body);
+        PagedModel.PageMetadata metadata = body instanceof PagedModel<?> page ? page.getMetadata() : null;
+
+        if (elementType == ProductResponseDTO.class) {
+            ProductList.Builder builder = ProductList.newBuilder();
+            elements.forEach(element -> builder.addProducts(CatalogProtoMapper.toProto((ProductResponseDTO) element)));
+            if (metadata != null) builder.setPage(CatalogProtoMapper.toProto(metadata));
+            return builder.build();
+        }
+        if (elementType == CartResponseDTO.class) {
+            CartList.Builder builder = CartList.newBuilder();
+            elements.forEach(element -> builder.addCarts(CatalogProtoMapper.toProto((CartResponseDTO) element)));
+            if (metadata != null) builder.setPage(CatalogProtoMapper.toProto(metadata));
+            return builder.build();
+        }
+        CartProductList.Builder builder = CartProductList.newBuilder();
+        elements.forEach(element -> builder.addCartProducts(CatalogProtoMapper.toProto((CartProductResponseDTO) element)));
+        return builder.build();
+    }
+
+    private static Object unwrap(Object element) {
+        return element instanceof EntityModel<?> model ? model.getContent() : element;
+    }
+
+    private static Class<?> elementType(ResolvableType type) {
+        Class<?> raw = type.resolve();
+        if (raw == null) {
+            return null;
+        }
+        if (ELEMENT_TYPES.contains(raw)) {
+            return raw;
+        }
+        ResolvableType element;
+        if (CollectionModel.class.isAssignableFrom(raw)) {
+            element = type.as(CollectionModel.class).getGeneric(0);
+            if (EntityModel.class.isAssignableFrom(element.toClass())) {
+                element = element.as(EntityModel.class).getGeneric(0);
+            }
+        } else if (Collection.class.isAssignableFrom(raw)) {
+            element = type.asCollection().getGeneric(0);
+        } else {
+            return null;
+        }
+        Class<?> resolved = element.resolve();
+        return resolved != null && ELEMENT_TYPES.contains(resolved) ? resolved : null;
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.souzafcharles.api.web;
+
+import java.util.regex.Pattern;
+
+public class ETags {
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final Pattern VARIANT = Pattern.compile("-[a-z]+\"");
+
+    private ETags() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static String strong(String id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    public static String weak(String collection, String tableVersion) {
+        return WEAK_PREFIX + "\"" + collection + "-" + tableVersion + "\"";
+    }
+
+    /**
+     * Tags one encoding of a representation, e.g. {@code "1-3"} becomes {@code "1-3-gzip"}, since
+     * a strong tag must not be shared by bodies that differ byte for byte.
+     */
+    public static String variant(String eTag, String qualifier) {
+        return eTag.substring(0, eTag.length() - 1) + "-" + qualifier + "\"";
+    }
+
+    /**
+     * Evaluates an {@code If-None-Match} header against the current tag using the weak
+     * comparison required for GET requests by RFC 9110.
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        return matching(ifNoneMatch, eTag) != null;
+    }
+
+    /**
+     * The tag of whichever {@code If-None-Match} entry matches the current tag or one of its
+     * {@link #variant variants}, with the strength of the current tag, or {@code null}. A 304
+     * echoes it, so that a cache holding that variant can find the response it refreshes.
+     */
+    public static String matching(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return null;
+        }
+        String current = opaque(eTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*")) {
+                return eTag;
+            }
+            String opaque = opaque(trimmed);
+            if (isVariantOf(opaque, current)) {
+                return eTag.startsWith(WEAK_PREFIX) ? WEAK_PREFIX + opaque : opaque;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isVariantOf(String candidate, String current) {
+        if (candidate.equals(current)) {
+            return true;
+        }
+        String base = current.substring(0, current.length() - 1);
+        return candidate.startsWith(base) && VARIANT.matcher(candidate.substring(base.length())).matches();
+    }
+
+    private static String opaque(String eTag) {
+        return eTag.startsWith(WEAK_PREFIX) ? eTag.substring(WEAK_PREFIX.length()) : eTag;
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.souzafcharles.api.web;
+
+import java.io.Serializable;
+
+/**
+ * One slot of a multi-get response. Slots follow the order of the requested ids, and an
+ * id that does not exist is kept as {@code found: false} rather than silently dropped.
+ */
+public record MultiGetEntry<T>(
+        String id,
+        boolean found,
+        T item
+) implements Serializable {
+
+    public static final int MAX_IDS = 100;
+
+    public static <T> MultiGetEntry<T> of(String id, T item) {
+        return new MultiGetEntry<>(id, item != null, item);
+    }
+}
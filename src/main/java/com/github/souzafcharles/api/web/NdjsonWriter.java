@@ -0,0 +1,78 @@
+package com.github.souzafcharles.api.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Writes rows to the response as newline-delimited JSON while they are produced. Rows are
+ * handed over by a producer that pushes each one into a sink, so nothing is collected
+ * into a list; the servlet container's output buffer decides when bytes hit the socket.
+ */
+@Component
+public class NdjsonWriter {
+
+    private final ObjectWriter writer;
+
+    public NdjsonWriter(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    public <T> ResponseEntity<StreamingResponseBody> stream(Consumer<Consumer<T>> producer) {
+        StreamingResponseBody body = out -> producer.accept(row -> writeLine(out, row));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Like {@link #stream}, for producers that read the request body: rows go to a temporary
+     * file until the producer returns, then the file is copied to the response followed by the
+     * producer's result as the last line. Nothing is written while the body is being read, so a
+     * client that sends its whole upload before reading the response cannot stall on full
+     * socket buffers, and memory stays flat however many rows there are.
+     */
+    public <T> ResponseEntity<StreamingResponseBody> spool(Function<Consumer<T>, ?> producer) {
+        StreamingResponseBody body = out -> {
+            Path spool = Files.createTempFile("ndjson-", ".spool");
+            try {
+                Object result;
+                try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(spool))) {
+                    result = producer.apply(row -> writeLine(file, row));
+                }
+                Files.copy(spool, out);
+                writeLine(out, result);
+            } finally {
+                Files.deleteIfExists(spool);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    void writeLine(OutputStream out, Object row) {
+        try {
+            writer.writeValue(out, row);
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.github.souzafcharles.api.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized JSON bodies of hot single resources, kept together with their gzip encoding so
+ * that a hit costs neither serialization nor compression.
+ * <p>
+ * Entries are tagged with the entity version the caller already reads for its ETag. A request
+ * for a newer version replaces the entry, so writes from any path (API, catalog sync) are
+ * picked up; the API write endpoints also evict eagerly. A loaded body is stored and returned
+ * with the version it was read at, which may differ from the requested one when a write
+ * commits in between; callers tag the response with {@link Body#version()}. Bodies below
+ * {@code server.compression.min-response-size} are kept uncompressed, as the container would
+ * send them.
+ */
+@Component
+public class PrecompressedBodyCache {
+
+    public record Body(byte[] bytes, boolean gzipped, long version) { }
+
+    public record Loaded(Object value, long version) { }
+
+    private record Entry(long version, byte[] identity, byte[] gzip) { }
+
+    private final ObjectMapper objectMapper;
+    private final long minCompressedSize;
+    private final Map<String, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public PrecompressedBodyCache(ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${fakestore.precompressed.max-entries:1000}") int maxEntries,
+                                  @Value("${server.compression.min-response-size:2KB}") DataSize minCompressedSize) {
+        this.objectMapper = objectMapper;
+        this.minCompressedSize = minCompressedSize.toBytes();
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.hits = Counter.builder("fakestore.precompressed.lookups").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("fakestore.precompressed.lookups").tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * Returns the body of {@code key} at {@code version}, loading and encoding it on a miss.
+     */
+    public Body get(String key, long version, boolean acceptsGzip, Supplier<Loaded> loader) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.version() == version) {
+            hits.increment();
+        } else {
+            misses.increment();
+            Loaded loaded = loader.get();
+            entry = encode(loaded.version(), loaded.value());
+            entries.put(key, entry);
+        }
+        return acceptsGzip && entry.gzip() != null
+                ? new Body(entry.gzip(), true, entry.version())
+                : new Body(entry.identity(), false, entry.version());
+    }
+
+    public void evict(String key) {
+        entries.remove(key);
+    }
+
+    private Entry encode(long version, Object value) {
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(value);
+            return new Entry(version, identity, identity.length >= minCompressedSize ? gzip(identity) : null);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Whether {@code Accept-Encoding} allows gzip, i.e. lists {@code gzip} or {@code *} with a
+     * non-zero quality.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if ((name.equalsIgnoreCase("gzip") || name.equals("*")) && quality(parts) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether content negotiation would pick plain JSON for {@code Accept}, so that a cached
+     * JSON body can stand in for the regular response.
+     */
+    public static boolean prefersJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+        return mediaTypes.stream()
+                .max(Comparator.comparingDouble(MediaType::getQualityValue))
+                .filter(preferred -> preferred.getQualityValue() > 0)
+                .map(preferred -> preferred.isWildcardType() || preferred.equalsTypeAndSubtype(MediaType.APPLICATION_JSON))
+                .orElse(false);
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.souzafcharles.api.web;
+
+import com.github.souzafcharles.api.concurrency.RateLimiter;
+import com.github.souzafcharles.api.exceptions.custom.TooManyRequestsException;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+
+/**
+ * Charges each API request against the caller's bucket for the matched route pattern, so
+ * {@code /products/1} and {@code /products/2} share one bucket. Clients are told apart by remote
+ * address; behind a proxy, {@code server.forward-headers-strategy} makes that the original
+ * client. Async and error re-dispatches of an already admitted request are not charged again.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitInterceptor(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : request.getRequestURI();
+        Duration retryAfter = rateLimiter.tryAcquire(request.getRemoteAddr(), request.getMethod(), route);
+        if (!retryAfter.isZero()) {
+            throw new TooManyRequestsException(route, retryAfter);
+        }
+        return true;
+    }
+}
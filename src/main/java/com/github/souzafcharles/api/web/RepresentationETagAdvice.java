@@ -0,0 +1,61 @@
+package com.github.souzafcharles.api.web;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+/**
+ * Qualifies a strong ETag with the negotiated format when a body is not written as JSON, e.g.
+ * {@code "1-3-cbor"}: controllers tag the resource version, but a strong tag must not be shared
+ * by bodies that differ byte for byte. Weak tags are left alone, as they only promise
+ * equivalent content.
+ */
+@ControllerAdvice
+public class RepresentationETagAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        HttpHeaders headers = response.getHeaders();
+        String eTag = headers.getETag();
+        // A 304 has no body and already echoes the variant the client holds
+        if (body == null || eTag == null || eTag.startsWith(WEAK_PREFIX) || isJson(selectedContentType)) {
+            return body;
+        }
+        String variant = ETags.variant(eTag, qualifier(selectedContentType));
+        // Conditional GET handling may already have copied the tag onto the servlet response
+        if (response instanceof ServletServerHttpResponse servletResponse) {
+            headers.remove(HttpHeaders.ETAG);
+            servletResponse.getServletResponse().setHeader(HttpHeaders.ETAG, variant);
+        } else {
+            headers.setETag(variant);
+        }
+        return body;
+    }
+
+    private static boolean isJson(MediaType mediaType) {
+        return MediaType.APPLICATION_JSON.isCompatibleWith(mediaType) || mediaType.getSubtype().endsWith("+json");
+    }
+
+    // application/x-jackson-smile -> smile, application/x-protobuf -> protobuf
+    private static String qualifier(MediaType mediaType) {
+        String subtype = mediaType.getSubtype();
+        return subtype.substring(subtype.lastIndexOf('-') + 1).toLowerCase(Locale.ROOT).replaceAll("[^a-z]", "");
+    }
+}
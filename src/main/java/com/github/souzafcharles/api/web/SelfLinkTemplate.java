@@ -0,0 +1,39 @@
+package com.github.souzafcharles.api.web;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.hateoas.Link;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * Builds {@code self} links of the form {@code <base>/<controller path>/<id>} without
+ * going through {@code WebMvcLinkBuilder.methodOn}. The controller path is read once;
+ * the base URI is resolved once per call to {@link #resolve()}, after which each link
+ * costs a string concatenation.
+ */
+public final class SelfLinkTemplate {
+
+    private final String path;
+
+    private SelfLinkTemplate(String path) {
+        this.path = path;
+    }
+
+    public static SelfLinkTemplate of(Class<?> controller) {
+        RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(controller, RequestMapping.class);
+        String path = mapping != null && mapping.path().length > 0 ? mapping.path()[0] : "";
+        return new SelfLinkTemplate(path);
+    }
+
+    public Function<String, Link> resolve() {
+        String base = RequestContextHolder.getRequestAttributes() == null
+                ? path + "/"
+                : ServletUriComponentsBuilder.fromCurrentServletMapping().path(path).toUriString() + "/";
+        return id -> Link.of(base + UriUtils.encodePathSegment(id, StandardCharsets.UTF_8));
+    }
+}
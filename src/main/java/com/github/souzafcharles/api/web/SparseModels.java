@@ -0,0 +1,45 @@
+package com.github.souzafcharles.api.web;
+
+import com.github.souzafcharles.api.persistence.SparseFieldset;
+import org.springframework.data.domain.Page;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+import org.springframework.hateoas.server.core.EmbeddedWrapper;
+import org.springframework.hateoas.server.core.EmbeddedWrappers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Builds HAL pages out of sparse-fieldset rows. Rows are plain maps, so they are embedded under
+ * the collection relation of the full DTO to keep {@code _embedded} keyed the same way with or
+ * without {@code fields=}.
+ */
+public class SparseModels {
+
+    private static final LinkRelationProvider RELATIONS = new DefaultLinkRelationProvider();
+    private static final EmbeddedWrappers WRAPPERS = new EmbeddedWrappers(true);
+
+    private SparseModels() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static PagedModel<EmbeddedWrapper> toModel(PagedResourcesAssembler<Map<String, Object>> assembler,
+                                                      Page<Map<String, Object>> page,
+                                                      Function<String, Link> selfLink,
+                                                      Class<?> dtoType) {
+        LinkRelation relation = RELATIONS.getCollectionResourceRelFor(dtoType);
+        PagedModel<EntityModel<Map<String, Object>>> model = assembler.toModel(page,
+                row -> EntityModel.of(row, selfLink.apply((String) row.get(SparseFieldset.ID))));
+        List<EmbeddedWrapper> content = model.getContent().stream()
+                .map(row -> WRAPPERS.wrap(row, relation))
+                .toList();
+        return PagedModel.of(content, model.getMetadata(), model.getLinks());
+    }
+}
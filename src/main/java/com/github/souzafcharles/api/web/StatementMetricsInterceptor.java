@@ -0,0 +1,44 @@
+package com.github.souzafcharles.api.web;
+
+import com.github.souzafcharles.api.persistence.StatementMetrics;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Opens a {@link StatementMetrics} tally for each API request and records it against the matched
+ * route pattern when the request completes. A request that continues asynchronously runs its
+ * remaining statements on another thread, so its tally is discarded when the handler returns.
+ */
+public class StatementMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private final StatementMetrics metrics;
+
+    public StatementMetricsInterceptor(StatementMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.REQUEST) {
+            metrics.beginRequest();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        metrics.endRequest(null);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        metrics.endRequest(pattern != null ? pattern.toString() : request.getRequestURI());
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.souzafcharles.api.web.protobuf;
+
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import org.springframework.hateoas.PagedModel;
+
+/**
+ * Maps the response DTOs to the messages generated from {@code catalog.proto}. Null DTO
+ * fields are left unset rather than written as protobuf defaults.
+ */
+public class CatalogProtoMapper {
+
+    private CatalogProtoMapper() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static Product toProto(ProductResponseDTO dto) {
+        Product.Builder builder = Product.newBuilder();
+        if (dto.id() != null) builder.setId(dto.id());
+        if (dto.title() != null) builder.setTitle(dto.title());
+        if (dto.price() != null) builder.setPrice(dto.price());
+        if (dto.description() != null) builder.setDescription(dto.description());
+        if (dto.category() != null) builder.setCategory(dto.category());
+        if (dto.image() != null) builder.setImage(dto.image());
+        return builder.build();
+    }
+
+    public static CartProduct toProto(CartProductResponseDTO dto) {
+        CartProduct.Builder builder = CartProduct.newBuilder();
+        if (dto.productId() != null) builder.setProductId(dto.productId());
+        if (dto.productTitle() != null) builder.setProductTitle(dto.productTitle());
+        if (dto.productPrice() != null) builder.setProductPrice(dto.productPrice());
+        if (dto.quantity() != null) builder.setQuantity(dto.quantity());
+        return builder.build();
+    }
+
+    public static Cart toProto(CartResponseDTO dto) {
+        Cart.Builder builder = Cart.newBuilder();
+        if (dto.id() != null) builder.setId(dto.id());
+        if (dto.userId() != null) builder.setUserId(dto.userId());
+        if (dto.products() != null) {
+            dto.products().forEach(product -> builder.addProducts(toProto(product)));
+        }
+        return builder.build();
+    }
+
+    public static PageMetadata toProto(PagedModel.PageMetadata metadata) {
+        return PageMetadata.newBuilder()
+                .setSize(metadata.getSize())
+                .setNumber(metadata.getNumber())
+                .setTotalElements(metadata.getTotalElements())
+                .setTotalPages(metadata.getTotalPages())
+                .build();
+    }
+}
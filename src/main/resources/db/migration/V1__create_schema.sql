@@ -0,0 +1,40 @@
+CREATE TABLE tb_user (
+    id        VARCHAR(255) NOT NULL,
+    username  VARCHAR(255) NOT NULL,
+    email     VARCHAR(255) NOT NULL,
+    password  VARCHAR(255) NOT NULL,
+    sync_hash VARCHAR(64),
+    version   BIGINT,
+    CONSTRAINT pk_user PRIMARY KEY (id),
+    CONSTRAINT uk_user_username UNIQUE (username),
+    CONSTRAINT uk_user_email UNIQUE (email)
+);
+
+CREATE TABLE tb_product (
+    id          VARCHAR(255) NOT NULL,
+    title       VARCHAR(255) NOT NULL,
+    price       FLOAT(53) NOT NULL,
+    description VARCHAR(5000),
+    category    VARCHAR(255) NOT NULL,
+    image       VARCHAR(255),
+    sync_hash   VARCHAR(64),
+    version     BIGINT,
+    CONSTRAINT pk_product PRIMARY KEY (id)
+);
+
+CREATE TABLE tb_cart (
+    id        VARCHAR(255) NOT NULL,
+    user_id   VARCHAR(255),
+    sync_hash VARCHAR(64),
+    CONSTRAINT pk_cart PRIMARY KEY (id),
+    CONSTRAINT fk_cart_user FOREIGN KEY (user_id) REFERENCES tb_user (id)
+);
+
+CREATE TABLE tb_cart_product (
+    cart_id    VARCHAR(255) NOT NULL,
+    product_id VARCHAR(255) NOT NULL,
+    quantity   INTEGER,
+    CONSTRAINT pk_cart_product PRIMARY KEY (cart_id, product_id),
+    CONSTRAINT fk_cart_product_cart FOREIGN KEY (cart_id) REFERENCES tb_cart (id),
+    CONSTRAINT fk_cart_product_product FOREIGN KEY (product_id) REFERENCES tb_product (id)
+);
@@ -0,0 +1,14 @@
+-- Indexes behind the repository finders. Keep in sync with the @Index declarations on the entities.
+
+-- CartRepository.findLinesByUserId, sumQuantityByUserId
+CREATE INDEX idx_cart_user ON tb_cart (user_id);
+
+-- CartRepository.findLinesOfCartsContainingProduct and the carts-by-product analytics.
+-- The primary key (cart_id, product_id) only serves lookups by cart.
+CREATE INDEX idx_cart_product_product ON tb_cart_product (product_id);
+
+-- ProductRepository.findDtosByPriceBetween and the top-N price lists
+CREATE INDEX idx_product_price ON tb_product (price);
+
+-- Average price per category reads (category, price) from the index alone
+CREATE INDEX idx_product_category_price ON tb_product (category, price);
@@ -0,0 +1,120 @@
+package com.github.souzafcharles.api.benchmark;
+
+import com.github.souzafcharles.api.utils.TimeOrderedIds;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Product insert throughput on the in-memory database against the file-backed MVStore database,
+ * with H2's default settings, with the settings of the {@code file} profile, and with
+ * {@code WRITE_DELAY=0}, which writes every commit to the file before it returns. The schema is
+ * created by the application's Flyway migrations, so inserts maintain the same primary key and
+ * price indexes as in the application. {@code singleRowCommit} is one insert per transaction,
+ * as a {@code POST /products} issues; {@code batchCommit} inserts {@value #BATCH_SIZE} rows per
+ * transaction, as the bulk import and the catalog sync do.
+ * <p>
+ * Run with {@code mvn test-compile} and then launch {@link #main(String[])} from the IDE,
+ * or with the test classpath on the command line.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileStoreWriteBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+    // fakestore.file-store.settings in application-file.properties
+    private static final String PROFILE_SETTINGS = "CACHE_SIZE=65536;WRITE_DELAY=500;MAX_COMPACT_TIME=2000";
+    private static final String[] CATEGORIES = {"electronics", "jewelery", "men's clothing", "women's clothing"};
+
+    @Param({"MEMORY", "FILE_DEFAULT", "FILE_PROFILE", "FILE_WRITE_DELAY_0"})
+    public String mode;
+
+    private Path directory;
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("file-store");
+        String url = switch (mode) {
+            case "MEMORY" -> "jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1";
+            case "FILE_DEFAULT" -> "jdbc:h2:file:" + directory.resolve("fakestore");
+            case "FILE_PROFILE" -> "jdbc:h2:file:" + directory.resolve("fakestore") + ";" + PROFILE_SETTINGS;
+            default -> "jdbc:h2:file:" + directory.resolve("fakestore") + ";WRITE_DELAY=0";
+        };
+        Flyway.configure().dataSource(url, "sa", "").locations("classpath:db/migration").load().migrate();
+        connection = DriverManager.getConnection(url, "sa", "");
+        insert = connection.prepareStatement(
+                "INSERT INTO tb_product (id, title, price, description, category, image, version) VALUES (?, ?, ?, ?, ?, ?, 0)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        try (var statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+        connection.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public void singleRowCommit() throws SQLException {
+        connection.setAutoCommit(true);
+        bind();
+        insert.executeUpdate();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void batchCommit() throws SQLException {
+        connection.setAutoCommit(false);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            bind();
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    private void bind() throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        insert.setString(1, TimeOrderedIds.next());
+        insert.setString(2, "Product " + random.nextInt(1_000_000));
+        insert.setDouble(3, random.nextDouble(1, 1000));
+        insert.setString(4, "A product description long enough to resemble the upstream catalog entries.");
+        insert.setString(5, CATEGORIES[random.nextInt(CATEGORIES.length)]);
+        insert.setString(6, "https://fakestoreapi.com/img/product.jpg");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FileStoreWriteBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,155 @@
+package com.github.souzafcharles.api.benchmark;
+
+import com.github.souzafcharles.api.utils.TimeOrderedIds;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Insert throughput and on-disk size of a keyed table for three key layouts: random UUIDv4
+ * strings (the former {@code @PrePersist} keys), {@link TimeOrderedIds} UUIDv7 strings, and the
+ * same UUIDv7 keys in H2's 16-byte {@code UUID} type. The table has a primary key and an indexed
+ * foreign-key-like column drawn from 1000 owner keys, like {@code tb_cart.user_id}. It is
+ * pre-filled with {@value #PRELOAD_ROWS} rows so inserts land in a B-tree of realistic depth;
+ * each benchmark operation inserts one batch of {@value #BATCH_SIZE} rows. Size per row is
+ * printed after the preload and again after the run, measured with {@code DISK_SPACE_USED}
+ * on a file database after a checkpoint.
+ * <p>
+ * Run with {@code mvn test-compile} and then launch {@link #main(String[])} from the IDE,
+ * or with the test classpath on the command line.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeyLayoutBenchmark {
+
+    private static final int PRELOAD_ROWS = 200_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int OWNERS = 1_000;
+
+    public enum KeyLayout {
+        RANDOM_V4("VARCHAR(36)") {
+            @Override
+            Object next() {
+                return UUID.randomUUID().toString();
+            }
+        },
+        TIME_ORDERED_V7("VARCHAR(36)") {
+            @Override
+            Object next() {
+                return TimeOrderedIds.next();
+            }
+        },
+        BINARY_V7("UUID") {
+            @Override
+            Object next() {
+                return TimeOrderedIds.nextUuid();
+            }
+        };
+
+        private final String columnType;
+
+        KeyLayout(String columnType) {
+            this.columnType = columnType;
+        }
+
+        abstract Object next();
+    }
+
+    @Param({"RANDOM_V4", "TIME_ORDERED_V7", "BINARY_V7"})
+    public KeyLayout layout;
+
+    private Path directory;
+    private Connection connection;
+    private PreparedStatement insert;
+    private Object[] owners;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("key-layout");
+        connection = DriverManager.getConnection("jdbc:h2:" + directory.resolve("keys"));
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE tb_key (id " + layout.columnType + " PRIMARY KEY, owner_id "
+                    + layout.columnType + " NOT NULL, payload VARCHAR(64))");
+            statement.execute("CREATE INDEX idx_key_owner ON tb_key (owner_id)");
+        }
+        owners = new Object[OWNERS];
+        for (int i = 0; i < OWNERS; i++) {
+            owners[i] = layout.next();
+        }
+        insert = connection.prepareStatement("INSERT INTO tb_key (id, owner_id, payload) VALUES (?, ?, ?)");
+        for (int i = 0; i < PRELOAD_ROWS / BATCH_SIZE; i++) {
+            insertBatch();
+        }
+        report("after preload");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        report("after run");
+        connection.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, layout.next());
+            insert.setObject(2, owners[random.nextInt(OWNERS)]);
+            insert.setString(3, "payload");
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    private void report(String phase) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CHECKPOINT");
+            try (ResultSet result = statement.executeQuery(
+                    "SELECT COUNT(*), DISK_SPACE_USED('TB_KEY') FROM tb_key")) {
+                result.next();
+                long rows = result.getLong(1);
+                long bytes = result.getLong(2);
+                System.out.printf("%n%s %s: %d rows, %d bytes, %.1f bytes/row%n",
+                        layout, phase, rows, bytes, bytes / (double) rows);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(KeyLayoutBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
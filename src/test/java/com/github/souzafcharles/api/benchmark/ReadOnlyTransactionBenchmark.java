@@ -0,0 +1,144 @@
+package com.github.souzafcharles.api.benchmark;
+
+import com.github.souzafcharles.api.FakeStoreApiApplication;
+import com.github.souzafcharles.api.client.FakeStoreClient;
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
+import com.github.souzafcharles.api.endpoint.cart.service.CartService;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.cartproduct.service.CartProductService;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.service.ProductService;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.util.retry.Retry;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * List and analytics service calls run in a read-write transaction against a read-only one
+ * (flush mode {@code MANUAL}, no entity snapshots), over 500 products, 200 users and 1000
+ * carts of 4 lines. The services join the outer transaction, so both variants execute the same
+ * queries; the difference is Hibernate's snapshot and flush-time dirty-checking work.
+ * {@link #main(String[])} adds the GC profiler, whose {@code gc.alloc.rate.norm} gives bytes
+ * allocated per call.
+ * <p>
+ * Run with {@code mvn test-compile} and then launch {@link #main(String[])} from the IDE,
+ * or with the test classpath on the command line.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadOnlyTransactionBenchmark {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    @Param({"false", "true"})
+    public boolean readOnly;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactions;
+    private ProductService productService;
+    private CartService cartService;
+    private CartProductService cartProductService;
+
+    @TestConfiguration
+    static class SeedData {
+
+        @Bean
+        @Primary
+        FakeStoreClient seedClient() {
+            return new FakeStoreClient(WebClient.create(), CircuitBreaker.ofDefaults("seed"), Retry.max(0)) {
+                @Override
+                public Flux<ProductResponseDTO> streamAllProducts() {
+                    return Flux.range(1, 500).map(i -> new ProductResponseDTO(String.valueOf(i), "Product " + i,
+                            1.0 + i, "Description of product " + i, "category-" + i % 8, null));
+                }
+
+                @Override
+                public Flux<UserResponseDTO> streamAllUsers() {
+                    return Flux.range(1, 200).map(i -> new UserResponseDTO(String.valueOf(i), "user" + i, "user" + i + "@example.com"));
+                }
+
+                @Override
+                public Flux<CartResponseDTO> streamAllCarts() {
+                    return Flux.range(1, 1000).map(i -> new CartResponseDTO(String.valueOf(i), String.valueOf(1 + i % 200),
+                            IntStream.range(0, 4)
+                                    .mapToObj(line -> new CartProductResponseDTO(String.valueOf(1 + (i * 7 + line * 31) % 500), null, null, 1 + line))
+                                    .toList()));
+                }
+            };
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(FakeStoreApiApplication.class, SeedData.class)
+                .run("--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--fakestore.sync.enabled=false",
+                        "--logging.level.root=WARN");
+        transactions = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactions.setReadOnly(readOnly);
+        productService = context.getBean(ProductService.class);
+        cartService = context.getBean(CartService.class);
+        cartProductService = context.getBean(CartProductService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private <T> T inTransaction(Supplier<T> call) {
+        return transactions.execute(status -> call.get());
+    }
+
+    @Benchmark
+    public Object listProducts() {
+        return inTransaction(() -> productService.getAllProducts(FIRST_PAGE));
+    }
+
+    @Benchmark
+    public Object listCarts() {
+        return inTransaction(() -> cartService.getAllCarts(FIRST_PAGE));
+    }
+
+    @Benchmark
+    public Object revenuePerProduct() {
+        return inTransaction(cartProductService::getRevenuePerProduct);
+    }
+
+    @Benchmark
+    public Object mostSoldProducts() {
+        return inTransaction(() -> cartProductService.getMostSoldProducts(10));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ReadOnlyTransactionBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.souzafcharles.api.benchmark;
+
+import com.github.souzafcharles.api.endpoint.product.controller.ProductController;
+import com.github.souzafcharles.api.web.SelfLinkTemplate;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Self-link generation for one 100-element page: the former
+ * {@code linkTo(methodOn(...).getById(id))} path against {@link SelfLinkTemplate}.
+ * {@link #main(String[])} adds the GC profiler, whose {@code gc.alloc.rate.norm} gives bytes
+ * allocated per page. The {@code methodOn} path allocates heavily and triggers frequent GCs,
+ * so it needs the longer warmup and two forks to give a stable score.
+ * <p>
+ * Run with {@code mvn test-compile} and then launch {@link #main(String[])} from the IDE,
+ * or with the test classpath on the command line.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class SelfLinkBenchmark {
+
+    private static final SelfLinkTemplate SELF_LINKS = SelfLinkTemplate.of(ProductController.class);
+
+    private List<String> ids;
+
+    @Setup
+    public void setUp() {
+        ids = IntStream.range(0, 100)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .toList();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public void webMvcLinkBuilder(Blackhole blackhole) {
+        for (String id : ids) {
+            blackhole.consume(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(ProductController.class)
+                    .getById(id, null)).withSelfRel());
+        }
+    }
+
+    @Benchmark
+    public void selfLinkTemplate(Blackhole blackhole) {
+        Function<String, Link> selfLink = SELF_LINKS.resolve();
+        for (String id : ids) {
+            blackhole.consume(selfLink.apply(id));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SelfLinkBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
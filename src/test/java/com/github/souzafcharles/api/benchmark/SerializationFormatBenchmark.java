@@ -0,0 +1,120 @@
+package com.github.souzafcharles.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.web.protobuf.CartList;
+import com.github.souzafcharles.api.web.protobuf.CatalogProtoMapper;
+import com.github.souzafcharles.api.web.protobuf.ProductList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Serialization time of a 100-product list and a 100-cart list (4 lines each) in each format
+ * offered through content negotiation. {@link #main(String[])} prints the payload sizes before
+ * running the benchmarks.
+ * <p>
+ * Run with {@code mvn test-compile} and then launch {@link #main(String[])} from the IDE,
+ * or with the test classpath on the command line.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationFormatBenchmark {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final ObjectMapper CBOR = new CBORMapper();
+    private static final ObjectMapper SMILE = new SmileMapper();
+
+    @Param({"products", "carts"})
+    public String payload;
+
+    private Object dtos;
+
+    @Setup
+    public void setUp() {
+        dtos = payload.equals("products") ? products() : carts();
+    }
+
+    static List<ProductResponseDTO> products() {
+        return IntStream.range(0, 100)
+                .mapToObj(i -> new ProductResponseDTO(
+                        String.valueOf(i),
+                        "Product title number " + i,
+                        9.99 + i,
+                        "A reasonably detailed product description that mentions materials, sizing and care. ".repeat(3),
+                        i % 2 == 0 ? "electronics" : "men's clothing",
+                        "https://fakestoreapi.com/img/" + i + "_t.png"))
+                .toList();
+    }
+
+    static List<CartResponseDTO> carts() {
+        return IntStream.range(0, 100)
+                .mapToObj(i -> new CartResponseDTO(
+                        String.valueOf(i),
+                        String.valueOf(i % 10),
+                        IntStream.range(0, 4)
+                                .mapToObj(j -> new CartProductResponseDTO(
+                                        String.valueOf(i + j), "Product title number " + (i + j), 9.99 + j, j + 1))
+                                .toList()))
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    static byte[] protobuf(Object dtos) {
+        List<?> list = (List<?>) dtos;
+        if (list.getFirst() instanceof ProductResponseDTO) {
+            ProductList.Builder builder = ProductList.newBuilder();
+            ((List<ProductResponseDTO>) list).forEach(dto -> builder.addProducts(CatalogProtoMapper.toProto(dto)));
+            return builder.build().toByteArray();
+        }
+        CartList.Builder builder = CartList.newBuilder();
+        ((List<CartResponseDTO>) list).forEach(dto -> builder.addCarts(CatalogProtoMapper.toProto(dto)));
+        return builder.build().toByteArray();
+    }
+
+    @Benchmark
+    public byte[] json() throws Exception {
+        return JSON.writeValueAsBytes(dtos);
+    }
+
+    @Benchmark
+    public byte[] cbor() throws Exception {
+        return CBOR.writeValueAsBytes(dtos);
+    }
+
+    @Benchmark
+    public byte[] smile() throws Exception {
+        return SMILE.writeValueAsBytes(dtos);
+    }
+
+    @Benchmark
+    public byte[] protobuf() {
+        return protobuf(dtos);
+    }
+
+    public static void main(String[] args) throws Exception {
+        for (List<?> dtos : List.of(products(), carts())) {
+            System.out.printf("%s: json=%d B, cbor=%d B, smile=%d B, protobuf=%d B%n",
+                    dtos.getFirst().getClass().getSimpleName(),
+                    JSON.writeValueAsBytes(dtos).length,
+                    CBOR.writeValueAsBytes(dtos).length,
+                    SMILE.writeValueAsBytes(dtos).length,
+                    protobuf(dtos).length);
+        }
+        new Runner(new OptionsBuilder()
+                .include(SerializationFormatBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
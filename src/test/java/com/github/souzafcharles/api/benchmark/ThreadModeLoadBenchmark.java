@@ -0,0 +1,107 @@
+package com.github.souzafcharles.api.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load driver used to compare the default platform-thread mode with the
+ * {@code virtual-threads} profile. Start the application once per mode, then run:
+ * <pre>
+ * java ... ThreadModeLoadBenchmark http://localhost:8080 400 30 /products/1 /cart-products/analytics/most-sold
+ * </pre>
+ * Arguments are base URL, concurrent clients, duration in seconds and the paths to
+ * cycle through. Prints throughput, p50, p99 and error count.
+ */
+public class ThreadModeLoadBenchmark {
+
+    public record Result(long requests, long errors, double throughput, double p50Millis, double p99Millis) {
+        @Override
+        public String toString() {
+            return String.format("requests=%d errors=%d throughput=%.1f req/s p50=%.2f ms p99=%.2f ms",
+                    requests, errors, throughput, p50Millis, p99Millis);
+        }
+    }
+
+    public static Result run(String baseUrl, int clients, Duration duration, List<String> paths) throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        List<URI> uris = paths.stream().map(path -> URI.create(baseUrl + path)).toList();
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        List<Future<long[]>> workers = new ArrayList<>(clients);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                int offset = c;
+                workers.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    for (int i = offset; System.nanoTime() < deadline; i++) {
+                        HttpRequest request = HttpRequest.newBuilder(uris.get(i % uris.size())).GET().build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+        }
+
+        long[] all = workers.stream()
+                .flatMapToLong(worker -> {
+                    try {
+                        return Arrays.stream(worker.get());
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .sorted()
+                .toArray();
+        return new Result(
+                all.length,
+                errors.get(),
+                all.length / (double) duration.toSeconds(),
+                percentile(all, 0.50),
+                percentile(all, 0.99)
+        );
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+        List<String> paths = args.length > 3
+                ? List.of(args).subList(3, args.length)
+                : List.of("/products/1", "/users/1", "/carts/1", "/cart-products/analytics/most-sold");
+        System.out.println(run(baseUrl, clients, duration, paths));
+    }
+}
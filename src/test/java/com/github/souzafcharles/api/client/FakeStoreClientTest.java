@@ -3,12 +3,18 @@ package com.github.souzafcharles.api.client;
 import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
 import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
 import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.retry.Retry;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -16,6 +22,8 @@ import static org.mockito.Mockito.*;
 
 class FakeStoreClientTest {
 
+    private static final Retry NO_RETRY = Retry.max(0).filter(e -> false);
+
     private WebClient webClient;
     private FakeStoreClient client;
 
@@ -23,7 +31,7 @@ class FakeStoreClientTest {
     void setup() {
         // Arrange: WebClient Mock
         webClient = mock(WebClient.class, RETURNS_DEEP_STUBS);
-        client = new FakeStoreClient(webClient);
+        client = new FakeStoreClient(webClient, CircuitBreaker.ofDefaults("fakeStore"), NO_RETRY);
     }
 
     @Test
@@ -102,4 +110,95 @@ class FakeStoreClientTest {
         assertEquals(1, result.length);
         assertEquals("balthazar", result[0].username());
     }
-}
\ No newline at end of file
+
+    @Test
+    void streamAllProductsShouldEmitEachProduct() {
+        // Arrange
+        ProductResponseDTO laptop = new ProductResponseDTO("1", "Laptop", 1500.0, "Gaming laptop", "Electronics", null);
+        ProductResponseDTO phone = new ProductResponseDTO("2", "Phone", 800.0, "Smartphone", "Electronics", null);
+        when(webClient.get()
+                .uri("https://fakestoreapi.com/products")
+                .retrieve()
+                .bodyToFlux(ProductResponseDTO.class))
+                .thenReturn(Flux.just(laptop, phone));
+
+        // Act & Assert
+        StepVerifier.create(client.streamAllProducts())
+                .expectNext(laptop, phone)
+                .verifyComplete();
+    }
+
+    @Test
+    void streamAllCartsShouldEmitEachCart() {
+        // Arrange
+        CartResponseDTO cart = new CartResponseDTO("1", "user1", List.of());
+        when(webClient.get()
+                .uri("https://fakestoreapi.com/carts")
+                .retrieve()
+                .bodyToFlux(CartResponseDTO.class))
+                .thenReturn(Flux.just(cart));
+
+        // Act & Assert
+        StepVerifier.create(client.streamAllCarts())
+                .expectNext(cart)
+                .verifyComplete();
+    }
+
+    @Test
+    void streamAllUsersShouldPropagateError() {
+        // Arrange
+        when(webClient.get()
+                .uri("https://fakestoreapi.com/users")
+                .retrieve()
+                .bodyToFlux(UserResponseDTO.class))
+                .thenReturn(Flux.error(new RuntimeException("API error")));
+
+        // Act & Assert
+        StepVerifier.create(client.streamAllUsers())
+                .expectErrorMessage("API error")
+                .verify();
+    }
+
+    @Test
+    void getAllProductsShouldRetryAfterTransientFailure() {
+        // Arrange
+        client = new FakeStoreClient(webClient, CircuitBreaker.ofDefaults("fakeStore"), Retry.max(1));
+        ProductResponseDTO[] mockProducts = {
+                new ProductResponseDTO("1", "Laptop", 1500.0, "Gaming laptop", "Electronics", null)
+        };
+        AtomicInteger attempts = new AtomicInteger();
+        when(webClient.get()
+                .uri("https://fakestoreapi.com/products")
+                .retrieve()
+                .bodyToMono(ProductResponseDTO[].class))
+                .thenReturn(Mono.defer(() -> attempts.getAndIncrement() == 0
+                        ? Mono.error(new RuntimeException("Connection reset"))
+                        : Mono.just(mockProducts)));
+
+        // Act
+        ProductResponseDTO[] result = client.getAllProducts().block();
+
+        // Assert
+        assertNotNull(result);
+        assertEquals(2, attempts.get());
+        assertEquals("Laptop", result[0].title());
+    }
+
+    @Test
+    void streamAllProductsShouldFailFastWhenCircuitIsOpen() {
+        // Arrange
+        CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("fakeStore");
+        circuitBreaker.transitionToOpenState();
+        client = new FakeStoreClient(webClient, circuitBreaker, NO_RETRY);
+        when(webClient.get()
+                .uri("https://fakestoreapi.com/products")
+                .retrieve()
+                .bodyToFlux(ProductResponseDTO.class))
+                .thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(client.streamAllProducts())
+                .expectError(CallNotPermittedException.class)
+                .verify();
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.souzafcharles.api.concurrency;
+
+import com.github.souzafcharles.api.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(5).toNanos();
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("analytics",
+            new ConcurrencyLimitProperties(true, 4, 1, 6, 0.5, Duration.ofMillis(500)), meterRegistry);
+
+    @Test
+    void tryAcquireShouldShedCallsOverLimit() {
+        // Arrange
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire() > 0);
+        }
+
+        // Act
+        int shed = limiter.tryAcquire();
+
+        // Assert
+        assertEquals(-1, shed);
+        assertEquals(4, limiter.getInFlight());
+        assertEquals(1.0, meterRegistry.get("fakestore.concurrency.rejected").tag("limiter", "analytics").counter().count());
+    }
+
+    @Test
+    void releaseShouldIncreaseLimitAdditivelyWhenBusyAndFast() {
+        // Arrange
+        int inFlight = 0;
+        for (int i = 0; i < 3; i++) {
+            inFlight = limiter.tryAcquire();
+        }
+
+        // Act
+        limiter.release(inFlight, FAST, false);
+
+        // Assert
+        assertEquals(5, limiter.getLimit());
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    void releaseShouldNotGrowLimitWhenMostlyIdle() {
+        // Arrange
+        int inFlight = limiter.tryAcquire();
+
+        // Act
+        limiter.release(inFlight, FAST, false);
+
+        // Assert
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void releaseShouldDecreaseLimitMultiplicativelyOnSlowOrDroppedCalls() {
+        // Act
+        limiter.release(limiter.tryAcquire(), SLOW, false);
+        int afterSlow = limiter.getLimit();
+        limiter.release(limiter.tryAcquire(), FAST, true);
+        limiter.release(limiter.tryAcquire(), SLOW, false);
+
+        // Assert
+        assertEquals(2, afterSlow);
+        assertEquals(1, limiter.getLimit());
+        assertEquals(1.0, meterRegistry.get("fakestore.concurrency.limit").tag("limiter", "analytics").gauge().value());
+    }
+
+    @Test
+    void limitShouldStayWithinConfiguredBounds() {
+        // Act
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.release(limiter.getLimit(), FAST, false);
+        }
+        int grown = limiter.getLimit();
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.release(1, SLOW, false);
+        }
+
+        // Assert
+        assertEquals(6, grown);
+        assertEquals(1, limiter.getLimit());
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.souzafcharles.api.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescingAspectTest {
+
+    static class Catalog {
+        @Coalesced
+        public String find(String id) {
+            return "product-" + id;
+        }
+
+        public String uncoalesced(String id) {
+            return "product-" + id;
+        }
+    }
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Catalog catalog = proxy(new CoalescingAspect(new SingleFlight(meterRegistry)));
+
+    private static Catalog proxy(CoalescingAspect aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Catalog());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    private double executed() {
+        var counter = meterRegistry.find("fakestore.singleflight.calls")
+                .tag("operation", "Catalog.find")
+                .tag("result", "executed")
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    void annotatedMethodShouldRunThroughSingleFlight() {
+        // Act
+        String result = catalog.find("1");
+
+        // Assert
+        assertEquals("product-1", result);
+        assertEquals(1.0, executed());
+    }
+
+    @Test
+    void annotatedMethodShouldRunDirectlyInsideTransaction() {
+        // Arrange
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // Act
+        String result = catalog.find("1");
+
+        // Assert
+        assertEquals("product-1", result);
+        assertEquals(0.0, executed());
+    }
+
+    @Test
+    void methodWithoutAnnotationShouldNotBeAdvised() {
+        // Act
+        catalog.uncoalesced("1");
+
+        // Assert
+        assertNull(meterRegistry.find("fakestore.singleflight.calls").counter());
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.souzafcharles.api.concurrency;
+
+import com.github.souzafcharles.api.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private static final String REVENUE = "/cart-products/analytics/revenue";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+
+    private RateLimiter limiter(int maxBuckets) {
+        RateLimitProperties properties = new RateLimitProperties(
+                true, 10, 5, maxBuckets, Duration.ofMinutes(1), Map.of(REVENUE, 4));
+        return new RateLimiter(properties, meterRegistry, clock::get);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    void tryAcquireShouldAdmitBurstUpToCapacityAndThenReject() {
+        // Arrange
+        RateLimiter limiter = limiter(100);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire("10.0.0.1", "GET", "/products/{id}").isZero());
+        }
+
+        // Act
+        Duration retryAfter = limiter.tryAcquire("10.0.0.1", "GET", "/products/{id}");
+
+        // Assert
+        assertEquals(Duration.ofMillis(200), retryAfter);
+        assertEquals(1.0, meterRegistry.get("fakestore.ratelimit.rejected").tag("route", "/products/{id}").counter().count());
+    }
+
+    @Test
+    void tryAcquireShouldRefillOverTime() {
+        // Arrange
+        RateLimiter limiter = limiter(100);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("10.0.0.1", "GET", "/products/{id}");
+        }
+
+        // Act
+        advance(Duration.ofMillis(400));
+
+        // Assert
+        assertTrue(limiter.tryAcquire("10.0.0.1", "GET", "/products/{id}").isZero());
+        assertTrue(limiter.tryAcquire("10.0.0.1", "GET", "/products/{id}").isZero());
+        assertFalse(limiter.tryAcquire("10.0.0.1", "GET", "/products/{id}").isZero());
+    }
+
+    @Test
+    void tryAcquireShouldChargeRouteCost() {
+        // Arrange
+        RateLimiter limiter = limiter(100);
+        limiter.tryAcquire("10.0.0.1", "GET", REVENUE);
+        limiter.tryAcquire("10.0.0.1", "GET", REVENUE);
+
+        // Act
+        Duration retryAfter = limiter.tryAcquire("10.0.0.1", "GET", REVENUE);
+
+        // Assert
+        assertEquals(Duration.ofMillis(400), retryAfter);
+    }
+
+    @Test
+    void tryAcquireShouldKeepClientsAndRoutesApart() {
+        // Arrange
+        RateLimiter limiter = limiter(100);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("10.0.0.1", "GET", "/products/{id}");
+        }
+
+        // Act & Assert
+        assertTrue(limiter.tryAcquire("10.0.0.2", "GET", "/products/{id}").isZero());
+        assertTrue(limiter.tryAcquire("10.0.0.1", "GET", "/users/{id}").isZero());
+        assertFalse(limiter.tryAcquire("10.0.0.1", "GET", "/products/{id}").isZero());
+    }
+
+    @Test
+    void tryAcquireShouldShareOverflowBucketWhenTableIsFull() {
+        // Arrange
+        RateLimiter limiter = limiter(2);
+        limiter.tryAcquire("10.0.0.1", "GET", "/products/{id}");
+        limiter.tryAcquire("10.0.0.2", "GET", "/products/{id}");
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("10.0.0." + (10 + i), "GET", "/products/{id}");
+        }
+
+        // Assert
+        assertEquals(3, limiter.size());
+        assertFalse(limiter.tryAcquire("10.0.0.99", "GET", "/products/{id}").isZero());
+    }
+
+    @Test
+    void evictIdleShouldDropBucketsUnusedForIdleTimeout() {
+        // Arrange
+        RateLimiter limiter = limiter(100);
+        limiter.tryAcquire("10.0.0.1", "GET", "/products/{id}");
+        advance(Duration.ofSeconds(30));
+        limiter.tryAcquire("10.0.0.2", "GET", "/products/{id}");
+        advance(Duration.ofSeconds(31));
+
+        // Act
+        limiter.evictIdle();
+
+        // Assert
+        assertEquals(1, limiter.size());
+    }
+}
@@ -0,0 +1,141 @@
+package com.github.souzafcharles.api.concurrency;
+
+import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight singleFlight = new SingleFlight(meterRegistry);
+
+    private double calls(String result) {
+        return meterRegistry.get("fakestore.singleflight.calls")
+                .tag("operation", "op")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private void awaitFollowers(int followers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            var counter = meterRegistry.find("fakestore.singleflight.calls").tag("result", "coalesced").counter();
+            if (counter != null && counter.count() >= followers) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+        fail("followers did not join the running call");
+    }
+
+    @Test
+    void concurrentCallsWithSameKeyShouldShareOneExecution() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        List<Future<String>> results = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("op", "1", () -> {
+                    executions.incrementAndGet();
+                    await(release);
+                    return "product-1";
+                })));
+            }
+            awaitFollowers(9);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("product-1", result.get(5, TimeUnit.SECONDS));
+            }
+        }
+
+        // Assert
+        assertEquals(1, executions.get());
+        assertEquals(1.0, calls("executed"));
+        assertEquals(9.0, calls("coalesced"));
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void exceptionShouldPropagateToEveryWaitingCaller() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<Object>> results = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("op", "missing", () -> {
+                    await(release);
+                    throw ResourceNotFoundException.forProduct("missing");
+                })));
+            }
+            awaitFollowers(2);
+            release.countDown();
+
+            // Assert
+            for (Future<Object> result : results) {
+                ExecutionException thrown = assertThrows(ExecutionException.class,
+                        () -> result.get(5, TimeUnit.SECONDS));
+                assertInstanceOf(ResourceNotFoundException.class, thrown.getCause());
+            }
+        }
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void sequentialCallsShouldNotBeCached() {
+        // Arrange
+        AtomicInteger executions = new AtomicInteger();
+
+        // Act
+        singleFlight.execute("op", "1", executions::incrementAndGet);
+        int second = singleFlight.execute("op", "1", executions::incrementAndGet);
+
+        // Assert
+        assertEquals(2, second);
+        assertEquals(2.0, calls("executed"));
+        assertEquals(0.0, calls("coalesced"));
+    }
+
+    @Test
+    void differentKeysShouldExecuteIndependently() {
+        // Arrange
+        AtomicInteger executions = new AtomicInteger();
+
+        // Act
+        String first = singleFlight.execute("op", "1", () -> singleFlight.execute("op", "2", () -> {
+            executions.incrementAndGet();
+            return "nested";
+        }));
+
+        // Assert
+        assertEquals("nested", first);
+        assertEquals(1, executions.get());
+        assertEquals(2.0, calls("executed"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.souzafcharles.api.endpoint.batch.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.endpoint.batch.model.dto.BatchOperationDTO;
+import com.github.souzafcharles.api.endpoint.batch.model.dto.BatchResultDTO;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BatchOperationDispatcherTest {
+
+    @Test
+    void dispatchShouldNotPassAcceptEncodingOn() throws Exception {
+        // Arrange
+        DispatcherServlet servlet = mock(DispatcherServlet.class);
+        List<String> acceptEncodings = new ArrayList<>();
+        doAnswer(invocation -> {
+            acceptEncodings.add(invocation.<HttpServletRequest>getArgument(0).getHeader(HttpHeaders.ACCEPT_ENCODING));
+            return null;
+        }).when(servlet).service(any(), any());
+        BatchOperationDispatcher dispatcher = new BatchOperationDispatcher(servlet, new ObjectMapper());
+        BatchOperationDTO operation = new BatchOperationDTO("a", "GET", "/products/1",
+                Map.of("Accept-Encoding", "gzip", "Accept", "application/json"), null);
+
+        // Act
+        dispatcher.dispatch(new MockHttpServletRequest(), new MockHttpServletResponse(), operation);
+
+        // Assert
+        assertEquals(1, acceptEncodings.size());
+        assertNull(acceptEncodings.getFirst());
+    }
+
+    @Test
+    void dispatchShouldDecodeGzipBodies() throws Exception {
+        // Arrange
+        DispatcherServlet servlet = mock(DispatcherServlet.class);
+        doAnswer(invocation -> {
+            HttpServletResponse response = invocation.getArgument(1);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            response.getOutputStream().write(gzip("{\"title\":\"Laptop\"}"));
+            return null;
+        }).when(servlet).service(any(), any());
+        BatchOperationDispatcher dispatcher = new BatchOperationDispatcher(servlet, new ObjectMapper());
+
+        // Act
+        BatchResultDTO result = dispatcher.dispatch(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                new BatchOperationDTO("a", "GET", "/products/1", null, null));
+
+        // Assert
+        assertEquals(200, result.status());
+        assertEquals("Laptop", result.body().get("title").asText());
+        assertFalse(result.headers().containsKey(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    private static byte[] gzip(String text) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,216 @@
+package com.github.souzafcharles.api.endpoint.batch.service;
+
+import com.github.souzafcharles.api.endpoint.batch.model.dto.BatchOperationDTO;
+import com.github.souzafcharles.api.endpoint.batch.model.dto.BatchRequestDTO;
+import com.github.souzafcharles.api.endpoint.batch.model.dto.BatchResponseDTO;
+import com.github.souzafcharles.api.endpoint.batch.model.dto.BatchResultDTO;
+import com.github.souzafcharles.api.exceptions.custom.InvalidRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BatchServiceTest {
+
+    private PlatformTransactionManager transactionManager;
+    private SimpleTransactionStatus transactionStatus;
+    private BatchService batchService;
+    private List<String> dispatched;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange
+        transactionManager = mock(PlatformTransactionManager.class);
+        transactionStatus = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        batchService = new BatchService(new TransactionTemplate(transactionManager), new SimpleAsyncTaskExecutor());
+        dispatched = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    private static BatchOperationDTO operation(String id, String method, String path) {
+        return new BatchOperationDTO(id, method, path, null, null);
+    }
+
+    private Function<BatchOperationDTO, BatchResultDTO> respondingWith(int status) {
+        return operation -> {
+            dispatched.add(operation.id());
+            int code = operation.path().endsWith("missing") ? 404 : status;
+            return new BatchResultDTO(operation.id(), code, Map.of(), null);
+        };
+    }
+
+    @Test
+    void executeShouldReturnResultsInRequestOrder() {
+        // Arrange
+        BatchRequestDTO request = new BatchRequestDTO(List.of(
+                operation("a", "GET", "/products/1"),
+                operation("b", "post", "/products"),
+                operation("c", "GET", "/products/missing")
+        ), false);
+
+        // Act
+        BatchResponseDTO response = batchService.execute(request, respondingWith(200));
+
+        // Assert
+        assertFalse(response.atomic());
+        assertFalse(response.rolledBack());
+        assertEquals(List.of("a", "b", "c"), response.results().stream().map(BatchResultDTO::id).toList());
+        assertEquals(List.of(200, 200, 404), response.results().stream().map(BatchResultDTO::status).toList());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void executeShouldDispatchConsecutiveReadsConcurrently() {
+        // Arrange
+        CountDownLatch allStarted = new CountDownLatch(3);
+        BatchRequestDTO request = new BatchRequestDTO(List.of(
+                operation("a", "GET", "/products/1"),
+                operation("b", "GET", "/users/1"),
+                operation("c", "GET", "/carts/1")
+        ), false);
+
+        // Act
+        BatchResponseDTO response = batchService.execute(request, operation -> {
+            allStarted.countDown();
+            try {
+                // Only completes if every read of the group is in flight at the same time.
+                assertTrue(allStarted.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new BatchResultDTO(operation.id(), 200, Map.of(), null);
+        });
+
+        // Assert
+        assertEquals(3, response.results().size());
+        assertEquals(0, allStarted.getCount());
+    }
+
+    @Test
+    void executeShouldTreatWritesAsBarriers() {
+        // Arrange
+        BatchRequestDTO request = new BatchRequestDTO(List.of(
+                operation("write", "POST", "/cart-products/1"),
+                operation("read", "GET", "/cart-products/1")
+        ), false);
+
+        // Act
+        batchService.execute(request, respondingWith(201));
+
+        // Assert
+        assertEquals(List.of("write", "read"), dispatched);
+    }
+
+    @Test
+    void executeShouldRollBackAndSkipRemainingOperationsWhenAtomicBatchFails() {
+        // Arrange
+        BatchRequestDTO request = new BatchRequestDTO(List.of(
+                operation("a", "POST", "/cart-products/1"),
+                operation("b", "GET", "/products/missing"),
+                operation("c", "DELETE", "/products/1")
+        ), true);
+
+        // Act
+        BatchResponseDTO response = batchService.execute(request, respondingWith(201));
+
+        // Assert
+        assertTrue(response.atomic());
+        assertTrue(response.rolledBack());
+        assertEquals(List.of("a", "b"), dispatched);
+        assertEquals(List.of(201, 404, 424), response.results().stream().map(BatchResultDTO::status).toList());
+        assertTrue(transactionStatus.isRollbackOnly());
+    }
+
+    @Test
+    void executeShouldCommitAtomicBatchWhenEveryOperationSucceeds() {
+        // Arrange
+        BatchRequestDTO request = new BatchRequestDTO(List.of(
+                operation("a", "POST", "/products"),
+                operation("b", "PUT", "/products/1")
+        ), true);
+
+        // Act
+        BatchResponseDTO response = batchService.execute(request, respondingWith(200));
+
+        // Assert
+        assertFalse(response.rolledBack());
+        assertFalse(transactionStatus.isRollbackOnly());
+        verify(transactionManager).commit(transactionStatus);
+    }
+
+    @Test
+    void executeShouldDropConditionalHeadersAndETagsInAtomicBatch() {
+        // Arrange
+        BatchRequestDTO request = new BatchRequestDTO(List.of(
+                new BatchOperationDTO("a", "GET", "/products/1", Map.of("if-none-match", "\"1-3\"", "Accept", "application/json"), null)
+        ), true);
+        List<BatchOperationDTO> received = new ArrayList<>();
+
+        // Act
+        BatchResponseDTO response = batchService.execute(request, operation -> {
+            received.add(operation);
+            return new BatchResultDTO(operation.id(), 200, Map.of("ETag", "\"1-4\"", "Vary", "Accept"), null);
+        });
+
+        // Assert
+        assertEquals(Map.of("Accept", "application/json"), received.getFirst().headers());
+        assertEquals(Map.of("Vary", "Accept"), response.results().getFirst().headers());
+    }
+
+    @Test
+    void executeShouldKeepConditionalHeadersAndETagsOutsideAtomicBatch() {
+        // Arrange
+        Map<String, String> headers = Map.of("If-None-Match", "\"1-3\"");
+        BatchRequestDTO request = new BatchRequestDTO(List.of(
+                new BatchOperationDTO("a", "GET", "/products/1", headers, null)
+        ), false);
+        List<BatchOperationDTO> received = new ArrayList<>();
+
+        // Act
+        BatchResponseDTO response = batchService.execute(request, operation -> {
+            received.add(operation);
+            return new BatchResultDTO(operation.id(), 304, Map.of("ETag", "\"1-3\""), null);
+        });
+
+        // Assert
+        assertEquals(headers, received.getFirst().headers());
+        assertEquals(Map.of("ETag", "\"1-3\""), response.results().getFirst().headers());
+    }
+
+    @Test
+    void executeShouldRejectInvalidBatches() {
+        // Arrange
+        List<BatchOperationDTO> tooMany = IntStream.rangeClosed(0, BatchService.MAX_OPERATIONS)
+                .mapToObj(i -> operation(String.valueOf(i), "GET", "/products/" + i))
+                .toList();
+        Function<BatchOperationDTO, BatchResultDTO> dispatcher = respondingWith(200);
+
+        // Act & Assert
+        assertThrows(InvalidRequestException.class,
+                () -> batchService.execute(new BatchRequestDTO(List.of(), false), dispatcher));
+        assertThrows(InvalidRequestException.class,
+                () -> batchService.execute(new BatchRequestDTO(tooMany, false), dispatcher));
+        assertThrows(InvalidRequestException.class,
+                () -> batchService.execute(new BatchRequestDTO(List.of(operation("a", "GET", "/batch")), false), dispatcher));
+        assertThrows(InvalidRequestException.class,
+                () -> batchService.execute(new BatchRequestDTO(List.of(operation("a", "GET", "products")), false), dispatcher));
+        assertThrows(InvalidRequestException.class,
+                () -> batchService.execute(new BatchRequestDTO(List.of(operation("a", "TRACE", "/products")), false), dispatcher));
+        assertTrue(dispatched.isEmpty());
+    }
+}
@@ -0,0 +1,145 @@
+package com.github.souzafcharles.api.endpoint.cart.controller;
+
+import com.github.souzafcharles.api.persistence.MaxStatements;
+import com.github.souzafcharles.api.persistence.QueryCountTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@QueryCountTest
+class CartControllerQueryCountTest {
+
+    private static final String CART_BODY = """
+            {"userId": "7", "products": [
+                {"productId": "1", "quantity": 1}, {"productId": "2", "quantity": 2},
+                {"productId": "3", "quantity": 3}, {"productId": "4", "quantity": 4}]}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @MaxStatements(3)
+    void getAllShouldReadPageOfCartsWithTheirLinesInOneQuery() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/carts").param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.cartResponseDTOList", hasSize(50)));
+    }
+
+    @Test
+    @MaxStatements(3)
+    void getAllWithFieldsShouldReadPageOfCartsWithTheirLinesInOneQuery() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/carts").param("size", "50").param("fields", "userId,products"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.cartResponseDTOList", hasSize(50)));
+    }
+
+    @Test
+    @MaxStatements(3)
+    void getAllShouldSortByUserIdThenId() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/carts").param("size", "50").param("sort", "userId,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.cartResponseDTOList", hasSize(50)))
+                .andExpect(jsonPath("$._links.self.href").value(containsString("sort=userId,desc")));
+    }
+
+    @Test
+    @MaxStatements(2)
+    void getAllWithFieldsShouldSortByUserIdAndRejectDerivedFields() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/carts").param("size", "50").param("fields", "userId").param("sort", "userId,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.cartResponseDTOList", hasSize(50)));
+        mockMvc.perform(get("/carts").param("fields", "userId").param("sort", "products"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @MaxStatements(1)
+    void getByIdShouldReadCartLinesInOneQuery() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/carts/10"))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andExpect(jsonPath("$.products", hasSize(4)));
+    }
+
+    @Test
+    @MaxStatements(2)
+    void getByIdWithFieldsShouldReadCartAndLinesInOneQueryEach() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/carts/10").param("fields", "userId,products"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products", hasSize(4)));
+    }
+
+    @Test
+    @MaxStatements(1)
+    void getByUserIdShouldReadAllCartsOfUserInOneQuery() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/carts/user/3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)));
+    }
+
+    @Test
+    @MaxStatements(1)
+    void getByProductIdShouldReadMatchingCartsInOneQuery() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/carts/product/20"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(1)
+    void getTotalProductsForUserShouldSumInOneQuery() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/carts/user/3/total-products"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(1)
+    void getCartsWithTotalValueGreaterThanShouldReadMatchingCartsInOneQuery() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/carts/total-value").param("minTotal", "2000"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(7)
+    void createShouldNotLoadProductsOneByOne() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/carts").contentType(MediaType.APPLICATION_JSON).content(CART_BODY))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.products", hasSize(4)));
+    }
+
+    @Test
+    @MaxStatements(17)
+    void updateShouldNotLoadProductsOneByOne() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/carts/20").contentType(MediaType.APPLICATION_JSON).content(CART_BODY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products", hasSize(4)));
+    }
+
+    @Test
+    @MaxStatements(7)
+    void deleteShouldRemoveCartAndItsLines() throws Exception {
+        // Act & Assert
+        mockMvc.perform(delete("/carts/30"))
+                .andExpect(status().isNoContent());
+    }
+}
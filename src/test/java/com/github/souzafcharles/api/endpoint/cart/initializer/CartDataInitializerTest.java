@@ -12,7 +12,7 @@ import com.github.souzafcharles.api.endpoint.user.model.entity.User;
 import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import reactor.core.publisher.Mono;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 import java.util.Optional;
@@ -60,7 +60,7 @@ class CartDataInitializerTest {
         initializer.init();
 
         // Assert
-        verify(fakeStoreClient, never()).getAllCarts();
+        verify(fakeStoreClient, never()).streamAllCarts();
         verify(cartRepository, never()).saveAll(anyList());
     }
 
@@ -68,7 +68,7 @@ class CartDataInitializerTest {
     void initShouldNotSaveWhenFakeStoreReturnsNull() {
         // Arrange
         when(cartRepository.count()).thenReturn(0L);
-        when(fakeStoreClient.getAllCarts()).thenReturn(Mono.justOrEmpty(null));
+        when(fakeStoreClient.streamAllCarts()).thenReturn(Flux.empty());
 
         // Act
         initializer.init();
@@ -81,7 +81,7 @@ class CartDataInitializerTest {
     void initShouldNotSaveWhenFakeStoreReturnsEmptyArray() {
         // Arrange
         when(cartRepository.count()).thenReturn(0L);
-        when(fakeStoreClient.getAllCarts()).thenReturn(Mono.just(new CartResponseDTO[0]));
+        when(fakeStoreClient.streamAllCarts()).thenReturn(Flux.fromArray(new CartResponseDTO[0]));
 
         // Act
         initializer.init();
@@ -95,7 +95,7 @@ class CartDataInitializerTest {
         // Arrange
         when(cartRepository.count()).thenReturn(0L);
         CartResponseDTO cartDTO = new CartResponseDTO("c1", "u1", List.of(new CartProductResponseDTO("p1", "Laptop", 1500.0, 1)));
-        when(fakeStoreClient.getAllCarts()).thenReturn(Mono.just(new CartResponseDTO[]{cartDTO}));
+        when(fakeStoreClient.streamAllCarts()).thenReturn(Flux.just(cartDTO));
         when(userRepository.findById("u1")).thenReturn(Optional.empty());
 
         // Act
@@ -110,7 +110,7 @@ class CartDataInitializerTest {
         // Arrange
         when(cartRepository.count()).thenReturn(0L);
         CartResponseDTO cartDTO = new CartResponseDTO("c1", "u1", List.of(new CartProductResponseDTO("p1", "Laptop", 1500.0, 1)));
-        when(fakeStoreClient.getAllCarts()).thenReturn(Mono.just(new CartResponseDTO[]{cartDTO}));
+        when(fakeStoreClient.streamAllCarts()).thenReturn(Flux.just(cartDTO));
         when(userRepository.findById("u1")).thenReturn(Optional.of(user));
         when(productRepository.findById("p1")).thenReturn(Optional.empty());
 
@@ -134,7 +134,7 @@ class CartDataInitializerTest {
         // Arrange
         when(cartRepository.count()).thenReturn(0L);
         CartResponseDTO cartDTO = new CartResponseDTO("c1", "u1", List.of(new CartProductResponseDTO("p1", "Laptop", 1500.0, 2)));
-        when(fakeStoreClient.getAllCarts()).thenReturn(Mono.just(new CartResponseDTO[]{cartDTO}));
+        when(fakeStoreClient.streamAllCarts()).thenReturn(Flux.just(cartDTO));
         when(userRepository.findById("u1")).thenReturn(Optional.of(user));
         when(productRepository.findById("p1")).thenReturn(Optional.of(product));
 
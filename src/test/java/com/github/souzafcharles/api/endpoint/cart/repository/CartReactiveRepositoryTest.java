@@ -0,0 +1,69 @@
+package com.github.souzafcharles.api.endpoint.cart.repository;
+
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductResponseDTO;
+import com.github.souzafcharles.api.persistence.ReactiveDatabase;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+class CartReactiveRepositoryTest {
+
+    private ReactiveDatabase reactiveDatabase;
+    private CartReactiveRepository cartReactiveRepository;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange
+        String url = "r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1";
+        reactiveDatabase = new ReactiveDatabase(new ConnectionPool(
+                ConnectionPoolConfiguration.builder(ConnectionFactories.get(url)).build()));
+        cartReactiveRepository = new CartReactiveRepository(reactiveDatabase);
+
+        DatabaseClient client = reactiveDatabase.client();
+        Flux.just(
+                        "CREATE TABLE tb_product (id VARCHAR(255) PRIMARY KEY, title VARCHAR(255), price DOUBLE PRECISION)",
+                        "CREATE TABLE tb_cart (id VARCHAR(255) PRIMARY KEY, user_id VARCHAR(255))",
+                        "CREATE TABLE tb_cart_product (cart_id VARCHAR(255), product_id VARCHAR(255), quantity INTEGER)",
+                        "INSERT INTO tb_product VALUES ('p1', 'Laptop', 1500.0), ('p2', 'Chair', 200.0)",
+                        "INSERT INTO tb_cart VALUES ('c1', 'u1'), ('c2', 'u2'), ('c3', 'u1')",
+                        "INSERT INTO tb_cart_product VALUES ('c1', 'p2', 1), ('c1', 'p1', 2), ('c3', 'p1', 5)"
+                )
+                .concatMap(sql -> client.sql(sql).then())
+                .blockLast();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reactiveDatabase.close();
+    }
+
+    @Test
+    void findAllShouldFoldJoinedRowsIntoOneCartEach() {
+        // Act & Assert
+        StepVerifier.create(cartReactiveRepository.findAll())
+                .expectNext(new CartResponseDTO("c1", "u1", List.of(
+                        new CartProductResponseDTO("p1", "Laptop", 1500.0, 2),
+                        new CartProductResponseDTO("p2", "Chair", 200.0, 1))))
+                .expectNext(new CartResponseDTO("c2", "u2", List.of()))
+                .expectNext(new CartResponseDTO("c3", "u1", List.of(
+                        new CartProductResponseDTO("p1", "Laptop", 1500.0, 5))))
+                .verifyComplete();
+    }
+
+    @Test
+    void findByIdShouldReturnEmptyWhenCartDoesNotExist() {
+        // Act & Assert
+        StepVerifier.create(cartReactiveRepository.findById("missing"))
+                .verifyComplete();
+    }
+}
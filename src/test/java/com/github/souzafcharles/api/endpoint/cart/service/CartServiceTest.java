@@ -1,9 +1,11 @@
 package com.github.souzafcharles.api.endpoint.cart.service;
 
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartLineDTO;
 import com.github.souzafcharles.api.endpoint.cart.model.dto.CartRequestDTO;
 import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
 import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductRequestDTO;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductResponseDTO;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.entity.CartProduct;
 import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
 import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
@@ -12,15 +14,22 @@ import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
 import com.github.souzafcharles.api.endpoint.cart.repository.CartRepository;
 import com.github.souzafcharles.api.exceptions.custom.DatabaseException;
 import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
+import com.github.souzafcharles.api.persistence.ProjectionQueries;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Pageable;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -31,6 +40,7 @@ class CartServiceTest {
     private CartRepository cartRepository;
     private UserRepository userRepository;
     private ProductRepository productRepository;
+    private ProjectionQueries projectionQueries;
     private CartService cartService;
 
     private User user;
@@ -44,7 +54,9 @@ class CartServiceTest {
         userRepository = mock(UserRepository.class);
         productRepository = mock(ProductRepository.class);
 
-        cartService = new CartService(cartRepository, userRepository, productRepository);
+        projectionQueries = mock(ProjectionQueries.class);
+
+        cartService = new CartService(cartRepository, userRepository, productRepository, projectionQueries);
 
         user = new User();
         user.setId("u1");
@@ -62,29 +74,53 @@ class CartServiceTest {
         cp.setCart(cart);
         cp.setProduct(product);
         cp.setQuantity(2);
-        cart.setCartProducts(List.of(cp));
+        cart.setCartProducts(new ArrayList<>(List.of(cp)));
     }
 
 
     @Test
     void getAllCartsShouldReturnPagedResult() {
         // Arrange
-        when(cartRepository.findAll()).thenReturn(List.of(cart));
         Pageable pageable = PageRequest.of(0, 10);
+        when(cartRepository.findIdPage(PageRequest.of(0, 10, Sort.by("id")))).thenReturn(new PageImpl<>(List.of("c2", "c1"), pageable, 2));
+        when(cartRepository.findLinesByCartIds(List.of("c2", "c1"))).thenReturn(List.of(
+                new CartLineDTO("c1", "u1", "p1", "Laptop", 1500.0, 2),
+                new CartLineDTO("c2", "u2", null, null, null, null)
+        ));
 
         // Act
         Page<CartResponseDTO> page = cartService.getAllCarts(pageable);
 
         // Assert
-        assertEquals(1, page.getTotalElements());
-        assertEquals("c1", page.getContent().get(0).id());
+        assertEquals(2, page.getTotalElements());
+        assertEquals(List.of("c2", "c1"), page.getContent().stream().map(CartResponseDTO::id).toList());
+        assertTrue(page.getContent().get(0).products().isEmpty());
+        assertEquals(new CartProductResponseDTO("p1", "Laptop", 1500.0, 2), page.getContent().get(1).products().getFirst());
+        verify(cartRepository, never()).findAll();
     }
 
 
+    @Test
+    void getAllCartsShouldSkipCartsDeletedBetweenQueries() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        when(cartRepository.findIdPage(PageRequest.of(0, 10, Sort.by("id")))).thenReturn(new PageImpl<>(List.of("c1", "c2"), pageable, 2));
+        when(cartRepository.findLinesByCartIds(List.of("c1", "c2"))).thenReturn(List.of(
+                new CartLineDTO("c2", "u2", null, null, null, null)
+        ));
+
+        // Act
+        Page<CartResponseDTO> page = cartService.getAllCarts(pageable);
+
+        // Assert
+        assertEquals(List.of("c2"), page.getContent().stream().map(CartResponseDTO::id).toList());
+    }
+
     @Test
     void getCartByIdShouldReturnCart() {
         // Arrange
-        when(cartRepository.findById("c1")).thenReturn(Optional.of(cart));
+        when(cartRepository.findLinesByCartId("c1")).thenReturn(List.of(
+                new CartLineDTO("c1", "u1", "p1", "Laptop", 1500.0, 2)));
 
         // Act
         CartResponseDTO response = cartService.getCartById("c1");
@@ -92,12 +128,13 @@ class CartServiceTest {
         // Assert
         assertEquals("c1", response.id());
         assertEquals("u1", response.userId());
+        assertEquals(List.of(new CartProductResponseDTO("p1", "Laptop", 1500.0, 2)), response.products());
     }
 
     @Test
     void getCartByIdShouldThrowWhenNotFound() {
         // Arrange
-        when(cartRepository.findById("c1")).thenReturn(Optional.empty());
+        when(cartRepository.findLinesByCartId("c1")).thenReturn(List.of());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> cartService.getCartById("c1"));
@@ -109,7 +146,7 @@ class CartServiceTest {
         CartProductRequestDTO productDTO = new CartProductRequestDTO("p1", 2);
         CartRequestDTO requestDTO = new CartRequestDTO("u1", List.of(productDTO));
         when(userRepository.findById("u1")).thenReturn(Optional.of(user));
-        when(productRepository.findById("p1")).thenReturn(Optional.of(product));
+        when(productRepository.findAllById(List.of("p1"))).thenReturn(List.of(product));
         when(cartRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
@@ -136,7 +173,7 @@ class CartServiceTest {
         // Arrange
         CartRequestDTO requestDTO = new CartRequestDTO("u1", List.of(new CartProductRequestDTO("p1", 1)));
         when(userRepository.findById("u1")).thenReturn(Optional.of(user));
-        when(productRepository.findById("p1")).thenReturn(Optional.empty());
+        when(productRepository.findAllById(List.of("p1"))).thenReturn(List.of());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> cartService.createCart(requestDTO));
@@ -148,7 +185,7 @@ class CartServiceTest {
         CartRequestDTO requestDTO = new CartRequestDTO("u1", List.of(new CartProductRequestDTO("p1", 3)));
         when(cartRepository.findById("c1")).thenReturn(Optional.of(cart));
         when(userRepository.findById("u1")).thenReturn(Optional.of(user));
-        when(productRepository.findById("p1")).thenReturn(Optional.of(product));
+        when(productRepository.findAllById(List.of("p1"))).thenReturn(List.of(product));
         when(cartRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
@@ -184,20 +221,28 @@ class CartServiceTest {
     @Test
     void getCartsByUserIdShouldReturnList() {
         // Arrange
-        when(cartRepository.findByUserId("u1")).thenReturn(List.of(cart));
+        when(cartRepository.findLinesByUserId("u1")).thenReturn(List.of(
+                new CartLineDTO("c1", "u1", "p1", "Laptop", 1500.0, 2),
+                new CartLineDTO("c1", "u1", "p2", "Chair", 200.0, 1),
+                new CartLineDTO("c3", "u1", null, null, null, null)
+        ));
 
         // Act
         List<CartResponseDTO> result = cartService.getCartsByUserId("u1");
 
         // Assert
-        assertEquals(1, result.size());
+        assertEquals(2, result.size());
         assertEquals("c1", result.get(0).id());
+        assertEquals(2, result.get(0).products().size());
+        assertEquals("c3", result.get(1).id());
+        assertTrue(result.get(1).products().isEmpty());
     }
 
     @Test
     void getCartsByProductIdShouldReturnList() {
         // Arrange
-        when(cartRepository.findByCartProductsProductId("p1")).thenReturn(List.of(cart));
+        when(cartRepository.findLinesOfCartsContainingProduct("p1")).thenReturn(List.of(
+                new CartLineDTO("c1", "u1", "p1", "Laptop", 1500.0, 2)));
 
         // Act
         List<CartResponseDTO> result = cartService.getCartsByProductId("p1");
@@ -209,8 +254,8 @@ class CartServiceTest {
 
     @Test
     void getTotalProductsForUserShouldReturnSum() {
-        // Act
-        when(cartRepository.findByUserId("u1")).thenReturn(List.of(cart));
+        // Arrange
+        when(cartRepository.sumQuantityByUserId("u1")).thenReturn(2L);
 
         // Act
         long total = cartService.getTotalProductsForUser("u1");
@@ -222,7 +267,9 @@ class CartServiceTest {
     @Test
     void getCartsWithTotalValueGreaterThanShouldReturnFilteredList() {
         // Arrange
-        when(cartRepository.findAll()).thenReturn(List.of(cart));
+        when(cartRepository.findLinesOfCartsWithTotalValueGreaterThan(1000.0)).thenReturn(List.of(
+                new CartLineDTO("c1", "u1", "p1", "Laptop", 1500.0, 2)));
+        when(cartRepository.findLinesOfCartsWithTotalValueGreaterThan(5000.0)).thenReturn(List.of());
 
         // Act
         List<CartResponseDTO> result = cartService.getCartsWithTotalValueGreaterThan(1000.0);
@@ -234,4 +281,74 @@ class CartServiceTest {
         result = cartService.getCartsWithTotalValueGreaterThan(5000.0);
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    void exportCartsShouldFoldConsecutiveLinesIntoOneCart() {
+        // Arrange
+        when(cartRepository.streamLinesForExport()).thenReturn(Stream.of(
+                new CartLineDTO("c1", "u1", "p1", "Laptop", 1500.0, 2),
+                new CartLineDTO("c1", "u1", "p2", "Chair", 200.0, 1),
+                new CartLineDTO("c2", "u2", null, null, null, null),
+                new CartLineDTO("c3", "u1", "p1", "Laptop", 1500.0, 4)
+        ));
+        List<CartResponseDTO> exported = new ArrayList<>();
+
+        // Act
+        cartService.exportCarts(exported::add);
+
+        // Assert
+        assertEquals(3, exported.size());
+        assertEquals(List.of("p1", "p2"), exported.get(0).products().stream().map(CartProductResponseDTO::productId).toList());
+        assertTrue(exported.get(1).products().isEmpty());
+        assertEquals("u1", exported.get(2).userId());
+        assertEquals(4, exported.get(2).products().getFirst().quantity());
+    }
+
+    @Test
+    void getAllCartsWithFieldsShouldNotJoinProductsUnlessRequested() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        when(projectionQueries.findPage(any(), eq(List.of("id", "userId")), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(new HashMap<>(Map.of("id", "c1", "userId", "u1"))), pageable, 1));
+
+        // Act
+        Page<Map<String, Object>> result = cartService.getAllCarts(pageable, "userId");
+
+        // Assert
+        assertEquals(Map.of("id", "c1", "userId", "u1"), result.getContent().getFirst());
+        verify(cartRepository, never()).findLinesByCartIds(any());
+    }
+
+    @Test
+    void getAllCartsWithFieldsShouldAttachProductsOfThePageInOneQuery() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        List<Map<String, Object>> rows = List.of(new HashMap<>(Map.of("id", "c1")), new HashMap<>(Map.of("id", "c2")));
+        when(projectionQueries.findPage(any(), eq(List.of("id", "products")), eq(pageable)))
+                .thenReturn(new PageImpl<>(rows, pageable, 2));
+        when(cartRepository.findLinesByCartIds(List.of("c1", "c2"))).thenReturn(List.of(
+                new CartLineDTO("c1", "u1", "p1", "Laptop", 1500.0, 2),
+                new CartLineDTO("c1", "u1", "p2", "Chair", 200.0, 1)
+        ));
+
+        // Act
+        Page<Map<String, Object>> result = cartService.getAllCarts(pageable, "products");
+
+        // Assert
+        assertEquals(List.of(
+                new CartProductResponseDTO("p1", "Laptop", 1500.0, 2),
+                new CartProductResponseDTO("p2", "Chair", 200.0, 1)
+        ), result.getContent().get(0).get("products"));
+        assertEquals(List.of(), result.getContent().get(1).get("products"));
+        verify(cartRepository, times(1)).findLinesByCartIds(any());
+    }
+
+    @Test
+    void getCartByIdWithFieldsShouldThrowWhenNotFound() {
+        // Arrange
+        when(projectionQueries.findById(any(), any(), eq("missing"))).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> cartService.getCartById("missing", "userId"));
+    }
 }
@@ -0,0 +1,78 @@
+package com.github.souzafcharles.api.endpoint.cartproduct.controller;
+
+import com.github.souzafcharles.api.persistence.MaxStatements;
+import com.github.souzafcharles.api.persistence.QueryCountTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@QueryCountTest
+class CartProductControllerQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @MaxStatements(1)
+    void getProductsInCartShouldReadLinesInOneQuery() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/cart-products/10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(4)));
+    }
+
+    @Test
+    @MaxStatements(5)
+    void addProductToCartShouldNotLoadEveryLineProduct() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/cart-products/11").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productId\": \"190\", \"quantity\": 2}"))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @MaxStatements(3)
+    void deleteProductFromCartShouldNotLoadEveryLineProduct() throws Exception {
+        // Act & Assert
+        mockMvc.perform(delete("/cart-products/12/{productId}", (12 * 7 + 13) % 180 + 1))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @MaxStatements(1)
+    void getMostSoldProductsShouldAggregateInOneQuery() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/cart-products/analytics/most-sold").param("topN", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(10)));
+    }
+
+    @Test
+    @MaxStatements(1)
+    void getRevenuePerProductShouldAggregateInOneQuery() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/cart-products/analytics/revenue"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(1)
+    void getTotalItemsInCartsShouldAggregateInOneQuery() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/cart-products/analytics/total-items"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(1)
+    void getCartsContainingProductShouldReadCartIdsInOneQuery() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/cart-products/analytics/carts-by-product/20"))
+                .andExpect(status().isOk());
+    }
+}
@@ -1,9 +1,11 @@
 package com.github.souzafcharles.api.endpoint.cartproduct.service;
 
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartLineDTO;
 import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
 import com.github.souzafcharles.api.endpoint.cart.repository.CartRepository;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductRequestDTO;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.ProductRevenueDTO;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.ProductSalesDTO;
 import com.github.souzafcharles.api.endpoint.cartproduct.model.entity.CartProduct;
 import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
@@ -11,6 +13,7 @@ import com.github.souzafcharles.api.endpoint.product.repository.ProductRepositor
 import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -134,13 +137,8 @@ class CartProductServiceTest {
     @Test
     void getProductsInCartShouldReturnList() {
         // Arrange
-        CartProduct cartProduct = new CartProduct();
-        cartProduct.setCart(cart);
-        cartProduct.setProduct(product);
-        cartProduct.setQuantity(2);
-        cart.getCartProducts().add(cartProduct);
-
-        when(cartRepository.findById("c1")).thenReturn(Optional.of(cart));
+        when(cartRepository.findLinesByCartId("c1")).thenReturn(List.of(
+                new CartLineDTO("c1", "u1", "p1", "Laptop", 1500.0, 2)));
 
         // Act
         List<CartProductResponseDTO> result = cartProductService.getProductsInCart("c1");
@@ -148,18 +146,33 @@ class CartProductServiceTest {
         // Assert
         assertEquals(1, result.size());
         assertEquals("p1", result.get(0).productId());
+        verify(cartRepository, never()).findById(any());
+    }
+
+    @Test
+    void getProductsInCartShouldReturnEmptyListForCartWithoutLines() {
+        // Arrange
+        when(cartRepository.findLinesByCartId("c2")).thenReturn(List.of(
+                new CartLineDTO("c2", "u1", null, null, null, null)));
+
+        // Act & Assert
+        assertTrue(cartProductService.getProductsInCart("c2").isEmpty());
+    }
+
+    @Test
+    void getProductsInCartShouldThrowWhenCartDoesNotExist() {
+        // Arrange
+        when(cartRepository.findLinesByCartId("missing")).thenReturn(List.of());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> cartProductService.getProductsInCart("missing"));
     }
 
     @Test
     void getMostSoldProductsShouldReturnTopProducts() {
         // Arrange
-        CartProduct cartProduct = new CartProduct();
-        cartProduct.setProduct(product);
-        cartProduct.setCart(cart);
-        cartProduct.setQuantity(5);
-        cart.getCartProducts().add(cartProduct);
-        when(cartRepository.findAll()).thenReturn(List.of(cart));
-        when(productRepository.findById("p1")).thenReturn(Optional.of(product));
+        when(cartRepository.findMostSoldProducts(Limit.of(1)))
+                .thenReturn(List.of(new ProductSalesDTO("p1", "Laptop", 5)));
 
         // Act
         List<ProductSalesDTO> result = cartProductService.getMostSoldProducts(1);
@@ -167,17 +180,24 @@ class CartProductServiceTest {
         // Assert
         assertEquals(1, result.size());
         assertEquals(5, result.get(0).totalSold());
+        verify(cartRepository, never()).findAll();
+    }
+
+    @Test
+    void getMostSoldProductsShouldReturnEmptyListWithoutQueryingForZero() {
+        // Act
+        List<ProductSalesDTO> result = cartProductService.getMostSoldProducts(0);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(cartRepository);
     }
 
     @Test
     void getRevenuePerProductShouldReturnMap() {
         // Arrange
-        CartProduct cartProduct = new CartProduct();
-        cartProduct.setProduct(product);
-        cartProduct.setCart(cart);
-        cartProduct.setQuantity(2);
-        cart.getCartProducts().add(cartProduct);
-        when(cartRepository.findAll()).thenReturn(List.of(cart));
+        when(cartRepository.findRevenuePerProductTitle())
+                .thenReturn(List.of(new ProductRevenueDTO("Laptop", 3000.0)));
 
         // Act
         Map<String, Double> revenue = cartProductService.getRevenuePerProduct();
@@ -190,12 +210,7 @@ class CartProductServiceTest {
     @Test
     void getTotalItemsInCartsShouldReturnSum() {
         // Arrange
-        CartProduct cartProduct1 = new CartProduct();
-        cartProduct1.setProduct(product);
-        cartProduct1.setCart(cart);
-        cartProduct1.setQuantity(3);
-        cart.getCartProducts().add(cartProduct1);
-        when(cartRepository.findAll()).thenReturn(List.of(cart));
+        when(cartRepository.sumQuantity()).thenReturn(3L);
 
         // Act
         long total = cartProductService.getTotalItemsInCarts();
@@ -207,12 +222,7 @@ class CartProductServiceTest {
     @Test
     void getCartsContainingProductShouldReturnCartIds() {
         // Arrange
-        CartProduct cartProduct = new CartProduct();
-        cartProduct.setProduct(product);
-        cartProduct.setCart(cart);
-        cartProduct.setQuantity(1);
-        cart.getCartProducts().add(cartProduct);
-        when(cartRepository.findAll()).thenReturn(List.of(cart));
+        when(cartRepository.findCartIdsByProductId("p1")).thenReturn(List.of("c1"));
 
         // Act
         List<String> result = cartProductService.getCartsContainingProduct("p1");
@@ -220,5 +230,6 @@ class CartProductServiceTest {
         // Assert
         assertEquals(1, result.size());
         assertEquals("c1", result.get(0));
+        verify(cartRepository, never()).findAll();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,173 @@
+package com.github.souzafcharles.api.endpoint.product.controller;
+
+import com.github.souzafcharles.api.persistence.MaxStatements;
+import com.github.souzafcharles.api.persistence.QueryCountTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.matchesRegex;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@QueryCountTest
+class ProductControllerQueryCountTest {
+
+    private static final String PRODUCT_BODY = """
+            {"title": "Desk lamp", "price": 35.5, "description": "LED desk lamp",
+             "category": "electronics", "image": "https://example.com/lamp.png"}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @MaxStatements(2)
+    void getAllShouldReadPageOfProducts() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/products").param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.productResponseDTOList", hasSize(100)));
+    }
+
+    @Test
+    @MaxStatements(2)
+    void getAllWithFieldsShouldReadPageOfProducts() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/products").param("size", "100").param("fields", "title,price"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.productResponseDTOList", hasSize(100)));
+    }
+
+    @Test
+    @MaxStatements(1)
+    void getByIdsShouldReadAllRequestedProductsInOneQuery() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/products").param("ids", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(10)));
+    }
+
+    @Test
+    @MaxStatements(2)
+    void getByIdShouldReadProduct() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/products/15"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, matchesRegex("\"15-\\d+\"")))
+                .andExpect(jsonPath("$.title").value("Product 15"));
+    }
+
+    @Test
+    @MaxStatements(3)
+    void getByIdShouldTagEachFormatAndVaryOnAccept() throws Exception {
+        // Act
+        String eTag = mockMvc.perform(get("/products/15").accept(MediaType.valueOf("application/cbor")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, matchesRegex("\"15-\\d+-cbor\"")))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Assert
+        mockMvc.perform(get("/products/15").accept(MediaType.valueOf("application/cbor")).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+    }
+
+    @Test
+    @MaxStatements(2)
+    void getByIdPrecompressedShouldReadProduct() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/products/16").header(HttpHeaders.ACCEPT_ENCODING, "identity"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(2)
+    void getByIdWithFieldsShouldReadProduct() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/products/15").param("fields", "price"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(1)
+    void searchShouldReadMatchesInOneQuery() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/products/search").param("keyword", "Product 1"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(1)
+    void searchShouldMatchWildcardsLiterally() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/products/search").param("keyword", "Product _"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @MaxStatements(1)
+    void topExpensiveShouldReadTopProductsInOneQuery() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/products/top-expensive").param("topN", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(10)));
+    }
+
+    @Test
+    @MaxStatements(1)
+    void topCheapestShouldReadTopProductsInOneQuery() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/products/top-cheapest").param("topN", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(10)));
+    }
+
+    @Test
+    @MaxStatements(1)
+    void averagePricePerCategoryShouldAggregateInOneQuery() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/products/average-price-category"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4));
+    }
+
+    @Test
+    @MaxStatements(1)
+    void productsByPriceRangeShouldReadMatchesInOneQuery() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/products/price-range").param("min", "100").param("max", "200"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(1)
+    void createShouldInsertProduct() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/products").contentType(MediaType.APPLICATION_JSON).content(PRODUCT_BODY))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @MaxStatements(2)
+    void updateShouldUpdateProduct() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/products/25").contentType(MediaType.APPLICATION_JSON).content(PRODUCT_BODY))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(3)
+    void deleteShouldDeleteProductInNoCart() throws Exception {
+        // Act & Assert
+        mockMvc.perform(delete("/products/190"))
+                .andExpect(status().isNoContent());
+    }
+}
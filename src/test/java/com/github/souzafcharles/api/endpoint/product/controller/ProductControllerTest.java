@@ -1,26 +1,42 @@
 package com.github.souzafcharles.api.endpoint.product.controller;
 
+import com.github.souzafcharles.api.concurrency.CoalescingAspect;
+import com.github.souzafcharles.api.concurrency.SingleFlight;
 import com.github.souzafcharles.api.endpoint.product.model.dto.ProductRequestDTO;
 import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.model.dto.VersionedProductDTO;
+import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
 import com.github.souzafcharles.api.endpoint.product.service.ProductService;
+import com.github.souzafcharles.api.web.PrecompressedBodyCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -32,6 +48,9 @@ class ProductControllerTest {
     @Mock
     private PagedResourcesAssembler<ProductResponseDTO> assembler;
 
+    @Mock
+    private PrecompressedBodyCache bodyCache;
+
     @InjectMocks
     private ProductController productController;
 
@@ -51,7 +70,7 @@ class ProductControllerTest {
 
         // Act
         ResponseEntity<PagedModel<EntityModel<ProductResponseDTO>>> response =
-                productController.getAll(Pageable.unpaged(), assembler);
+                productController.getAll(Pageable.unpaged(), assembler, null);
 
         // Assert
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
@@ -73,7 +92,7 @@ class ProductControllerTest {
 
         // Act
         ResponseEntity<PagedModel<EntityModel<ProductResponseDTO>>> response =
-                productController.getAll(Pageable.unpaged(), assembler);
+                productController.getAll(Pageable.unpaged(), assembler, null);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -85,16 +104,126 @@ class ProductControllerTest {
     @Test
     void getByIdShouldReturnProduct() {
         // Arrange
-        when(productService.getProductById("1")).thenReturn(productDTO);
+        when(productService.getVersionedProductById("1")).thenReturn(new VersionedProductDTO(productDTO, 0L));
 
         // Act
-        ResponseEntity<ProductResponseDTO> response = productController.getById("1");
+        ResponseEntity<ProductResponseDTO> response = productController.getById("1", null);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals("Laptop", response.getBody().title());
     }
 
+    @Test
+    void getByIdShouldReturnStrongETag() {
+        // Arrange
+        when(productService.getProductVersion("1")).thenReturn(3L);
+        when(productService.getVersionedProductById("1")).thenReturn(new VersionedProductDTO(productDTO, 3L));
+
+        // Act
+        ResponseEntity<ProductResponseDTO> response = productController.getById("1", null);
+
+        // Assert
+        assertEquals("\"1-3\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void getByIdShouldTagBodyWithTheVersionItWasReadAt() {
+        // Arrange
+        when(productService.getProductVersion("1")).thenReturn(4L);
+        when(productService.getVersionedProductById("1")).thenReturn(new VersionedProductDTO(productDTO, 3L));
+
+        // Act
+        ResponseEntity<ProductResponseDTO> response = productController.getById("1", null);
+
+        // Assert
+        assertEquals("\"1-3\"", response.getHeaders().getETag());
+        assertEquals("Laptop", response.getBody().title());
+    }
+
+    @Test
+    void getByIdShouldNotPairABodyFromAnEarlierFlightWithTheNewVersion() throws Exception {
+        // Arrange
+        ProductRepository productRepository = mock(ProductRepository.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new ProductService(productRepository, null, null));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new CoalescingAspect(new SingleFlight(meterRegistry)));
+        ProductController controller = new ProductController(factory.getProxy(), null, null, bodyCache);
+
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(productRepository.findVersionById("1")).thenReturn(Optional.of(3L)).thenReturn(Optional.of(4L));
+        when(productRepository.findVersionedDtoById("1")).thenAnswer(invocation -> {
+            reading.countDown();
+            release.await();
+            return Optional.of(new VersionedProductDTO(productDTO, 3L));
+        });
+
+        // Act
+        ResponseEntity<ProductResponseDTO> first;
+        ResponseEntity<ProductResponseDTO> second;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<ResponseEntity<ProductResponseDTO>> leader = executor.submit(() -> controller.getById("1", null));
+            assertTrue(reading.await(5, TimeUnit.SECONDS));
+            // An update commits version 4 while the leader's body read is still running.
+            Future<ResponseEntity<ProductResponseDTO>> follower = executor.submit(() -> controller.getById("1", null));
+            awaitCoalesced(meterRegistry, "ProductService.getVersionedProductById");
+            release.countDown();
+            first = leader.get(5, TimeUnit.SECONDS);
+            second = follower.get(5, TimeUnit.SECONDS);
+        }
+
+        // Assert
+        verify(productRepository, times(1)).findVersionedDtoById("1");
+        assertEquals("\"1-3\"", first.getHeaders().getETag());
+        assertEquals("\"1-3\"", second.getHeaders().getETag());
+        assertSame(first.getBody(), second.getBody());
+    }
+
+    private static void awaitCoalesced(SimpleMeterRegistry meterRegistry, String operation) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            var counter = meterRegistry.find("fakestore.singleflight.calls")
+                    .tag("operation", operation)
+                    .tag("result", "coalesced")
+                    .counter();
+            if (counter != null && counter.count() >= 1) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+        fail("the follower did not join the running read");
+    }
+
+    @Test
+    void getByIdShouldReturnNotModifiedWhenETagMatches() {
+        // Arrange
+        when(productService.getProductVersion("1")).thenReturn(3L);
+
+        // Act
+        ResponseEntity<ProductResponseDTO> response = productController.getById("1", "\"1-3\"");
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        verify(productService, never()).getVersionedProductById(anyString());
+    }
+
+    @Test
+    void getAllShouldReturnNotModifiedWhenCollectionETagMatches() {
+        // Arrange
+        when(productService.getProductsTableVersion()).thenReturn("abc-7");
+
+        // Act
+        ResponseEntity<PagedModel<EntityModel<ProductResponseDTO>>> response =
+                productController.getAll(Pageable.unpaged(), assembler, "W/\"products-abc-7\"");
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        verify(productService, never()).getAllProducts(any(Pageable.class));
+    }
+
     @Test
     void createShouldReturnCreatedProduct() {
         // Arrange
@@ -123,6 +252,85 @@ class ProductControllerTest {
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals("Laptop Pro", response.getBody().title());
+        verify(bodyCache).evict("products/1");
+    }
+
+    @Test
+    void getByIdPrecompressedShouldServeCachedGzipBody() {
+        // Arrange
+        byte[] gzipped = {31, -117, 8};
+        when(productService.getProductVersion("1")).thenReturn(3L);
+        when(bodyCache.get(eq("products/1"), eq(3L), eq(true), any()))
+                .thenReturn(new PrecompressedBodyCache.Body(gzipped, true, 3L));
+
+        // Act
+        ResponseEntity<?> response = productController.getByIdPrecompressed("1", "gzip, deflate", null, null);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(gzipped, response.getBody());
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("\"1-3-gzip\"", response.getHeaders().getETag());
+        verify(productService, never()).getVersionedProductById(anyString());
+    }
+
+    @Test
+    void getByIdPrecompressedShouldTagIdentityBodyWithoutCoding() {
+        // Arrange
+        byte[] identity = {'{', '}'};
+        when(productService.getProductVersion("1")).thenReturn(3L);
+        when(bodyCache.get(eq("products/1"), eq(3L), eq(false), any()))
+                .thenReturn(new PrecompressedBodyCache.Body(identity, false, 3L));
+
+        // Act
+        ResponseEntity<?> response = productController.getByIdPrecompressed("1", "identity", null, null);
+
+        // Assert
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("\"1-3\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void getByIdPrecompressedShouldEchoTheGzipTagOnNotModified() {
+        // Arrange
+        when(productService.getProductVersion("1")).thenReturn(3L);
+
+        // Act
+        ResponseEntity<?> response = productController.getByIdPrecompressed("1", "gzip", null, "\"1-2-gzip\", \"1-3-gzip\"");
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"1-3-gzip\"", response.getHeaders().getETag());
+        verifyNoInteractions(bodyCache);
+    }
+
+    @Test
+    void getByIdPrecompressedShouldTagBodyWithTheVersionItWasLoadedAt() {
+        // Arrange
+        byte[] gzipped = {31, -117, 8};
+        when(productService.getProductVersion("1")).thenReturn(4L);
+        when(bodyCache.get(eq("products/1"), eq(4L), eq(true), any()))
+                .thenReturn(new PrecompressedBodyCache.Body(gzipped, true, 3L));
+
+        // Act
+        ResponseEntity<?> response = productController.getByIdPrecompressed("1", "gzip", null, null);
+
+        // Assert
+        assertEquals("\"1-3-gzip\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void getByIdPrecompressedShouldFallBackToRegularResponseForOtherFormats() {
+        // Arrange
+        when(productService.getVersionedProductById("1")).thenReturn(new VersionedProductDTO(productDTO, 0L));
+
+        // Act
+        ResponseEntity<?> response = productController.getByIdPrecompressed("1", "gzip", "application/cbor", null);
+
+        // Assert
+        assertEquals(productDTO, response.getBody());
+        verifyNoInteractions(bodyCache);
     }
 
     @Test
@@ -218,7 +426,7 @@ class ProductControllerTest {
 
         // Act
         ResponseEntity<PagedModel<EntityModel<ProductResponseDTO>>> response =
-                productController.getAll(Pageable.unpaged(), assembler);
+                productController.getAll(Pageable.unpaged(), assembler, null);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -0,0 +1,74 @@
+package com.github.souzafcharles.api.endpoint.product.controller;
+
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.repository.ProductReactiveRepository;
+import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.Mockito.when;
+
+class ProductReactiveControllerTest {
+
+    @Mock
+    private ProductReactiveRepository productReactiveRepository;
+
+    @InjectMocks
+    private ProductReactiveController productReactiveController;
+
+    private ProductResponseDTO laptop;
+    private ProductResponseDTO chair;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        laptop = new ProductResponseDTO("1", "Laptop", 1500.0, "Gaming laptop", "Electronics", null);
+        chair = new ProductResponseDTO("2", "Chair", 200.0, "Office chair", "Furniture", null);
+    }
+
+    @Test
+    void getAllShouldStreamProductsOnDemand() {
+        // Arrange
+        when(productReactiveRepository.findAll()).thenReturn(Flux.just(laptop, chair));
+
+        // Act & Assert
+        StepVerifier.create(productReactiveController.getAll(), 1)
+                .expectNext(laptop)
+                .thenRequest(1)
+                .expectNext(chair)
+                .verifyComplete();
+    }
+
+    @Test
+    void getByIdShouldReturnProductWhenFound() {
+        // Arrange
+        when(productReactiveRepository.findById("1")).thenReturn(Mono.just(laptop));
+
+        // Act & Assert
+        StepVerifier.create(productReactiveController.getById("1"))
+                .expectNext(laptop)
+                .verifyComplete();
+    }
+
+    @Test
+    void getByIdShouldFailWithNotFoundWhenMissing() {
+        // Arrange
+        when(productReactiveRepository.findById("99")).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(productReactiveController.getById("99"))
+                .expectErrorSatisfies(error -> {
+                    assertInstanceOf(ResourceNotFoundException.class, error);
+                    assertEquals("Product not found with ID: 99", error.getMessage());
+                })
+                .verify();
+    }
+}
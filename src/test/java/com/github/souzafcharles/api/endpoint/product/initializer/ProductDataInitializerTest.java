@@ -5,7 +5,7 @@ import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDT
 import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import reactor.core.publisher.Mono;
+import reactor.core.publisher.Flux;
 
 import java.util.stream.StreamSupport;
 
@@ -31,7 +31,7 @@ class ProductDataInitializerTest {
         // Arrange
         when(productRepository.count()).thenReturn(0L);
         ProductResponseDTO dto = new ProductResponseDTO("1", "Laptop", 1500.0, "Gaming", "Electronics", null);
-        when(fakeStoreClient.getAllProducts()).thenReturn(Mono.just(new ProductResponseDTO[]{dto}));
+        when(fakeStoreClient.streamAllProducts()).thenReturn(Flux.just(dto));
 
         // Act
         initializer.init();
@@ -41,7 +41,7 @@ class ProductDataInitializerTest {
                 StreamSupport.stream(iterable.spliterator(), false)
                         .anyMatch(p -> p.getId().equals("1") && p.getTitle().equals("Laptop"))
         ));
-        verify(fakeStoreClient, times(1)).getAllProducts();
+        verify(fakeStoreClient, times(1)).streamAllProducts();
     }
 
     @Test
@@ -53,7 +53,7 @@ class ProductDataInitializerTest {
         initializer.init();
 
         // Assert
-        verify(fakeStoreClient, never()).getAllProducts();
+        verify(fakeStoreClient, never()).streamAllProducts();
         verify(productRepository, never()).saveAll(anyList());
     }
 
@@ -61,13 +61,13 @@ class ProductDataInitializerTest {
     void initShouldNotSaveWhenFakeStoreReturnsEmptyArray() {
         // Arrange
         when(productRepository.count()).thenReturn(0L);
-        when(fakeStoreClient.getAllProducts()).thenReturn(Mono.just(new ProductResponseDTO[0]));
+        when(fakeStoreClient.streamAllProducts()).thenReturn(Flux.fromArray(new ProductResponseDTO[0]));
 
         // Act
         initializer.init();
 
         // Assert
-        verify(fakeStoreClient, times(1)).getAllProducts();
+        verify(fakeStoreClient, times(1)).streamAllProducts();
         verify(productRepository, never()).saveAll(anyList());
     }
 
@@ -75,13 +75,31 @@ class ProductDataInitializerTest {
     void initShouldNotSaveWhenFakeStoreReturnsNull() {
         // Arrange
         when(productRepository.count()).thenReturn(0L);
-        when(fakeStoreClient.getAllProducts()).thenReturn(Mono.justOrEmpty(null));
+        when(fakeStoreClient.streamAllProducts()).thenReturn(Flux.empty());
 
         // Act
         initializer.init();
 
         // Assert
-        verify(fakeStoreClient, times(1)).getAllProducts();
+        verify(fakeStoreClient, times(1)).streamAllProducts();
         verify(productRepository, never()).saveAll(anyList());
     }
-}
\ No newline at end of file
+
+    @Test
+    void initShouldSaveProductsInBoundedBatches() {
+        // Arrange
+        when(productRepository.count()).thenReturn(0L);
+        Flux<ProductResponseDTO> products = Flux.range(1, 250)
+                .map(i -> new ProductResponseDTO(String.valueOf(i), "Product " + i, 10.0, null, "Misc", null));
+        when(fakeStoreClient.streamAllProducts()).thenReturn(products);
+
+        // Act
+        initializer.init();
+
+        // Assert
+        verify(productRepository, times(2)).saveAll(argThat(iterable ->
+                StreamSupport.stream(iterable.spliterator(), false).count() == 100));
+        verify(productRepository, times(1)).saveAll(argThat(iterable ->
+                StreamSupport.stream(iterable.spliterator(), false).count() == 50));
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.souzafcharles.api.endpoint.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductBulkResultDTO;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductBulkSummaryDTO;
+import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
+import com.github.souzafcharles.api.persistence.TableVersions;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ProductBulkImportServiceTest {
+
+    private static final String LAPTOP = """
+            {"title":"Laptop","price":1500.0,"description":"Gaming laptop","category":"Electronics"}""";
+    private static final String CHAIR = """
+            {"title":"Chair","price":200.0,"category":"Furniture"}""";
+    private static final String NO_TITLE = """
+            {"price":-1.0,"category":"Furniture"}""";
+
+    private JdbcTemplate jdbcTemplate;
+    private TableVersions tableVersions;
+    private ProductBulkImportService bulkImportService;
+    private List<ProductBulkResultDTO> results;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange
+        jdbcTemplate = mock(JdbcTemplate.class);
+        tableVersions = mock(TableVersions.class);
+        bulkImportService = new ProductBulkImportService(
+                jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper(),
+                tableVersions,
+                2
+        );
+        results = new ArrayList<>();
+    }
+
+    private ProductBulkSummaryDTO importBody(String body) {
+        return bulkImportService.importProducts(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), results::add);
+    }
+
+    @Test
+    void importProductsShouldInsertJsonArrayInChunkedBatches() {
+        // Act
+        ProductBulkSummaryDTO summary = importBody("[" + LAPTOP + "," + CHAIR + "," + LAPTOP + "]");
+
+        // Assert
+        assertEquals(new ProductBulkSummaryDTO(3, 3, 0, 0), summary);
+        assertEquals(List.of(0, 1, 2), results.stream().map(ProductBulkResultDTO::index).toList());
+        assertTrue(results.stream().allMatch(r -> r.status() == ProductBulkResultDTO.Status.CREATED && r.id() != null));
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat(rows -> rows.size() == 2), eq(2), any());
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat(rows -> rows.size() == 1), eq(1), any());
+        verify(tableVersions, times(2)).increment(Product.class);
+    }
+
+    @Test
+    void importProductsShouldReportInvalidNdjsonItemsAndKeepGoing() {
+        // Act
+        ProductBulkSummaryDTO summary = importBody(LAPTOP + "\n" + NO_TITLE + "\n{\"title\":\"X\",\"price\":\"cheap\"}\n" + CHAIR + "\n");
+
+        // Assert
+        assertEquals(new ProductBulkSummaryDTO(4, 2, 2, 0), summary);
+        assertEquals(ProductBulkResultDTO.Status.CREATED, results.get(0).status());
+        assertEquals(ProductBulkResultDTO.Status.INVALID, results.get(1).status());
+        assertEquals(2, results.get(1).errors().size());
+        assertNull(results.get(1).id());
+        assertEquals(ProductBulkResultDTO.Status.INVALID, results.get(2).status());
+        assertTrue(results.get(2).errors().getFirst().startsWith("Malformed item: "));
+        assertEquals(ProductBulkResultDTO.Status.CREATED, results.get(3).status());
+    }
+
+    @Test
+    void importProductsShouldReportWholeChunkAsFailedWhenBatchIsRolledBack() {
+        // Arrange
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenReturn(new int[][]{{1}});
+
+        // Act
+        ProductBulkSummaryDTO summary = importBody("[" + LAPTOP + "," + NO_TITLE + "," + CHAIR + "]");
+
+        // Assert
+        assertEquals(new ProductBulkSummaryDTO(3, 1, 1, 1), summary);
+        assertEquals(ProductBulkResultDTO.Status.FAILED, results.get(0).status());
+        assertEquals(List.of("duplicate key"), results.get(0).errors());
+        assertEquals(ProductBulkResultDTO.Status.INVALID, results.get(1).status());
+        assertEquals(ProductBulkResultDTO.Status.CREATED, results.get(2).status());
+        verify(tableVersions, times(1)).increment(Product.class);
+    }
+
+    @Test
+    void importProductsShouldStopAtSyntaxError() {
+        // Act
+        ProductBulkSummaryDTO summary = importBody("[" + LAPTOP + ", {\"title\": ");
+
+        // Assert
+        assertEquals(new ProductBulkSummaryDTO(2, 1, 1, 0), summary);
+        assertEquals(ProductBulkResultDTO.Status.INVALID, results.get(1).status());
+    }
+}
@@ -1,21 +1,37 @@
 package com.github.souzafcharles.api.endpoint.product.service;
 
+import com.github.souzafcharles.api.endpoint.product.model.dto.CategoryAveragePriceDTO;
 import com.github.souzafcharles.api.endpoint.product.model.dto.ProductRequestDTO;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.model.dto.VersionedProductDTO;
 import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
 import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
+import com.github.souzafcharles.api.exceptions.custom.InvalidRequestException;
 import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
+import com.github.souzafcharles.api.persistence.ProjectionQueries;
+import com.github.souzafcharles.api.web.MultiGetEntry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class ProductServiceTest {
@@ -23,6 +39,9 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProjectionQueries projectionQueries;
+
     @InjectMocks
     private ProductService productService;
 
@@ -51,37 +70,60 @@ class ProductServiceTest {
     @Test
     void getAllProductsShouldReturnPagedProducts() {
         // Arrange
-        when(productRepository.findAll()).thenReturn(List.of(product, anotherProduct));
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(productRepository.findDtoPage(PageRequest.of(0, 10, Sort.by("id")))).thenReturn(new PageImpl<>(
+                List.of(new ProductResponseDTO(product), new ProductResponseDTO(anotherProduct)), pageable, 2));
 
         // Act
-        var page = productService.getAllProducts(PageRequest.of(0, 10));
+        var page = productService.getAllProducts(pageable);
 
         // Assert
         assertEquals(2, page.getTotalElements());
         assertEquals("Laptop", page.getContent().get(0).title());
         assertEquals("Chair", page.getContent().get(1).title());
+        verify(productRepository, never()).findAll();
     }
 
     @Test
     void getProductByIdShouldReturnProduct() {
         // Arrange
-        when(productRepository.findById("1")).thenReturn(Optional.of(product));
+        when(productRepository.findVersionedDtoById("1"))
+                .thenReturn(Optional.of(new VersionedProductDTO(new ProductResponseDTO(product), 3L)));
 
         // Act
-        var response = productService.getProductById("1");
+        var response = productService.getVersionedProductById("1");
 
         // Assert
-        assertEquals("Laptop", response.title());
-        assertEquals("Electronics", response.category());
+        assertEquals("Laptop", response.product().title());
+        assertEquals("Electronics", response.product().category());
+        assertEquals(3L, response.version());
     }
 
     @Test
     void getProductByIdShouldThrowException() {
         // Arrange
-        when(productRepository.findById("99")).thenReturn(Optional.empty());
+        when(productRepository.findVersionedDtoById("99")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> productService.getVersionedProductById("99"));
+    }
+
+    @Test
+    void getProductVersionShouldReturnVersion() {
+        // Arrange
+        when(productRepository.findVersionById("1")).thenReturn(Optional.of(4L));
+
+        // Act & Assert
+        assertEquals(4L, productService.getProductVersion("1"));
+    }
+
+    @Test
+    void getProductVersionShouldThrowException() {
+        // Arrange
+        when(productRepository.findVersionById("99")).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThrows(ResourceNotFoundException.class, () -> productService.getProductById("99"));
+        assertThrows(ResourceNotFoundException.class, () -> productService.getProductVersion("99"));
     }
 
     @Test
@@ -153,8 +195,7 @@ class ProductServiceTest {
     @Test
     void searchProductsShouldReturnMatchingProducts() {
         // Arrange
-        when(productRepository.findByTitleContainingIgnoreCase("Laptop")).thenReturn(List.of(product));
-        when(productRepository.findByDescriptionContainingIgnoreCase("Laptop")).thenReturn(List.of(product));
+        when(productRepository.searchDtos("Laptop")).thenReturn(List.of(new ProductResponseDTO(product)));
 
         // Act
         var results = productService.searchProducts("Laptop");
@@ -167,7 +208,7 @@ class ProductServiceTest {
     @Test
     void getTopExpensiveProductsShouldReturnTopN() {
         // Arrange
-        when(productRepository.findAllByOrderByPriceDesc()).thenReturn(List.of(product, anotherProduct));
+        when(productRepository.findDtosOrderByPriceDesc(Limit.of(1))).thenReturn(List.of(new ProductResponseDTO(product)));
 
         // Act
         var top = productService.getTopExpensiveProducts(1);
@@ -175,12 +216,13 @@ class ProductServiceTest {
         // Assert
         assertEquals(1, top.size());
         assertEquals("Laptop", top.get(0).title());
+        verify(productRepository, times(1)).findDtosOrderByPriceDesc(Limit.of(1));
     }
 
     @Test
     void getTopCheapestProductsShouldReturnTopN() {
         // Arrange
-        when(productRepository.findAllByOrderByPriceAsc()).thenReturn(List.of(anotherProduct, product));
+        when(productRepository.findDtosOrderByPriceAsc(Limit.of(1))).thenReturn(List.of(new ProductResponseDTO(anotherProduct)));
 
         // Act
         var top = productService.getTopCheapestProducts(1);
@@ -188,12 +230,25 @@ class ProductServiceTest {
         // Assert
         assertEquals(1, top.size());
         assertEquals("Chair", top.get(0).title());
+        verify(productRepository, times(1)).findDtosOrderByPriceAsc(Limit.of(1));
+    }
+
+    @Test
+    void getTopCheapestProductsShouldReturnEmptyListWithoutQueryingForZero() {
+        // Act
+        var top = productService.getTopCheapestProducts(0);
+
+        // Assert
+        assertTrue(top.isEmpty());
+        verifyNoInteractions(productRepository);
     }
 
     @Test
     void getAveragePricePerCategoryShouldReturnMap() {
         // Arrange
-        when(productRepository.findAll()).thenReturn(List.of(product, anotherProduct));
+        when(productRepository.findAveragePricePerCategory()).thenReturn(List.of(
+                new CategoryAveragePriceDTO("Electronics", 1500.0),
+                new CategoryAveragePriceDTO("Furniture", 200.0)));
 
         // Act
         Map<String, Double> averages = productService.getAveragePricePerCategory();
@@ -207,7 +262,7 @@ class ProductServiceTest {
     @Test
     void getProductsByPriceRangeShouldReturnFiltered() {
         // Arrange
-        when(productRepository.findByPriceBetween(100.0, 1000.0)).thenReturn(List.of(anotherProduct));
+        when(productRepository.findDtosByPriceBetween(100.0, 1000.0)).thenReturn(List.of(new ProductResponseDTO(anotherProduct)));
 
         // Act
         var results = productService.getProductsByPriceRange(100.0, 1000.0);
@@ -216,4 +271,72 @@ class ProductServiceTest {
         assertEquals(1, results.size());
         assertEquals("Chair", results.get(0).title());
     }
-}
\ No newline at end of file
+
+    @Test
+    void exportProductsShouldPushEveryRowAndCloseTheStream() {
+        // Arrange
+        ProductResponseDTO laptop = new ProductResponseDTO(product);
+        ProductResponseDTO chair = new ProductResponseDTO(anotherProduct);
+        AtomicBoolean closed = new AtomicBoolean();
+        when(productRepository.streamAllForExport())
+                .thenReturn(Stream.of(laptop, chair).onClose(() -> closed.set(true)));
+        List<ProductResponseDTO> exported = new ArrayList<>();
+
+        // Act
+        productService.exportProducts(exported::add);
+
+        // Assert
+        assertEquals(List.of(laptop, chair), exported);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void getProductsByIdsShouldKeepRequestOrderAndMarkMissingIds() {
+        // Arrange
+        when(productRepository.findDtosByIdIn(Set.of("2", "1", "99")))
+                .thenReturn(List.of(new ProductResponseDTO(product), new ProductResponseDTO(anotherProduct)));
+
+        // Act
+        List<MultiGetEntry<ProductResponseDTO>> result = productService.getProductsByIds(List.of("2", "99", "1", "2"));
+
+        // Assert
+        assertEquals(List.of("2", "99", "1", "2"), result.stream().map(MultiGetEntry::id).toList());
+        assertEquals("Chair", result.get(0).item().title());
+        assertFalse(result.get(1).found());
+        assertNull(result.get(1).item());
+        assertEquals("Laptop", result.get(2).item().title());
+        verify(productRepository, times(1)).findDtosByIdIn(any());
+    }
+
+    @Test
+    void getProductsByIdsShouldRejectTooManyIds() {
+        // Arrange
+        List<String> ids = IntStream.rangeClosed(0, MultiGetEntry.MAX_IDS).mapToObj(String::valueOf).toList();
+
+        // Act & Assert
+        assertThrows(InvalidRequestException.class, () -> productService.getProductsByIds(ids));
+        verify(productRepository, never()).findDtosByIdIn(any());
+    }
+
+    @Test
+    void getProductByIdWithFieldsShouldOnlySelectRequestedFields() {
+        // Arrange
+        when(projectionQueries.findById(any(), eq(List.of("id", "title", "price")), eq("1")))
+                .thenReturn(Optional.of(Map.of("id", "1", "title", "Laptop", "price", 1500.0)));
+
+        // Act
+        Map<String, Object> result = productService.getProductById("1", "price,title");
+
+        // Assert
+        assertEquals(Map.of("id", "1", "title", "Laptop", "price", 1500.0), result);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void getAllProductsWithUnknownFieldShouldThrowInvalidRequest() {
+        // Act & Assert
+        assertThrows(InvalidRequestException.class,
+                () -> productService.getAllProducts(PageRequest.of(0, 10), "title,secret"));
+        verifyNoInteractions(projectionQueries);
+    }
+}
@@ -0,0 +1,128 @@
+package com.github.souzafcharles.api.endpoint.product.sync;
+
+import com.github.souzafcharles.api.client.FakeStoreClient;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
+import com.github.souzafcharles.api.endpoint.product.repository.ProductRepository;
+import com.github.souzafcharles.api.sync.SyncResult;
+import com.github.souzafcharles.api.sync.SyncState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ProductSynchronizerTest {
+
+    private ProductRepository productRepository;
+    private FakeStoreClient fakeStoreClient;
+    private ProductSynchronizer synchronizer;
+
+    private ProductResponseDTO laptop;
+    private ProductResponseDTO chair;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange
+        productRepository = mock(ProductRepository.class);
+        fakeStoreClient = mock(FakeStoreClient.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        synchronizer = new ProductSynchronizer(productRepository, fakeStoreClient, transactionTemplate);
+
+        laptop = new ProductResponseDTO("1", "Laptop", 1500.0, "Gaming laptop", "Electronics", null);
+        chair = new ProductResponseDTO("2", "Chair", 200.0, "Office chair", "Furniture", null);
+    }
+
+    private static SyncState state(String id, String hash) {
+        return new SyncState() {
+            @Override
+            public String getId() {
+                return id;
+            }
+
+            @Override
+            public String getSyncHash() {
+                return hash;
+            }
+        };
+    }
+
+    @Test
+    void syncShouldInsertNewProducts() {
+        // Arrange
+        when(productRepository.findSyncStates()).thenReturn(List.of());
+        when(fakeStoreClient.streamAllProducts()).thenReturn(Flux.just(laptop));
+        when(productRepository.findAllById(List.of("1"))).thenReturn(List.of());
+
+        // Act
+        SyncResult result = synchronizer.sync();
+
+        // Assert
+        assertEquals(new SyncResult(1, 0, 0), result);
+        verify(productRepository).saveAll(argThat(iterable ->
+                StreamSupport.stream(iterable.spliterator(), false)
+                        .anyMatch(p -> p.getId().equals("1") && p.getSyncHash().equals(ProductSynchronizer.hash(laptop)))
+        ));
+    }
+
+    @Test
+    void syncShouldSkipUnchangedProducts() {
+        // Arrange
+        when(productRepository.findSyncStates()).thenReturn(List.of(state("1", ProductSynchronizer.hash(laptop))));
+        when(fakeStoreClient.streamAllProducts()).thenReturn(Flux.just(laptop));
+
+        // Act
+        SyncResult result = synchronizer.sync();
+
+        // Assert
+        assertEquals(SyncResult.EMPTY, result);
+        verify(productRepository, never()).saveAll(anyList());
+        verify(productRepository, never()).deleteAllById(anyCollection());
+    }
+
+    @Test
+    void syncShouldUpdateChangedProductsAndDeleteRemovedOnes() {
+        // Arrange
+        Product stored = new Product();
+        stored.setId("1");
+        stored.setTitle("Old laptop");
+        ProductResponseDTO changedLaptop = new ProductResponseDTO("1", "Laptop", 1400.0, "Gaming laptop", "Electronics", null);
+        when(productRepository.findSyncStates()).thenReturn(List.of(
+                state("1", ProductSynchronizer.hash(laptop)),
+                state("2", ProductSynchronizer.hash(chair))
+        ));
+        when(fakeStoreClient.streamAllProducts()).thenReturn(Flux.just(changedLaptop));
+        when(productRepository.findAllById(List.of("1"))).thenReturn(List.of(stored));
+
+        // Act
+        SyncResult result = synchronizer.sync();
+
+        // Assert
+        assertEquals(new SyncResult(0, 1, 1), result);
+        assertEquals(1400.0, stored.getPrice());
+        assertEquals(ProductSynchronizer.hash(changedLaptop), stored.getSyncHash());
+        verify(productRepository).deleteAllById(List.of("2"));
+    }
+
+    @Test
+    void syncShouldNotDeleteWhenUpstreamIsEmpty() {
+        // Arrange
+        when(productRepository.findSyncStates()).thenReturn(List.of(state("1", ProductSynchronizer.hash(laptop))));
+        when(fakeStoreClient.streamAllProducts()).thenReturn(Flux.empty());
+
+        // Act
+        SyncResult result = synchronizer.sync();
+
+        // Assert
+        assertEquals(SyncResult.EMPTY, result);
+        verify(productRepository, never()).deleteAllById(anyCollection());
+    }
+}
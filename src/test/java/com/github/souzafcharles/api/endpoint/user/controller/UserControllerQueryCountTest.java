@@ -0,0 +1,151 @@
+package com.github.souzafcharles.api.endpoint.user.controller;
+
+import com.github.souzafcharles.api.persistence.MaxStatements;
+import com.github.souzafcharles.api.persistence.QueryCountTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@QueryCountTest
+class UserControllerQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @MaxStatements(2)
+    void getAllShouldReadPageOfUsers() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/users").param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.userResponseDTOList", hasSize(50)));
+    }
+
+    @Test
+    @MaxStatements(2)
+    void getAllWithFieldsShouldReadPageOfUsers() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/users").param("size", "50").param("fields", "username,email"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.userResponseDTOList", hasSize(50)));
+    }
+
+    @Test
+    @MaxStatements(0)
+    void getAllShouldRejectSortByPasswordWithoutQuerying() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/users").param("sort", "password"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @MaxStatements(0)
+    void getAllWithFieldsShouldRejectSortByPasswordWithoutQuerying() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/users").param("fields", "username").param("sort", "password"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @MaxStatements(1)
+    void getByIdsShouldReadAllRequestedUsersInOneQuery() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/users").param("ids", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(10)));
+    }
+
+    @Test
+    @MaxStatements(2)
+    void getByIdShouldReadUser() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/users/5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("user5"));
+    }
+
+    @Test
+    @MaxStatements(2)
+    void getByIdWithFieldsShouldReadUser() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/users/5").param("fields", "email"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("user5@example.com"));
+    }
+
+    @Test
+    @MaxStatements(1)
+    void searchByUsernameShouldReadMatchesInOneQuery() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/users/search").param("keyword", "user1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(11)));
+    }
+
+    @Test
+    @MaxStatements(2)
+    void searchByUsernameShouldMatchWildcardsLiterally() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/users/search").param("keyword", "user_"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/users/search").param("keyword", "%"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @MaxStatements(1)
+    void getByUsernameShouldReadUser() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/users/by-username").param("username", "user8"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(1)
+    void getByEmailShouldReadUser() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/users/by-email").param("email", "user8@example.com"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(1)
+    void countUsersShouldCountInOneQuery() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/users/count"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(2)
+    void createShouldInsertUser() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/users").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\": \"newuser\", \"email\": \"newuser@example.com\", \"password\": \"secret1\"}"))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @MaxStatements(3)
+    void updateShouldUpdateUser() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/users/9").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\": \"renamed9\", \"email\": \"renamed9@example.com\", \"password\": \"secret9\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(3)
+    void deleteShouldDeleteUserWithoutCarts() throws Exception {
+        // Act & Assert
+        mockMvc.perform(delete("/users/48"))
+                .andExpect(status().isNoContent());
+    }
+}
@@ -49,7 +49,7 @@ class UserControllerTest {
 
         // Act
         ResponseEntity<PagedModel<EntityModel<UserResponseDTO>>> response =
-                userController.getAll(Pageable.unpaged(), assembler);
+                userController.getAll(Pageable.unpaged(), assembler, null);
 
         // Assert
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
@@ -72,7 +72,7 @@ class UserControllerTest {
 
         // Act
         ResponseEntity<PagedModel<EntityModel<UserResponseDTO>>> response =
-                userController.getAll(Pageable.unpaged(), assembler);
+                userController.getAll(Pageable.unpaged(), assembler, null);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -87,13 +87,46 @@ class UserControllerTest {
         when(userService.getUserById("u1")).thenReturn(userDTO);
 
         // Act
-        ResponseEntity<UserResponseDTO> response = userController.getById("u1");
+        ResponseEntity<UserResponseDTO> response = userController.getById("u1", null);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals("Alice", response.getBody().username());
     }
 
+    @Test
+    void getByIdShouldReturnNotModifiedWhenETagMatches() {
+        // Arrange
+        when(userService.getUserVersion("u1")).thenReturn(0L);
+
+        // Act
+        ResponseEntity<UserResponseDTO> response = userController.getById("u1", "\"other\", W/\"u1-0\"");
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"u1-0\"", response.getHeaders().getETag());
+        verify(userService, never()).getUserById(anyString());
+    }
+
+    @Test
+    void getAllShouldReturnWeakETag() {
+        // Arrange
+        Page<UserResponseDTO> page = new PageImpl<>(List.of(userDTO));
+        when(userService.getUsersTableVersion()).thenReturn("abc-2");
+        when(userService.getAllUsers(any(Pageable.class))).thenReturn(page);
+        when(assembler.<EntityModel<UserResponseDTO>>toModel(eq(page),
+                ArgumentMatchers.<org.springframework.hateoas.server.RepresentationModelAssembler<UserResponseDTO, EntityModel<UserResponseDTO>>>any()))
+                .thenReturn(PagedModel.of(List.of(EntityModel.of(userDTO)), new PagedModel.PageMetadata(1, 0, 1)));
+
+        // Act
+        ResponseEntity<PagedModel<EntityModel<UserResponseDTO>>> response =
+                userController.getAll(Pageable.unpaged(), assembler, "W/\"users-abc-1\"");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("W/\"users-abc-2\"", response.getHeaders().getETag());
+    }
+
     @Test
     void createShouldReturnCreatedUser() {
         // Arrange
@@ -200,7 +233,7 @@ class UserControllerTest {
 
         // Act
         ResponseEntity<PagedModel<EntityModel<UserResponseDTO>>> response =
-                userController.getAll(Pageable.unpaged(), assembler);
+                userController.getAll(Pageable.unpaged(), assembler, null);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
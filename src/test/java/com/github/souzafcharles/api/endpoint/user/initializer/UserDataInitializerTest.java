@@ -6,7 +6,7 @@ import com.github.souzafcharles.api.endpoint.user.model.entity.User;
 import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import reactor.core.publisher.Mono;
+import reactor.core.publisher.Flux;
 
 import java.util.stream.StreamSupport;
 
@@ -36,7 +36,7 @@ class UserDataInitializerTest {
         initializer.init();
 
         // Assert
-        verify(fakeStoreClient, never()).getAllUsers();
+        verify(fakeStoreClient, never()).streamAllUsers();
         verify(userRepository, never()).saveAll(anyList());
     }
 
@@ -44,13 +44,13 @@ class UserDataInitializerTest {
     void initShouldNotSaveWhenFakeStoreReturnsNull() {
         // Arrange
         when(userRepository.count()).thenReturn(0L);
-        when(fakeStoreClient.getAllUsers()).thenReturn(Mono.justOrEmpty(null));
+        when(fakeStoreClient.streamAllUsers()).thenReturn(Flux.empty());
 
         // Act
         initializer.init();
 
         // Assert
-        verify(fakeStoreClient, times(1)).getAllUsers();
+        verify(fakeStoreClient, times(1)).streamAllUsers();
         verify(userRepository, never()).saveAll(anyList());
     }
 
@@ -58,13 +58,13 @@ class UserDataInitializerTest {
     void initShouldNotSaveWhenFakeStoreReturnsEmptyArray() {
         // Arrange
         when(userRepository.count()).thenReturn(0L);
-        when(fakeStoreClient.getAllUsers()).thenReturn(Mono.just(new UserResponseDTO[0]));
+        when(fakeStoreClient.streamAllUsers()).thenReturn(Flux.fromArray(new UserResponseDTO[0]));
 
         // Act
         initializer.init();
 
         // Assert
-        verify(fakeStoreClient, times(1)).getAllUsers();
+        verify(fakeStoreClient, times(1)).streamAllUsers();
         verify(userRepository, never()).saveAll(anyList());
     }
 
@@ -74,13 +74,13 @@ class UserDataInitializerTest {
         when(userRepository.count()).thenReturn(0L);
         UserResponseDTO dto1 = new UserResponseDTO("u1", "Alice", "alice@example.com");
         UserResponseDTO dto2 = new UserResponseDTO("u2", "Bob", "bob@example.com");
-        when(fakeStoreClient.getAllUsers()).thenReturn(Mono.just(new UserResponseDTO[]{dto1, dto2}));
+        when(fakeStoreClient.streamAllUsers()).thenReturn(Flux.just(dto1, dto2));
 
         // Act
         initializer.init();
 
         // Assert
-        verify(fakeStoreClient, times(1)).getAllUsers();
+        verify(fakeStoreClient, times(1)).streamAllUsers();
         verify(userRepository, times(1)).saveAll(argThat(iterable ->
                 StreamSupport.stream(iterable.spliterator(), false)
                         .anyMatch(u -> u.getId().equals("u1") && u.getUsername().equals("Alice"))
@@ -1,23 +1,28 @@
 package com.github.souzafcharles.api.endpoint.user.service;
 
 import com.github.souzafcharles.api.endpoint.user.model.dto.UserRequestDTO;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
 import com.github.souzafcharles.api.endpoint.user.model.entity.User;
 import com.github.souzafcharles.api.endpoint.user.repository.UserRepository;
 import com.github.souzafcharles.api.exceptions.custom.DatabaseException;
 import com.github.souzafcharles.api.exceptions.custom.DuplicateEmailException;
 import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
+import com.github.souzafcharles.api.web.MultiGetEntry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 class UserServiceTest {
@@ -51,21 +56,24 @@ class UserServiceTest {
     @Test
     void getAllUsersShouldReturnPagedResult() {
         // Arrange
-        when(userRepository.findAll()).thenReturn(List.of(user, anotherUser));
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(userRepository.findDtoPage(PageRequest.of(0, 10, Sort.by("id")))).thenReturn(new PageImpl<>(
+                List.of(new UserResponseDTO(user), new UserResponseDTO(anotherUser)), pageable, 2));
 
         // Act
-        var page = userService.getAllUsers(PageRequest.of(0, 10));
+        var page = userService.getAllUsers(pageable);
 
         // Assert
         assertEquals(2, page.getTotalElements());
         assertEquals("Alice", page.getContent().get(0).username());
         assertEquals("Bob", page.getContent().get(1).username());
+        verify(userRepository, never()).findAll();
     }
 
     @Test
     void getUserByIdShouldReturnUser() {
         // Arrange
-        when(userRepository.findById("u1")).thenReturn(Optional.of(user));
+        when(userRepository.findDtoById("u1")).thenReturn(Optional.of(new UserResponseDTO(user)));
 
         // Act
         var response = userService.getUserById("u1");
@@ -78,12 +86,21 @@ class UserServiceTest {
     @Test
     void getUserByIdShouldThrowException() {
         // Arrange
-        when(userRepository.findById("u99")).thenReturn(Optional.empty());
+        when(userRepository.findDtoById("u99")).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> userService.getUserById("u99"));
     }
 
+    @Test
+    void getUserVersionShouldThrowException() {
+        // Arrange
+        when(userRepository.findVersionById("u99")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> userService.getUserVersion("u99"));
+    }
+
     @Test
     void createUserShouldSaveUser() {
         // Arrange
@@ -207,7 +224,7 @@ class UserServiceTest {
     @Test
     void getUserByUsernameShouldReturnUser() {
         // Arrange
-        when(userRepository.findByUsername("Alice")).thenReturn(Optional.of(user));
+        when(userRepository.findDtoByUsername("Alice")).thenReturn(Optional.of(new UserResponseDTO(user)));
 
         // Act
         var response = userService.getUserByUsername("Alice");
@@ -219,7 +236,7 @@ class UserServiceTest {
     @Test
     void getUserByUsernameShouldThrowResourceNotFoundException() {
         // Arrange
-        when(userRepository.findByUsername("Unknown")).thenReturn(Optional.empty());
+        when(userRepository.findDtoByUsername("Unknown")).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> userService.getUserByUsername("Unknown"));
@@ -228,7 +245,7 @@ class UserServiceTest {
     @Test
     void getUserByEmailShouldReturnUser() {
         // Arrange
-        when(userRepository.findByEmail("alice@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.findDtoByEmail("alice@example.com")).thenReturn(Optional.of(new UserResponseDTO(user)));
 
         // Act
         var response = userService.getUserByEmail("alice@example.com");
@@ -240,7 +257,7 @@ class UserServiceTest {
     @Test
     void getUserByEmailShouldThrowResourceNotFoundException() {
         // Arrange
-        when(userRepository.findByEmail("unknown@example.com")).thenReturn(Optional.empty());
+        when(userRepository.findDtoByEmail("unknown@example.com")).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> userService.getUserByEmail("unknown@example.com"));
@@ -249,7 +266,7 @@ class UserServiceTest {
     @Test
     void searchUsersByUsernameShouldReturnMatchingUsers() {
         // Arrange
-        when(userRepository.findByUsernameContainingIgnoreCase("Ali")).thenReturn(List.of(user));
+        when(userRepository.searchDtosByUsername("Ali")).thenReturn(List.of(new UserResponseDTO(user)));
 
         // Act
         var results = userService.searchUsersByUsername("Ali");
@@ -270,4 +287,20 @@ class UserServiceTest {
         // Assert
         assertEquals(5L, count);
     }
+
+    @Test
+    void getUsersByIdsShouldKeepRequestOrderAndMarkMissingIds() {
+        // Arrange
+        when(userRepository.findDtosByIdIn(any())).thenReturn(List.of(new UserResponseDTO(user)));
+
+        // Act
+        List<MultiGetEntry<UserResponseDTO>> result = userService.getUsersByIds(List.of("missing", "u1"));
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals("missing", result.get(0).id());
+        assertFalse(result.get(0).found());
+        assertTrue(result.get(1).found());
+        assertEquals("Alice", result.get(1).item().username());
+    }
 }
@@ -2,7 +2,9 @@ package com.github.souzafcharles.api.exceptions.handler;
 
 import com.github.souzafcharles.api.exceptions.custom.DatabaseException;
 import com.github.souzafcharles.api.exceptions.custom.DuplicateEmailException;
+import com.github.souzafcharles.api.exceptions.custom.InvalidRequestException;
 import com.github.souzafcharles.api.exceptions.custom.ResourceNotFoundException;
+import com.github.souzafcharles.api.exceptions.custom.TooManyRequestsException;
 import com.github.souzafcharles.api.exceptions.model.StandardError;
 import com.github.souzafcharles.api.utils.Messages;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,9 +12,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -99,4 +104,38 @@ class ResourceExceptionHandlerTest {
         assertTrue(response.getBody().getMessage().contains("Unexpected error"));
         assertEquals("/any-endpoint", response.getBody().getPath());
     }
-}
\ No newline at end of file
+
+    @Test
+    void handleInvalidRequestShouldReturnStandardErrorWithBadRequest() {
+        // Arrange
+        when(request.getRequestURI()).thenReturn("/products");
+        InvalidRequestException exception = new InvalidRequestException("too many ids");
+
+        // Act
+        ResponseEntity<StandardError> response = handler.handleInvalidRequest(exception, request);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(Messages.ERROR_INVALID_REQUEST, response.getBody().getError());
+        assertEquals("too many ids", response.getBody().getMessage());
+    }
+
+    @Test
+    void handleTooManyRequestsShouldReturnRetryAfterInWholeSeconds() {
+        // Arrange
+        when(request.getRequestURI()).thenReturn("/carts/total-value");
+        TooManyRequestsException exception = new TooManyRequestsException("/carts/total-value", Duration.ofMillis(1200));
+
+        // Act
+        ResponseEntity<StandardError> response = handler.handleTooManyRequests(exception, request);
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("2", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNotNull(response.getBody());
+        assertEquals(429, response.getBody().getStatus());
+        assertEquals(Messages.ERROR_TOO_MANY_REQUESTS, response.getBody().getError());
+        assertTrue(response.getBody().getMessage().contains("/carts/total-value"));
+    }
+}
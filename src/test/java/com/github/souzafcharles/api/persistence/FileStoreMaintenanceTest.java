@@ -0,0 +1,139 @@
+package com.github.souzafcharles.api.persistence;
+
+import com.github.souzafcharles.api.config.FileStoreProperties;
+import com.github.souzafcharles.api.exceptions.custom.ServiceOverloadedException;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.util.unit.DataSize;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileStoreMaintenanceTest {
+
+    @TempDir
+    Path directory;
+
+    private JdbcDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:file:" + directory.resolve("fakestore") + ";DB_CLOSE_DELAY=-1");
+        execute("CREATE TABLE tb_item (id INT PRIMARY KEY, payload VARCHAR(255))");
+        execute("INSERT INTO tb_item SELECT X, REPEAT('x', 200) FROM SYSTEM_RANGE(1, 1000)");
+    }
+
+    @Test
+    void backupShouldWriteArchiveOfDatabaseFile() throws Exception {
+        // Arrange
+        FileStoreMaintenance maintenance = new FileStoreMaintenance(dataSource, properties(7));
+
+        // Act
+        FileStoreBackup backup = maintenance.backup();
+
+        // Assert
+        Path archive = Path.of(backup.file());
+        assertTrue(backup.bytes() > 0);
+        assertEquals(backup.bytes(), Files.size(archive));
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            assertEquals(List.of("fakestore.mv.db"), zip.stream().map(ZipEntry::getName).toList());
+        }
+        execute("SHUTDOWN");
+    }
+
+    @Test
+    void backupShouldKeepOnlyRetainedArchives() throws Exception {
+        // Arrange
+        FileStoreMaintenance maintenance = new FileStoreMaintenance(dataSource, properties(2));
+
+        // Act
+        maintenance.backup();
+        Thread.sleep(5);
+        FileStoreBackup second = maintenance.backup();
+        Thread.sleep(5);
+        FileStoreBackup third = maintenance.backup();
+
+        // Assert
+        try (Stream<Path> files = Files.list(directory.resolve("backup"))) {
+            assertEquals(List.of(Path.of(second.file()), Path.of(third.file())), files.sorted().toList());
+        }
+        execute("SHUTDOWN");
+    }
+
+    @Test
+    void backupShouldFailFastWhileAnotherBackupRuns() throws Exception {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        DataSource slow = new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.getConnection();
+            }
+        };
+        FileStoreMaintenance maintenance = new FileStoreMaintenance(slow, properties(7));
+        CompletableFuture<FileStoreBackup> first = CompletableFuture.supplyAsync(maintenance::backup);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Act & Assert
+        assertThrows(ServiceOverloadedException.class, maintenance::backup);
+        release.countDown();
+        assertTrue(first.get(5, TimeUnit.SECONDS).bytes() > 0);
+        execute("SHUTDOWN");
+    }
+
+    @Test
+    void compactShouldKeepRows() throws SQLException {
+        // Arrange
+        FileStoreMaintenance maintenance = new FileStoreMaintenance(dataSource, properties(7));
+        execute("DELETE FROM tb_item WHERE MOD(id, 2) = 0");
+        execute("CHECKPOINT");
+
+        // Act
+        maintenance.compact();
+
+        // Assert
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COUNT(*) FROM tb_item")) {
+            result.next();
+            assertEquals(500, result.getInt(1));
+            statement.execute("SHUTDOWN");
+        }
+    }
+
+    private FileStoreProperties properties(int retainedBackups) {
+        return new FileStoreProperties(directory.resolve("backup"), retainedBackups, 90, DataSize.ofMegabytes(16));
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.souzafcharles.api.persistence;
+
+import com.github.souzafcharles.api.config.StatementMetricsProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbc.JdbcConnection;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstrumentedDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private StatementMetrics metrics;
+    private InstrumentedDataSource dataSource;
+    private Connection keepAlive;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:instrumented");
+        keepAlive = h2.getConnection();
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("CREATE TABLE tb_item (id INT PRIMARY KEY, name VARCHAR(64))");
+        }
+        metrics = new StatementMetrics(
+                new StatementMetricsProperties(true, Duration.ofSeconds(1), 3, 100), meterRegistry);
+        dataSource = new InstrumentedDataSource(h2, metrics);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        metrics.close();
+        keepAlive.close();
+    }
+
+    @Test
+    void preparedStatementsShouldBeTimedWithRowsAffectedAndRead() throws SQLException {
+        // Arrange
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO tb_item (id, name) VALUES (?, ?)")) {
+                for (int i = 1; i <= 3; i++) {
+                    insert.setInt(1, i);
+                    insert.setString(2, "item " + i);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+
+            // Act
+            try (PreparedStatement select = connection.prepareStatement("SELECT id FROM tb_item WHERE id >= ?")) {
+                select.setInt(1, 2);
+                try (ResultSet result = select.executeQuery()) {
+                    while (result.next()) {
+                        assertTrue(result.getInt(1) >= 2);
+                    }
+                }
+            }
+        }
+
+        // Assert
+        assertEquals(1, meterRegistry.get("fakestore.db.statement").tags("operation", "insert", "table", "tb_item").timer().count());
+        assertEquals(1, meterRegistry.get("fakestore.db.statement").tags("operation", "select", "table", "tb_item", "workload", "oltp").timer().count());
+        DistributionSummary inserted = meterRegistry.get("fakestore.db.statement.rows").tags("operation", "insert").summary();
+        DistributionSummary read = meterRegistry.get("fakestore.db.statement.rows").tags("operation", "select").summary();
+        assertEquals(3.0, inserted.totalAmount());
+        assertEquals(2.0, read.totalAmount());
+    }
+
+    @Test
+    void closingStatementShouldRecordRowsOfUnclosedResultSet() throws SQLException {
+        // Arrange
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO tb_item (id, name) VALUES (1, 'a'), (2, 'b')");
+
+            // Act
+            ResultSet result = statement.executeQuery("SELECT name FROM tb_item");
+            result.next();
+        }
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("fakestore.db.statement.rows").tags("operation", "select").summary().totalAmount());
+    }
+
+    @Test
+    void unwrapShouldReachDriverConnection() throws SQLException {
+        // Act & Assert
+        try (Connection connection = dataSource.getConnection()) {
+            assertNotNull(connection.unwrap(JdbcConnection.class));
+            assertEquals(connection, connection);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.souzafcharles.api.persistence;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Upper bound on the SQL statements a test may execute on its own thread, checked by
+ * {@link QueryCountExtension}. A bound on a test method overrides one on its class.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface MaxStatements {
+
+    int value();
+}
@@ -0,0 +1,27 @@
+package com.github.souzafcharles.api.persistence;
+
+import com.github.souzafcharles.api.client.FakeStoreClient;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import reactor.core.publisher.Flux;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Leaves the initializers nothing to load, so a test context starts with empty tables.
+ */
+@TestConfiguration
+class OfflineStoreConfig {
+
+    @Bean
+    @Primary
+    FakeStoreClient offlineFakeStoreClient() {
+        FakeStoreClient client = mock(FakeStoreClient.class);
+        when(client.streamAllProducts()).thenReturn(Flux.empty());
+        when(client.streamAllUsers()).thenReturn(Flux.empty());
+        when(client.streamAllCarts()).thenReturn(Flux.empty());
+        return client;
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.souzafcharles.api.persistence;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Counts the statements each test executes through the application's {@link StatementMetrics}
+ * and fails the test when it runs more than its {@link MaxStatements} bound. The count is an
+ * outer tally around the test, so every request the test performs through MockMvc, which runs
+ * on the test thread, adds to it. Statements run on other threads, such as streamed exports,
+ * are not counted.
+ * <p>
+ * Requires a Spring test context with SQL metrics enabled. An N+1 shows up as a count that
+ * grows with the fixture, so bounds are set against fixtures of realistic size.
+ */
+public class QueryCountExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        metrics(context).beginRequest();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        Map<String, Integer> executions = metrics(context).endRequest(null);
+        Optional<MaxStatements> bound = AnnotationSupport.findAnnotation(context.getElement(), MaxStatements.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), MaxStatements.class));
+        if (bound.isEmpty() || context.getExecutionException().isPresent()) {
+            return;
+        }
+        int statements = executions.values().stream().mapToInt(Integer::intValue).sum();
+        if (statements > bound.get().value()) {
+            fail(String.format("%s executed %d statements, more than %d:%n%s",
+                    context.getDisplayName(), statements, bound.get().value(), describe(executions)));
+        }
+    }
+
+    private static StatementMetrics metrics(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(StatementMetrics.class);
+    }
+
+    private static String describe(Map<String, Integer> executions) {
+        return executions.entrySet().stream()
+                .map(entry -> String.format("  %dx %s", entry.getValue(), entry.getKey()))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+}
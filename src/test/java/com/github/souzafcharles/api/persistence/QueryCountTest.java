@@ -0,0 +1,33 @@
+package com.github.souzafcharles.api.persistence;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a test class against the whole application with MockMvc and {@link QueryCountExtension},
+ * on the store loaded by {@code fixtures/store.sql} instead of the Fake Store API. The store is
+ * loaded before the class and cleared after it; every class shares one application context.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@SpringBootTest(properties = {"fakestore.sync.enabled=false", "fakestore.rate-limit.enabled=false"})
+@AutoConfigureMockMvc
+@Import(OfflineStoreConfig.class)
+@ExtendWith(QueryCountExtension.class)
+@SqlGroup({
+        @Sql(scripts = "/fixtures/store.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS),
+        @Sql(scripts = "/fixtures/clear.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_CLASS)
+})
+public @interface QueryCountTest {
+}
@@ -0,0 +1,98 @@
+package com.github.souzafcharles.api.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryPlanCheckTest {
+
+    @Test
+    void tableScansShouldReportTableScan() {
+        // Arrange
+        String plan = """
+                SELECT "U1_0"."ID", "U1_0"."SYNC_HASH" FROM "PUBLIC"."TB_USER" "U1_0"
+                    /* PUBLIC.TB_USER.tableScan */ WHERE "U1_0"."SYNC_HASH" IS NOT NULL""";
+
+        // Act & Assert
+        assertEquals(Set.of("TB_USER"), QueryPlanCheck.tableScans(plan));
+    }
+
+    @Test
+    void tableScansShouldReportIndexWalkedWithoutCondition() {
+        // Arrange
+        String plan = """
+                SELECT "P1_0"."ID" FROM "PUBLIC"."TB_PRODUCT" "P1_0"
+                    /* PUBLIC.PRIMARY_KEY_6A */ WHERE LOWER("P1_0"."TITLE") LIKE LOWER('%' || ?1 || '%') ESCAPE ''
+                ORDER BY 1 /* index sorted */""";
+
+        // Act & Assert
+        assertEquals(Set.of("TB_PRODUCT"), QueryPlanCheck.tableScans(plan));
+    }
+
+    @Test
+    void tableScansShouldAcceptIndexLookupsAndJoins() {
+        // Arrange
+        String plan = """
+                SELECT "C1_0"."ID" FROM "PUBLIC"."TB_CART" "C1_0"
+                    /* PUBLIC.IDX_CART_USER: USER_ID = ?1 */
+                LEFT OUTER JOIN "PUBLIC"."TB_CART_PRODUCT" "CP1_0"
+                    /* PUBLIC.FK_CART_PRODUCT_CART_INDEX_9: CART_ID = C1_0.ID */
+                    ON "C1_0"."ID" = "CP1_0"."CART_ID"
+                LEFT OUTER JOIN "PUBLIC"."TB_PRODUCT" "P1_0"
+                    /* PUBLIC.PRIMARY_KEY_6A: ID = CP1_0.PRODUCT_ID */
+                    ON "P1_0"."ID" = "CP1_0"."PRODUCT_ID"
+                WHERE "C1_0"."USER_ID" = ?1 ORDER BY 1, 3""";
+
+        // Act & Assert
+        assertTrue(QueryPlanCheck.tableScans(plan).isEmpty());
+    }
+
+    @Test
+    void tableScansShouldAcceptLimitedIndexWalkAndDirectLookup() {
+        // Arrange
+        String topN = """
+                SELECT "P1_0"."ID" FROM "PUBLIC"."TB_PRODUCT" "P1_0"
+                    /* PUBLIC.IDX_PRODUCT_PRICE */
+                ORDER BY 3 DESC, 1 FETCH FIRST ?1 ROWS ONLY /* index sorted: 1 of 2 columns */""";
+        String count = """
+                SELECT COUNT(*) FROM "PUBLIC"."TB_USER" "U1_0"
+                    /* PUBLIC.PRIMARY_KEY_D */
+                /* direct lookup */""";
+
+        // Act & Assert
+        assertTrue(QueryPlanCheck.tableScans(topN).isEmpty());
+        assertTrue(QueryPlanCheck.tableScans(count).isEmpty());
+    }
+
+    @Test
+    void tableScansShouldReportTablesJoinedToLimitedIndexWalk() {
+        // Arrange
+        String plan = """
+                SELECT "P1_0"."ID", "U1_0"."ID" FROM "PUBLIC"."TB_PRODUCT" "P1_0"
+                    /* PUBLIC.IDX_PRODUCT_PRICE */
+                INNER JOIN "PUBLIC"."TB_USER" "U1_0"
+                    /* PUBLIC.PRIMARY_KEY_D */
+                    ON "U1_0"."USERNAME" = "P1_0"."TITLE"
+                ORDER BY "P1_0"."PRICE" DESC FETCH FIRST ?1 ROWS ONLY /* index sorted */""";
+
+        // Act & Assert
+        assertEquals(Set.of("TB_USER"), QueryPlanCheck.tableScans(plan));
+    }
+
+    @Test
+    void tableScansShouldExcuseLimitedIndexWalkOnlyInItsOwnQuery() {
+        // Arrange
+        String plan = """
+                SELECT "C1_0"."ID" FROM "PUBLIC"."TB_CART" "C1_0"
+                    /* PUBLIC.PRIMARY_KEY_5 */
+                WHERE "C1_0"."ID" IN(
+                    SELECT "CP1_0"."CART_ID" FROM "PUBLIC"."TB_CART_PRODUCT" "CP1_0"
+                        /* PUBLIC.PRIMARY_KEY_4 */
+                    ORDER BY 1 FETCH FIRST 10 ROWS ONLY /* index sorted */)""";
+
+        // Act & Assert
+        assertEquals(Set.of("TB_CART"), QueryPlanCheck.tableScans(plan));
+    }
+}
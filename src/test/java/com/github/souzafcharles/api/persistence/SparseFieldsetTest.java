@@ -0,0 +1,93 @@
+package com.github.souzafcharles.api.persistence;
+
+import com.github.souzafcharles.api.endpoint.cart.model.entity.Cart;
+import com.github.souzafcharles.api.endpoint.product.model.entity.Product;
+import com.github.souzafcharles.api.exceptions.custom.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SparseFieldsetTest {
+
+    private final SparseFieldset products =
+            SparseFieldset.of(Product.class, "title", "price", "description", "category", "image");
+
+    @Test
+    void selectShouldAlwaysIncludeIdAndKeepDeclarationOrder() {
+        // Act
+        List<String> fields = products.select(" price, title,,price ");
+
+        // Assert
+        assertEquals(List.of("id", "title", "price"), fields);
+    }
+
+    @Test
+    void selectShouldRejectUnknownFields() {
+        // Act & Assert
+        InvalidRequestException e = assertThrows(InvalidRequestException.class, () -> products.select("title,password"));
+        assertTrue(e.getMessage().contains("'password'"));
+    }
+
+    @Test
+    void withShouldMapFieldsToAttributePaths() {
+        // Arrange
+        SparseFieldset carts = SparseFieldset.of(Cart.class).with("userId", "user.id").withDerived("products");
+
+        // Act
+        List<String> fields = carts.select("products,userId");
+
+        // Assert
+        assertEquals(List.of("id", "userId", "products"), fields);
+        assertEquals("user.id", carts.path("userId"));
+        assertNull(carts.path("products"));
+        assertEquals(Cart.class, carts.entityType());
+    }
+
+    @Test
+    void sortShouldMapFieldsToPathsAndBreakTiesById() {
+        // Arrange
+        SparseFieldset carts = SparseFieldset.of(Cart.class).with("userId", "user.id");
+
+        // Act
+        Sort sort = carts.sort(Sort.by(Sort.Direction.DESC, "userId"));
+
+        // Assert
+        assertEquals(Sort.by(Sort.Order.desc("user.id"), Sort.Order.asc("id")), sort);
+    }
+
+    @Test
+    void sortShouldDefaultToIdAndKeepAnExplicitIdOrder() {
+        // Act & Assert
+        assertEquals(Sort.by("id"), products.sort(Sort.unsorted()));
+        assertEquals(Sort.by(Sort.Order.asc("price"), Sort.Order.desc("id")),
+                products.sort(Sort.by(Sort.Order.asc("price"), Sort.Order.desc("id"))));
+    }
+
+    @Test
+    void sortShouldRejectUnknownAndDerivedFields() {
+        // Arrange
+        SparseFieldset carts = SparseFieldset.of(Cart.class).withDerived("products");
+
+        // Act & Assert
+        InvalidRequestException e = assertThrows(InvalidRequestException.class, () -> products.sort(Sort.by("password")));
+        assertTrue(e.getMessage().contains("'password'"));
+        assertThrows(InvalidRequestException.class, () -> carts.sort(Sort.by("products")));
+    }
+
+    @Test
+    void pageableShouldKeepThePageAndReplaceTheSort() {
+        // Act
+        Pageable paged = products.pageable(PageRequest.of(2, 5, Sort.by("title")));
+        Pageable unpaged = products.pageable(Pageable.unpaged());
+
+        // Assert
+        assertEquals(PageRequest.of(2, 5, Sort.by("title", "id")), paged);
+        assertTrue(unpaged.isUnpaged());
+        assertEquals(Sort.by("id"), unpaged.getSort());
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.souzafcharles.api.persistence;
+
+import com.github.souzafcharles.api.config.StatementMetricsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementMetricsTest {
+
+    private static final String LOAD_USER = "select u1_0.id,u1_0.email from tb_user u1_0 where u1_0.id=?";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StatementMetrics metrics = new StatementMetrics(
+            new StatementMetricsProperties(true, Duration.ofMillis(100), 3, 100), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        metrics.close();
+    }
+
+    @Test
+    void operationAndTableShouldBeReadFromSql() {
+        // Act & Assert
+        assertEquals("select", StatementMetrics.operation(LOAD_USER));
+        assertEquals("tb_user", StatementMetrics.table(LOAD_USER));
+        assertEquals("insert", StatementMetrics.operation("insert into tb_cart_product (cart_id,product_id) values (?,?)"));
+        assertEquals("tb_cart_product", StatementMetrics.table("insert into tb_cart_product (cart_id,product_id) values (?,?)"));
+        assertEquals("update", StatementMetrics.operation("UPDATE \"PUBLIC\".\"TB_PRODUCT\" SET price=?"));
+        assertEquals("tb_product", StatementMetrics.table("UPDATE \"PUBLIC\".\"TB_PRODUCT\" SET price=?"));
+        assertEquals("other", StatementMetrics.operation("CHECKPOINT"));
+        assertEquals("none", StatementMetrics.table("CHECKPOINT"));
+    }
+
+    @Test
+    void recordExecutionShouldCountSlowStatements() {
+        // Act
+        metrics.recordExecution(LOAD_USER, TimeUnit.MILLISECONDS.toNanos(5), -1);
+        metrics.recordExecution(LOAD_USER, TimeUnit.MILLISECONDS.toNanos(250), -1);
+
+        // Assert
+        assertEquals(2, meterRegistry.get("fakestore.db.statement").tag("table", "tb_user").timer().count());
+        assertEquals(1.0, meterRegistry.get("fakestore.db.statement.slow").tag("table", "tb_user").counter().count());
+    }
+
+    @Test
+    void endRequestShouldReportStatementRepeatedPastThreshold() {
+        // Arrange
+        metrics.beginRequest();
+        metrics.recordExecution("select c1_0.id from tb_cart c1_0", 1_000, -1);
+        for (int i = 0; i < 3; i++) {
+            metrics.recordExecution(LOAD_USER, 1_000, -1);
+        }
+
+        // Act
+        metrics.endRequest("/carts");
+
+        // Assert
+        assertEquals(4.0, meterRegistry.get("fakestore.db.request.statements").tag("route", "/carts").summary().totalAmount());
+        assertEquals(1.0, meterRegistry.get("fakestore.db.request.repeated").tag("route", "/carts").counter().count());
+    }
+
+    @Test
+    void endRequestShouldNotReportStatementsBelowThreshold() {
+        // Arrange
+        metrics.beginRequest();
+        metrics.recordExecution(LOAD_USER, 1_000, -1);
+        metrics.recordExecution(LOAD_USER, 1_000, -1);
+
+        // Act
+        metrics.endRequest("/users/{id}");
+
+        // Assert
+        assertEquals(2.0, meterRegistry.get("fakestore.db.request.statements").tag("route", "/users/{id}").summary().totalAmount());
+        assertNull(meterRegistry.find("fakestore.db.request.repeated").counter());
+    }
+
+    @Test
+    void nestedTallyShouldAlsoCountTowardsOuterTally() {
+        // Arrange
+        metrics.beginRequest();
+        metrics.beginRequest();
+        metrics.recordExecution(LOAD_USER, 1_000, -1);
+
+        // Act
+        Map<String, Integer> inner = metrics.endRequest("/users/{id}");
+        metrics.recordExecution(LOAD_USER, 1_000, -1);
+        Map<String, Integer> outer = metrics.endRequest(null);
+
+        // Assert
+        assertEquals(Map.of(LOAD_USER, 1), inner);
+        assertEquals(Map.of(LOAD_USER, 2), outer);
+        assertTrue(metrics.endRequest(null).isEmpty());
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.souzafcharles.api.persistence;
+
+import com.github.souzafcharles.api.persistence.WorkloadRoutingDataSource.Workload;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WorkloadRoutingDataSourceTest {
+
+    static class Reports {
+        private final DataSource dataSource;
+
+        Reports(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @AnalyticsQuery
+        public Connection scan() throws SQLException {
+            return dataSource.getConnection();
+        }
+
+        public Connection lookup() throws SQLException {
+            return dataSource.getConnection();
+        }
+    }
+
+    private final DataSource oltp = mock(DataSource.class);
+    private final DataSource analytics = mock(DataSource.class);
+    private final Connection oltpConnection = mock(Connection.class);
+    private final Connection analyticsConnection = mock(Connection.class);
+    private Reports reports;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        // Arrange
+        when(oltp.getConnection()).thenReturn(oltpConnection);
+        when(analytics.getConnection()).thenReturn(analyticsConnection);
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Reports(new WorkloadRoutingDataSource(oltp, analytics)));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new AnalyticsRoutingAspect());
+        reports = factory.getProxy();
+    }
+
+    @Test
+    void analyticsQueryShouldUseAnalyticsPool() throws SQLException {
+        // Act
+        Connection connection = reports.scan();
+
+        // Assert
+        assertSame(analyticsConnection, connection);
+        assertEquals(Workload.OLTP, WorkloadRoutingDataSource.current());
+    }
+
+    @Test
+    void otherCallsShouldUseOltpPool() throws SQLException {
+        // Act
+        Connection connection = reports.lookup();
+
+        // Assert
+        assertSame(oltpConnection, connection);
+        verifyNoInteractions(analytics);
+    }
+
+    @Test
+    void bindingShouldBeRestoredWhenQueryFails() throws SQLException {
+        // Arrange
+        when(analytics.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        // Act
+        assertThrows(SQLException.class, reports::scan);
+
+        // Assert
+        assertEquals(Workload.OLTP, WorkloadRoutingDataSource.current());
+        assertSame(oltpConnection, reports.lookup());
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.souzafcharles.api.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedIdsTest {
+
+    @Test
+    void nextUuidShouldBeVersion7WithRfcVariant() {
+        // Act
+        UUID id = TimeOrderedIds.nextUuid();
+
+        // Assert
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    void nextUuidShouldCarryCurrentTimestamp() {
+        // Arrange
+        long before = System.currentTimeMillis();
+
+        // Act
+        UUID id = TimeOrderedIds.nextUuid();
+
+        // Assert
+        // The counter may have carried a few milliseconds ahead after a burst of ids
+        long timestamp = id.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= System.currentTimeMillis() + 1_000);
+    }
+
+    @Test
+    void nextShouldBeStrictlyIncreasingAsStrings() {
+        // Act
+        List<String> ids = IntStream.range(0, 10_000)
+                .mapToObj(i -> TimeOrderedIds.next())
+                .toList();
+
+        // Assert
+        List<String> sorted = new ArrayList<>(ids);
+        sorted.sort(null);
+        assertEquals(ids, sorted);
+        assertEquals(ids.size(), ids.stream().distinct().count());
+        assertEquals(36, ids.getFirst().length());
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.souzafcharles.api.web;
+
+import com.github.souzafcharles.api.endpoint.cart.model.dto.CartResponseDTO;
+import com.github.souzafcharles.api.endpoint.cartproduct.model.dto.CartProductResponseDTO;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import com.github.souzafcharles.api.exceptions.model.StandardError;
+import com.github.souzafcharles.api.web.protobuf.CartList;
+import com.github.souzafcharles.api.web.protobuf.Product;
+import com.github.souzafcharles.api.web.protobuf.ProductList;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogProtobufHttpMessageConverterTest {
+
+    private static final Type PRODUCT_LIST = new ParameterizedTypeReference<List<ProductResponseDTO>>() { }.getType();
+    private static final Type CART_PAGE =
+            new ParameterizedTypeReference<PagedModel<EntityModel<CartResponseDTO>>>() { }.getType();
+
+    private final CatalogProtobufHttpMessageConverter converter = new CatalogProtobufHttpMessageConverter();
+
+    @Test
+    void canWriteShouldOnlyAcceptCatalogDtosListsAndPages() {
+        // Act & Assert
+        assertTrue(converter.canWrite(ProductResponseDTO.class, ProductResponseDTO.class, CatalogProtobufHttpMessageConverter.PROTOBUF));
+        assertTrue(converter.canWrite(PRODUCT_LIST, List.class, CatalogProtobufHttpMessageConverter.PROTOBUF));
+        assertTrue(converter.canWrite(CART_PAGE, PagedModel.class, null));
+        assertFalse(converter.canWrite(PRODUCT_LIST, List.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(StandardError.class, StandardError.class, CatalogProtobufHttpMessageConverter.PROTOBUF));
+        assertFalse(converter.canWrite(Map.class, Map.class, CatalogProtobufHttpMessageConverter.PROTOBUF));
+        assertFalse(converter.canRead(ProductResponseDTO.class, null, CatalogProtobufHttpMessageConverter.PROTOBUF));
+    }
+
+    @Test
+    void writeShouldEncodeProductAndLeaveNullFieldsUnset() throws Exception {
+        // Arrange
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(new ProductResponseDTO("1", "Laptop", 1500.0, null, "Electronics", null),
+                ProductResponseDTO.class, CatalogProtobufHttpMessageConverter.PROTOBUF, output);
+
+        // Assert
+        Product product = Product.parseFrom(output.getBodyAsBytes());
+        assertEquals("Laptop", product.getTitle());
+        assertEquals(1500.0, product.getPrice());
+        assertFalse(product.hasDescription());
+        assertFalse(product.hasImage());
+        assertEquals(CatalogProtobufHttpMessageConverter.PROTOBUF, output.getHeaders().getContentType());
+    }
+
+    @Test
+    void writeShouldEncodeListsUsingDeclaredElementType() throws Exception {
+        // Arrange
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        List<ProductResponseDTO> products = List.of(
+                new ProductResponseDTO("1", "Laptop", 1500.0, "Gaming laptop", "Electronics", null),
+                new ProductResponseDTO("2", "Chair", 200.0, "Office chair", "Furniture", null));
+
+        // Act
+        converter.write(products, PRODUCT_LIST, CatalogProtobufHttpMessageConverter.PROTOBUF, output);
+
+        // Assert
+        ProductList list = ProductList.parseFrom(output.getBodyAsBytes());
+        assertEquals(List.of("1", "2"), list.getProductsList().stream().map(Product::getId).toList());
+        assertFalse(list.hasPage());
+    }
+
+    @Test
+    void writeShouldEncodePagesWithMetadata() throws Exception {
+        // Arrange
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        CartResponseDTO cart = new CartResponseDTO("c1", "u1",
+                List.of(new CartProductResponseDTO("p1", "Laptop", 1500.0, 2)));
+        PagedModel<EntityModel<CartResponseDTO>> page = PagedModel.of(
+                List.of(EntityModel.of(cart)), new PagedModel.PageMetadata(1, 3, 7));
+
+        // Act
+        converter.write(page, CART_PAGE, CatalogProtobufHttpMessageConverter.PROTOBUF, output);
+
+        // Assert
+        CartList list = CartList.parseFrom(output.getBodyAsBytes());
+        assertEquals("u1", list.getCarts(0).getUserId());
+        assertEquals(2, list.getCarts(0).getProducts(0).getQuantity());
+        assertEquals(3, list.getPage().getNumber());
+        assertEquals(7, list.getPage().getTotalElements());
+        assertEquals(7, list.getPage().getTotalPages());
+    }
+}
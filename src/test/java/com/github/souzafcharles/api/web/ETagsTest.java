@@ -0,0 +1,39 @@
+package com.github.souzafcharles.api.web;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ETagsTest {
+
+    @Test
+    void variantShouldQualifyTheOpaqueTag() {
+        // Act & Assert
+        assertEquals("\"1-3-gzip\"", ETags.variant(ETags.strong("1", 3L), "gzip"));
+    }
+
+    @Test
+    void matchingShouldAcceptTheTagAndItsVariants() {
+        // Arrange
+        String eTag = ETags.strong("1", 3L);
+
+        // Act & Assert
+        assertEquals("\"1-3\"", ETags.matching("\"1-3\"", eTag));
+        assertEquals("\"1-3-gzip\"", ETags.matching("\"1-2\", \"1-3-gzip\"", eTag));
+        assertEquals("\"1-3-cbor\"", ETags.matching("W/\"1-3-cbor\"", eTag));
+        assertEquals("W/\"products-7\"", ETags.matching("\"products-7\"", ETags.weak("products", "7")));
+        assertEquals(eTag, ETags.matching("*", eTag));
+    }
+
+    @Test
+    void matchingShouldRejectOtherVersions() {
+        // Arrange
+        String eTag = ETags.strong("1", 3L);
+
+        // Act & Assert
+        assertNull(ETags.matching("\"1-34\"", eTag));
+        assertNull(ETags.matching("\"1-34-gzip\"", eTag));
+        assertNull(ETags.matching("\"1-3-4\"", eTag));
+        assertFalse(ETags.matches(null, eTag));
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.souzafcharles.api.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.endpoint.user.model.dto.UserResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonWriterTest {
+
+    private final NdjsonWriter ndjsonWriter = new NdjsonWriter(new ObjectMapper());
+
+    @Test
+    void streamShouldWriteOneJsonDocumentPerLine() throws Exception {
+        // Arrange
+        Consumer<Consumer<UserResponseDTO>> producer = sink -> {
+            sink.accept(new UserResponseDTO("1", "john", "john@example.com"));
+            sink.accept(new UserResponseDTO("2", "jane", "jane@example.com"));
+        };
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = ndjsonWriter.stream(producer);
+        response.getBody().writeTo(out);
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals("""
+                {"id":"1","username":"john","email":"john@example.com"}
+                {"id":"2","username":"jane","email":"jane@example.com"}
+                """, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void streamShouldWriteNothingForEmptyProducer() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        ndjsonWriter.<UserResponseDTO>stream(sink -> { }).getBody().writeTo(out);
+
+        // Assert
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    void spoolShouldWriteRowsOnlyAfterProducerReturnsThenItsResult() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Function<Consumer<UserResponseDTO>, Map<String, Integer>> producer = sink -> {
+            sink.accept(new UserResponseDTO("1", "john", "john@example.com"));
+            sink.accept(new UserResponseDTO("2", "jane", "jane@example.com"));
+            assertEquals(0, out.size());
+            return Map.of("received", 2);
+        };
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = ndjsonWriter.spool(producer);
+        response.getBody().writeTo(out);
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals("""
+                {"id":"1","username":"john","email":"john@example.com"}
+                {"id":"2","username":"jane","email":"jane@example.com"}
+                {"received":2}
+                """, out.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,126 @@
+package com.github.souzafcharles.api.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.endpoint.product.model.dto.ProductResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrecompressedBodyCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private PrecompressedBodyCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PrecompressedBodyCache(objectMapper, meterRegistry, 2, DataSize.ofBytes(200));
+        loads = new AtomicInteger();
+    }
+
+    private Supplier<PrecompressedBodyCache.Loaded> loader(String description) {
+        return loader(description, 1);
+    }
+
+    private Supplier<PrecompressedBodyCache.Loaded> loader(String description, long version) {
+        return () -> {
+            loads.incrementAndGet();
+            var product = new ProductResponseDTO("1", "Laptop", 1500.0, description, "Electronics", null);
+            return new PrecompressedBodyCache.Loaded(product, version);
+        };
+    }
+
+    @Test
+    void getShouldServeGzipFromCacheWhileVersionIsUnchanged() throws Exception {
+        // Arrange
+        String description = "Gaming laptop ".repeat(20);
+
+        // Act
+        PrecompressedBodyCache.Body first = cache.get("products/1", 1, true, loader(description));
+        PrecompressedBodyCache.Body second = cache.get("products/1", 1, true, loader(description));
+
+        // Assert
+        assertTrue(first.gzipped());
+        assertSame(first.bytes(), second.bytes());
+        assertEquals(1, loads.get());
+        byte[] json = new GZIPInputStream(new ByteArrayInputStream(second.bytes())).readAllBytes();
+        assertEquals(description, objectMapper.readTree(json).get("description").asText());
+        assertEquals(1.0, meterRegistry.get("fakestore.precompressed.lookups").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void getShouldReloadWhenVersionChangesOrEntryIsEvicted() {
+        // Act
+        cache.get("products/1", 1, true, loader("old", 1));
+        cache.get("products/1", 2, true, loader("new", 2));
+        cache.evict("products/1");
+        cache.get("products/1", 2, true, loader("new", 2));
+
+        // Assert
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void getShouldKeepTheVersionTheBodyWasLoadedAt() {
+        // Act
+        PrecompressedBodyCache.Body stale = cache.get("products/1", 2, true, loader("old", 1));
+        PrecompressedBodyCache.Body fresh = cache.get("products/1", 2, true, loader("new", 2));
+        PrecompressedBodyCache.Body cached = cache.get("products/1", 2, true, loader("new", 2));
+
+        // Assert
+        assertEquals(1, stale.version());
+        assertEquals(2, fresh.version());
+        assertSame(fresh.bytes(), cached.bytes());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void getShouldKeepSmallBodiesUncompressed() throws Exception {
+        // Act
+        PrecompressedBodyCache.Body body = cache.get("products/1", 1, true, loader("short"));
+
+        // Assert
+        assertFalse(body.gzipped());
+        assertEquals("short", objectMapper.readTree(body.bytes()).get("description").asText());
+    }
+
+    @Test
+    void getShouldServeIdentityBodyWhenGzipIsNotAccepted() {
+        // Act
+        PrecompressedBodyCache.Body body = cache.get("products/1", 1, false, loader("Gaming laptop ".repeat(20)));
+
+        // Assert
+        assertFalse(body.gzipped());
+    }
+
+    @Test
+    void acceptsGzipShouldHonourQualityValues() {
+        // Act & Assert
+        assertTrue(PrecompressedBodyCache.acceptsGzip("gzip, deflate, br"));
+        assertTrue(PrecompressedBodyCache.acceptsGzip("br;q=1.0, *;q=0.5"));
+        assertFalse(PrecompressedBodyCache.acceptsGzip("gzip;q=0"));
+        assertFalse(PrecompressedBodyCache.acceptsGzip("identity"));
+        assertFalse(PrecompressedBodyCache.acceptsGzip(null));
+    }
+
+    @Test
+    void prefersJsonShouldFollowTheHighestQualityMediaType() {
+        // Act & Assert
+        assertTrue(PrecompressedBodyCache.prefersJson(null));
+        assertTrue(PrecompressedBodyCache.prefersJson("*/*"));
+        assertTrue(PrecompressedBodyCache.prefersJson("application/json, application/cbor;q=0.5"));
+        assertFalse(PrecompressedBodyCache.prefersJson("application/cbor, application/json;q=0.5"));
+        assertFalse(PrecompressedBodyCache.prefersJson("application/x-protobuf"));
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.souzafcharles.api.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepresentationETagAdviceTest {
+
+    private final RepresentationETagAdvice advice = new RepresentationETagAdvice();
+
+    @Test
+    void beforeBodyWriteShouldQualifyStrongTagsByFormat() throws IOException {
+        // Act & Assert
+        assertEquals("\"1-3-cbor\"", written(MediaType.valueOf("application/cbor"), "\"1-3\""));
+        assertEquals("\"1-3-smile\"", written(MediaType.valueOf("application/x-jackson-smile"), "\"1-3\""));
+        assertEquals("\"1-3-protobuf\"", written(CatalogProtobufHttpMessageConverter.PROTOBUF, "\"1-3\""));
+    }
+
+    @Test
+    void beforeBodyWriteShouldKeepJsonAndWeakTags() throws IOException {
+        // Act & Assert
+        assertEquals("\"1-3\"", written(MediaType.APPLICATION_JSON, "\"1-3\""));
+        assertEquals("\"1-3\"", written(MediaType.valueOf("application/hal+json"), "\"1-3\""));
+        assertEquals("W/\"products-7\"", written(MediaType.valueOf("application/cbor"), "W/\"products-7\""));
+    }
+
+    @Test
+    void beforeBodyWriteShouldReplaceATagAlreadyOnTheServletResponse() throws IOException {
+        // Arrange
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        servletResponse.setHeader(HttpHeaders.ETAG, "\"1-3\"");
+        ServletServerHttpResponse response = new ServletServerHttpResponse(servletResponse);
+
+        // Act
+        advice.beforeBodyWrite(new Object(), null, MediaType.valueOf("application/cbor"), null, null, response);
+        response.flush();
+
+        // Assert
+        assertEquals(List.of("\"1-3-cbor\""), servletResponse.getHeaders(HttpHeaders.ETAG));
+    }
+
+    private String written(MediaType contentType, String eTag) throws IOException {
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        ServletServerHttpResponse response = new ServletServerHttpResponse(servletResponse);
+        response.getHeaders().setETag(eTag);
+        advice.beforeBodyWrite(new Object(), null, contentType, null, null, response);
+        response.flush();
+        return String.join(", ", servletResponse.getHeaders(HttpHeaders.ETAG));
+    }
+}
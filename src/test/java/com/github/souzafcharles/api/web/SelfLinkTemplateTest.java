@@ -0,0 +1,68 @@
+package com.github.souzafcharles.api.web;
+
+import com.github.souzafcharles.api.endpoint.product.controller.ProductController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SelfLinkTemplateTest {
+
+    private final SelfLinkTemplate template = SelfLinkTemplate.of(ProductController.class);
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private static void bindRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products");
+        request.setServerName("shop.example.com");
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @Test
+    void resolveShouldMatchWebMvcLinkBuilder() {
+        // Arrange
+        bindRequest();
+        Link expected = WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(ProductController.class)
+                .getById("42", null)).withSelfRel();
+
+        // Act
+        Link link = template.resolve().apply("42");
+
+        // Assert
+        assertEquals(expected.getHref(), link.getHref());
+        assertEquals(expected.getRel(), link.getRel());
+        assertEquals("http://shop.example.com:8080/products/42", link.getHref());
+        assertEquals(IanaLinkRelations.SELF, link.getRel());
+    }
+
+    @Test
+    void resolveShouldEncodeIdentifier() {
+        // Arrange
+        bindRequest();
+
+        // Act
+        Link link = template.resolve().apply("a b/c");
+
+        // Assert
+        assertEquals("http://shop.example.com:8080/products/a%20b%2Fc", link.getHref());
+    }
+
+    @Test
+    void resolveShouldFallBackToRelativeLinkOutsideRequest() {
+        // Act
+        Link link = template.resolve().apply("42");
+
+        // Assert
+        assertEquals("/products/42", link.getHref());
+    }
+}
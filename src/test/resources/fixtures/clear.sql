@@ -0,0 +1,4 @@
+DELETE FROM tb_cart_product;
+DELETE FROM tb_cart;
+DELETE FROM tb_product;
+DELETE FROM tb_user;
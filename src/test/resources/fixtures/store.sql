@@ -0,0 +1,21 @@
+-- A store of realistic size for query count tests: 50 users, 200 products in 4 categories and
+-- 100 carts of 4 lines each. Users 46-50 and products 181-200 are in no cart, so they can be
+-- deleted. Ids are the numbers as text, like the Fake Store API's.
+INSERT INTO tb_user (id, username, email, password, version)
+SELECT CAST(X AS VARCHAR), 'user' || X, 'user' || X || '@example.com', 'secret' || X, 0
+FROM SYSTEM_RANGE(1, 50);
+
+INSERT INTO tb_product (id, title, price, description, category, image, version)
+SELECT CAST(X AS VARCHAR), 'Product ' || X, 5.0 + MOD(X * 37, 500), 'Description of product ' || X,
+       CASEWHEN(MOD(X, 4) = 0, 'electronics', CASEWHEN(MOD(X, 4) = 1, 'jewelery',
+           CASEWHEN(MOD(X, 4) = 2, 'men''s clothing', 'women''s clothing'))),
+       'https://example.com/' || X || '.png', 0
+FROM SYSTEM_RANGE(1, 200);
+
+INSERT INTO tb_cart (id, user_id)
+SELECT CAST(X AS VARCHAR), CAST(MOD(X - 1, 45) + 1 AS VARCHAR)
+FROM SYSTEM_RANGE(1, 100);
+
+INSERT INTO tb_cart_product (cart_id, product_id, quantity)
+SELECT CAST(C.X AS VARCHAR), CAST(MOD(C.X * 7 + L.X * 13, 180) + 1 AS VARCHAR), L.X
+FROM SYSTEM_RANGE(1, 100) C, SYSTEM_RANGE(1, 4) L;